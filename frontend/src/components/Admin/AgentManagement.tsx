@@ -1,4 +1,6 @@
 import { useState, useEffect } from 'react';
+import type { CursorPage } from '../../utils/pagination';
+import { MAX_PAGE_SIZE } from '../../utils/pagination';
 
 interface Agent {
   id: string;
@@ -61,19 +63,32 @@ export default function AgentManagement() {
     try {
       // Note: Backend doesn't have a getAllAgents endpoint yet
       // This would need to be added to AdminControllerImpl
-      const response = await fetch('http://localhost:8080/api/v1/admin/agents', {
-        headers: {
-          'Authorization': `Bearer ${localStorage.getItem('token')}`,
-          'Content-Type': 'application/json',
+      const allAgents: Agent[] = [];
+      let cursor: string | null = null;
+      // Follow the cursor so that agents beyond the first page are listed too
+      do {
+        const params = new URLSearchParams({ size: String(MAX_PAGE_SIZE) });
+        if (cursor) {
+          params.set('cursor', cursor);
         }
-      });
+        const response = await fetch(`http://localhost:8080/api/v1/admin/agents?${params}`, {
+          headers: {
+            'Authorization': `Bearer ${localStorage.getItem('token')}`,
+            'Content-Type': 'application/json',
+          }
+        });
 
-      if (response.ok) {
+        if (!response.ok) {
+          console.error('Failed to fetch agents');
+          return;
+        }
         const result = await response.json();
-        setAgents(result.data || []);
-      } else {
-        console.error('Failed to fetch agents');
-      }
+        const page: CursorPage<Agent> | undefined = result.data;
+        allAgents.push(...(page?.items || []));
+        cursor = page?.hasNext ? page.nextCursor : null;
+      } while (cursor);
+
+      setAgents(allAgents);
     } catch (error) {
       console.error('Error fetching agents:', error);
     } finally {
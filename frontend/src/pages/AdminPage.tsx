@@ -1,6 +1,8 @@
 import { useState, useEffect } from 'react';
 import { useNavigate } from 'react-router-dom';
 import AgentManagement from '../components/Admin/AgentManagement';
+import type { CursorPage } from '../utils/pagination';
+import { MAX_PAGE_SIZE } from '../utils/pagination';
 
 interface User {
   id: string;
@@ -154,23 +156,38 @@ export default function AdminPage() {
   const fetchUsers = async () => {
     try {
       const token = localStorage.getItem('token');
-      const response = await fetch('http://localhost:8080/api/v1/admin/users', {
-        headers: {
-          'Authorization': `Bearer ${token}`,
-          'Content-Type': 'application/json',
+      const allUsers: User[] = [];
+      let cursor: string | null = null;
+      // Follow the cursor so that users beyond the first page are listed too
+      do {
+        const params = new URLSearchParams({ size: String(MAX_PAGE_SIZE) });
+        if (cursor) {
+          params.set('cursor', cursor);
         }
-      });
+        const response = await fetch(`http://localhost:8080/api/v1/admin/users?${params}`, {
+          headers: {
+            'Authorization': `Bearer ${token}`,
+            'Content-Type': 'application/json',
+          }
+        });
 
-      if (response.ok) {
+        if (response.status === 401) {
+          localStorage.removeItem('token');
+          localStorage.removeItem('userRole');
+          navigate('/login');
+          return;
+        }
+        if (!response.ok) {
+          console.error('Failed to fetch users');
+          return;
+        }
         const result = await response.json();
-        setUsers(result.data);
-      } else if (response.status === 401) {
-        localStorage.removeItem('token');
-        localStorage.removeItem('userRole');
-        navigate('/login');
-      } else {
-        console.error('Failed to fetch users');
-      }
+        const page: CursorPage<User> = result.data;
+        allUsers.push(...page.items);
+        cursor = page.hasNext ? page.nextCursor : null;
+      } while (cursor);
+
+      setUsers(allUsers);
     } catch (error) {
       console.error('Error fetching users:', error);
     }
@@ -1,4 +1,5 @@
 import axios from 'axios';
+import { fetchAllPages, MAX_PAGE_SIZE } from '../utils/pagination';
 
 const API_BASE_URL = 'http://localhost:8080/api/v1';
 
@@ -170,8 +171,10 @@ export const getAdminDashboard = async (): Promise<AdminDashboardDto> => {
 
 // User Management
 export const getAllUsers = async (): Promise<UserDto[]> => {
-  const response = await api.get('/admin/users');
-  return response.data.data;
+  return fetchAllPages<UserDto>(async (cursor) => {
+    const response = await api.get('/admin/users', { params: { size: MAX_PAGE_SIZE, cursor } });
+    return response.data.data;
+  });
 };
 
 export const getUserById = async (userId: string): Promise<UserDto> => {
@@ -195,8 +198,10 @@ export const deleteUser = async (userId: string): Promise<void> => {
 
 // Agent Management
 export const getAllAgents = async (): Promise<AgentDto[]> => {
-  const response = await api.get('/admin/agents');
-  return response.data.data;
+  return fetchAllPages<AgentDto>(async (cursor) => {
+    const response = await api.get('/admin/agents', { params: { size: MAX_PAGE_SIZE, cursor } });
+    return response.data.data;
+  });
 };
 
 export const getAgentById = async (agentId: string): Promise<AgentDto> => {
@@ -253,8 +258,10 @@ export const getClaimById = async (claimId: string): Promise<ClaimDto> => {
 
 // Offer Management
 export const getAllOffers = async (): Promise<OfferDto[]> => {
-  const response = await api.get('/offers');
-  return response.data.data;
+  return fetchAllPages<OfferDto>(async (cursor) => {
+    const response = await api.get('/offers', { params: { size: MAX_PAGE_SIZE, cursor } });
+    return response.data.data;
+  });
 };
 
 export const getOfferById = async (offerId: number): Promise<OfferDto> => {
@@ -1,5 +1,6 @@
 import axios from 'axios';
 import { getValidCustomerId } from '../utils/uuidUtils';
+import { fetchAllPages, MAX_PAGE_SIZE } from '../utils/pagination';
 
 // Create axios instance with proper configuration
 const axiosInstance = axios.create({
@@ -467,8 +468,12 @@ export const getAllAgents = async (): Promise<AgentDto[]> => {
     if (!customerId) {
       throw new Error('Valid Customer ID not found. Please ensure you are logged in and customer data is loaded.');
     }
-    const response = await axiosInstance.get(`/customer/${customerId}/agents`);
-    return response.data.data;
+    return await fetchAllPages<AgentDto>(async (cursor) => {
+      const response = await axiosInstance.get(`/customer/${customerId}/agents`, {
+        params: { size: MAX_PAGE_SIZE, cursor },
+      });
+      return response.data.data;
+    });
   } catch (error) {
     console.error('Error fetching agents:', error);
     throw error;
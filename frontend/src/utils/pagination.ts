@@ -0,0 +1,30 @@
+/**
+ * Keyset-paginated list helpers
+ */
+
+// Largest page the list endpoints accept
+export const MAX_PAGE_SIZE = 100;
+
+export interface CursorPage<T> {
+  items: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
+/**
+ * Loads every page of a keyset-paginated list by following nextCursor
+ * @param fetchPage - Loads the page after the given cursor (undefined for the first page)
+ * @returns the items of all pages, in order
+ */
+export const fetchAllPages = async <T>(
+  fetchPage: (cursor: string | undefined) => Promise<CursorPage<T>>
+): Promise<T[]> => {
+  const items: T[] = [];
+  let cursor: string | undefined;
+  do {
+    const page = await fetchPage(cursor);
+    items.push(...page.items);
+    cursor = page.hasNext && page.nextCursor ? page.nextCursor : undefined;
+  } while (cursor);
+  return items;
+};
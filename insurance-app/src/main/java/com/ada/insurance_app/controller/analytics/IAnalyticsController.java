@@ -0,0 +1,33 @@
+package com.ada.insurance_app.controller.analytics;
+
+import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.LossRatioDimension;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.TimeBucket;
+import com.ada.insurance_app.dto.LossRatioDto;
+import com.ada.insurance_app.dto.TimeSeriesPointDto;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+public interface IAnalyticsController {
+    ResponseEntity<GeneralResponse<List<TimeSeriesPointDto>>> getPremiumSeries(
+            LocalDate from, LocalDate to, TimeBucket bucket, InsuranceType insuranceType, UUID agentId);
+
+    ResponseEntity<GeneralResponse<List<TimeSeriesPointDto>>> getPaymentSeries(
+            LocalDate from, LocalDate to, TimeBucket bucket, PaymentStatus status,
+            InsuranceType insuranceType, UUID agentId);
+
+    ResponseEntity<GeneralResponse<List<TimeSeriesPointDto>>> getClaimSeries(
+            LocalDate from, LocalDate to, TimeBucket bucket, ClaimStatus status,
+            InsuranceType insuranceType, UUID agentId);
+
+    ResponseEntity<GeneralResponse<List<LossRatioDto>>> getLossRatios(
+            YearMonth from, YearMonth to, LossRatioDimension groupBy, Long coverageId,
+            InsuranceType insuranceType, String city);
+}
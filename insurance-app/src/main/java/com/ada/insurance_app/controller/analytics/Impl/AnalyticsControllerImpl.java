@@ -0,0 +1,87 @@
+package com.ada.insurance_app.controller.analytics.Impl;
+
+import com.ada.insurance_app.controller.analytics.IAnalyticsController;
+import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.LossRatioDimension;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.TimeBucket;
+import com.ada.insurance_app.dto.LossRatioDto;
+import com.ada.insurance_app.dto.TimeSeriesPointDto;
+import com.ada.insurance_app.service.analytics.IAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsControllerImpl implements IAnalyticsController {
+    private final IAnalyticsService analyticsService;
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/premium")
+    public ResponseEntity<GeneralResponse<List<TimeSeriesPointDto>>> getPremiumSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "WEEK") TimeBucket bucket,
+            @RequestParam(required = false) InsuranceType insuranceType,
+            @RequestParam(required = false) UUID agentId) {
+        List<TimeSeriesPointDto> series = analyticsService.getPremiumSeries(from, to, bucket, insuranceType, agentId);
+        return ResponseEntity.ok(GeneralResponse.success("Premium series", series));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/payments")
+    public ResponseEntity<GeneralResponse<List<TimeSeriesPointDto>>> getPaymentSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "WEEK") TimeBucket bucket,
+            @RequestParam(required = false) PaymentStatus status,
+            @RequestParam(required = false) InsuranceType insuranceType,
+            @RequestParam(required = false) UUID agentId) {
+        List<TimeSeriesPointDto> series = analyticsService.getPaymentSeries(from, to, bucket, status, insuranceType, agentId);
+        return ResponseEntity.ok(GeneralResponse.success("Payment series", series));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/claims")
+    public ResponseEntity<GeneralResponse<List<TimeSeriesPointDto>>> getClaimSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "WEEK") TimeBucket bucket,
+            @RequestParam(required = false) ClaimStatus status,
+            @RequestParam(required = false) InsuranceType insuranceType,
+            @RequestParam(required = false) UUID agentId) {
+        List<TimeSeriesPointDto> series = analyticsService.getClaimSeries(from, to, bucket, status, insuranceType, agentId);
+        return ResponseEntity.ok(GeneralResponse.success("Claim series", series));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/loss-ratio")
+    public ResponseEntity<GeneralResponse<List<LossRatioDto>>> getLossRatios(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to,
+            @RequestParam(defaultValue = "INSURANCE_TYPE") LossRatioDimension groupBy,
+            @RequestParam(required = false) Long coverageId,
+            @RequestParam(required = false) InsuranceType insuranceType,
+            @RequestParam(required = false) String city) {
+        List<LossRatioDto> ratios = analyticsService.getLossRatios(from, to, groupBy, coverageId, insuranceType, city);
+        return ResponseEntity.ok(GeneralResponse.success("Loss ratios", ratios));
+    }
+}
@@ -2,6 +2,7 @@ package com.ada.insurance_app.controller.auth.Impl;
 
 import com.ada.insurance_app.controller.auth.IAuthController;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.security.AuthRateLimiter;
 import com.ada.insurance_app.core.security.SecurityUtils;
 import com.ada.insurance_app.dto.UserDto;
 import com.ada.insurance_app.request.auth.LoginRequest;
@@ -27,11 +28,13 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController implements IAuthController {
 
     private final IAuthService authService;
+    private final AuthRateLimiter authRateLimiter;
 
 
     @Override
     @PostMapping("/login")
     public ResponseEntity<GeneralResponse<AuthResponse>> login(@Valid @RequestBody LoginRequest request) {
+        authRateLimiter.checkLogin(request.getEmail(), SecurityUtils.getClientIp());
         return ResponseEntity.ok(GeneralResponse.success("Login successful", authService.login(request)));
     }
 
@@ -83,6 +86,7 @@ public class AuthController implements IAuthController {
     @Override
     @PostMapping("/password/forgot")
         public ResponseEntity<PasswordResponse> forgotPassword(@Valid @RequestBody ForgotPasswordRequest request) {
+        authRateLimiter.checkForgotPassword(request.getEmail(), SecurityUtils.getClientIp());
         try {
             return ResponseEntity.ok(authService.forgotPassword(request));
         } catch (Exception e) {
@@ -1,5 +1,6 @@
 package com.ada.insurance_app.controller.coverage;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
 import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.dto.CoverageDto;
@@ -16,7 +17,8 @@ public interface ICoverageController {
      ResponseEntity<GeneralResponse<CoverageDto>> update(Long id, UpdateCoverageRequest request);
      ResponseEntity<GeneralResponse<Void>> delete(Long id);
      ResponseEntity<GeneralResponse<CoverageDto>> getById(Long id);
-     ResponseEntity<GeneralResponse<List<CoverageDto>>> getAll();
+     ResponseEntity<GeneralResponse<CursorPage<CoverageDto>>> getAll(String cursor, int size, InsuranceType insuranceType,
+                                                                      Boolean active);
      ResponseEntity<GeneralResponse<List<CoverageDto>>> getCoveragesByInsuranceType(InsuranceType insuranceType);
 
 }
@@ -1,6 +1,7 @@
 package com.ada.insurance_app.controller.coverage.Impl;
 
 import com.ada.insurance_app.controller.coverage.ICoverageController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
 import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.dto.CoverageDto;
@@ -82,9 +83,13 @@ public class CoverageControllerImpl implements ICoverageController {
     @Override
     @GetMapping("/get-all")
     @PreAuthorize("hasAnyRole('ADMIN', 'AGENT', 'CUSTOMER')")
-    public ResponseEntity<GeneralResponse<List<CoverageDto>>> getAll() {
+    public ResponseEntity<GeneralResponse<CursorPage<CoverageDto>>> getAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) InsuranceType insuranceType,
+            @RequestParam(required = false) Boolean active) {
         try {
-            List<CoverageDto> coverages = coverageService.getAll();
+            CursorPage<CoverageDto> coverages = coverageService.getAll(cursor, size, insuranceType, active);
             return ResponseEntity.ok(GeneralResponse.success("Coverages retrieved successfully", coverages));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(GeneralResponse.error(
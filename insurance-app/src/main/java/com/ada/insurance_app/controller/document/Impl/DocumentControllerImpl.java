@@ -2,12 +2,17 @@ package com.ada.insurance_app.controller.document.Impl;
 
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
 import com.ada.insurance_app.core.enums.DocumentType;
+import com.ada.insurance_app.core.enums.PolicyDocumentKind;
+import com.ada.insurance_app.core.enums.PolicyStatus;
 import com.ada.insurance_app.dto.DocumentDto;
+import com.ada.insurance_app.dto.PolicyRenderJobDto;
 import com.ada.insurance_app.service.document.IDocumentService;
+import com.ada.insurance_app.service.document.PolicyDocumentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -21,6 +26,7 @@ import java.util.UUID;
 public class DocumentControllerImpl {
 
     private final IDocumentService documentService;
+    private final PolicyDocumentService policyDocumentService;
 
     @PostMapping("/upload")
     public ResponseEntity<GeneralResponse<DocumentDto>> uploadDocument(
@@ -143,4 +149,19 @@ public class DocumentControllerImpl {
                     .body(GeneralResponse.error("Failed to delete document: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR));
         }
     }
-}
\ No newline at end of file
+
+    @PostMapping("/policies/render")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GeneralResponse<PolicyRenderJobDto>> rerenderPolicyDocuments(
+            @RequestParam(defaultValue = "SCHEDULE") PolicyDocumentKind kind,
+            @RequestParam(defaultValue = "ACTIVE") PolicyStatus status) {
+        PolicyRenderJobDto job = policyDocumentService.startRerender(status, kind);
+        return ResponseEntity.accepted().body(GeneralResponse.success("Policy document re-render started", job));
+    }
+
+    @GetMapping("/policies/render/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GeneralResponse<PolicyRenderJobDto>> getRerenderJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(GeneralResponse.success("Render job", policyDocumentService.getRerenderJob(jobId)));
+    }
+}
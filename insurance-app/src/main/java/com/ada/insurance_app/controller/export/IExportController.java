@@ -0,0 +1,38 @@
+package com.ada.insurance_app.controller.export;
+
+import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.ada.insurance_app.dto.ExportJobDto;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface IExportController {
+    ResponseEntity<StreamingResponseBody> exportPolicies(ExportFormat format, LocalDate from, LocalDate to,
+                                                         UUID agentId, PolicyStatus status);
+
+    ResponseEntity<StreamingResponseBody> exportPayments(ExportFormat format, LocalDate from, LocalDate to,
+                                                         UUID agentId, PaymentStatus status);
+
+    ResponseEntity<StreamingResponseBody> exportClaims(ExportFormat format, LocalDate from, LocalDate to,
+                                                       UUID agentId, ClaimStatus status);
+
+    ResponseEntity<GeneralResponse<ExportJobDto>> startPolicyExport(ExportFormat format, LocalDate from, LocalDate to,
+                                                                    UUID agentId, PolicyStatus status);
+
+    ResponseEntity<GeneralResponse<ExportJobDto>> startPaymentExport(ExportFormat format, LocalDate from, LocalDate to,
+                                                                     UUID agentId, PaymentStatus status);
+
+    ResponseEntity<GeneralResponse<ExportJobDto>> startClaimExport(ExportFormat format, LocalDate from, LocalDate to,
+                                                                   UUID agentId, ClaimStatus status);
+
+    ResponseEntity<GeneralResponse<ExportJobDto>> getExportJob(UUID jobId);
+
+    ResponseEntity<Resource> downloadExport(UUID jobId);
+}
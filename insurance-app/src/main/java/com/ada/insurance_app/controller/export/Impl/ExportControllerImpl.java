@@ -0,0 +1,140 @@
+package com.ada.insurance_app.controller.export.Impl;
+
+import com.ada.insurance_app.controller.export.IExportController;
+import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.ada.insurance_app.dto.ExportJobDto;
+import com.ada.insurance_app.service.export.ExportJob;
+import com.ada.insurance_app.service.export.IExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/admin/exports")
+@RequiredArgsConstructor
+public class ExportControllerImpl implements IExportController {
+    private final IExportService exportService;
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/policies")
+    public ResponseEntity<StreamingResponseBody> exportPolicies(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID agentId,
+            @RequestParam(required = false) PolicyStatus status) {
+        return attachment("policies", format, exportService.exportPolicies(format, from, to, agentId, status));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/payments")
+    public ResponseEntity<StreamingResponseBody> exportPayments(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID agentId,
+            @RequestParam(required = false) PaymentStatus status) {
+        return attachment("payments", format, exportService.exportPayments(format, from, to, agentId, status));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/claims")
+    public ResponseEntity<StreamingResponseBody> exportClaims(
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID agentId,
+            @RequestParam(required = false) ClaimStatus status) {
+        return attachment("claims", format, exportService.exportClaims(format, from, to, agentId, status));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/policies/jobs")
+    public ResponseEntity<GeneralResponse<ExportJobDto>> startPolicyExport(
+            @RequestParam(defaultValue = "XLSX") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID agentId,
+            @RequestParam(required = false) PolicyStatus status) {
+        ExportJobDto job = exportService.startPolicyExport(format, from, to, agentId, status);
+        return ResponseEntity.accepted().body(GeneralResponse.success("Export job started", job));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/payments/jobs")
+    public ResponseEntity<GeneralResponse<ExportJobDto>> startPaymentExport(
+            @RequestParam(defaultValue = "XLSX") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID agentId,
+            @RequestParam(required = false) PaymentStatus status) {
+        ExportJobDto job = exportService.startPaymentExport(format, from, to, agentId, status);
+        return ResponseEntity.accepted().body(GeneralResponse.success("Export job started", job));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/claims/jobs")
+    public ResponseEntity<GeneralResponse<ExportJobDto>> startClaimExport(
+            @RequestParam(defaultValue = "XLSX") ExportFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) UUID agentId,
+            @RequestParam(required = false) ClaimStatus status) {
+        ExportJobDto job = exportService.startClaimExport(format, from, to, agentId, status);
+        return ResponseEntity.accepted().body(GeneralResponse.success("Export job started", job));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<GeneralResponse<ExportJobDto>> getExportJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(GeneralResponse.success("Export job", exportService.getExportJob(jobId)));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/jobs/{jobId}/file")
+    public ResponseEntity<Resource> downloadExport(@PathVariable UUID jobId) {
+        ExportJob job = exportService.getCompletedExportJob(jobId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(job.getFormat().getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(job.getFilename()).build().toString())
+                .body(new FileSystemResource(job.getFile()));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(String name, ExportFormat format,
+                                                                    StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now() + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
@@ -1,6 +1,9 @@
 package com.ada.insurance_app.controller.offer;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.OfferStatus;
 import com.ada.insurance_app.dto.OfferDto;
 import com.ada.insurance_app.request.offer.CreateOfferRequest;
 import com.ada.insurance_app.request.offer.OfferUpdateRequest;
@@ -22,7 +25,8 @@ public interface IOfferController {
     ResponseEntity<GeneralResponse<OfferDto>> getOfferById(Long offerId);
 
     // Get all offers
-    ResponseEntity<GeneralResponse<List<OfferDto>>> getAllOffers();
+    ResponseEntity<GeneralResponse<CursorPage<OfferDto>>> getAllOffers(String cursor, int size, OfferStatus status,
+                                                                     InsuranceType insuranceType);
 
     // Update offer status (for agents)
     ResponseEntity<GeneralResponse<OfferDto>> updateOfferStatus(OfferUpdateRequest request);
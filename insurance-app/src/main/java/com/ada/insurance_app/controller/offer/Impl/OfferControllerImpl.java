@@ -1,7 +1,10 @@
 package com.ada.insurance_app.controller.offer.Impl;
 
 import com.ada.insurance_app.controller.offer.IOfferController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.OfferStatus;
 import com.ada.insurance_app.dto.OfferDto;
 import com.ada.insurance_app.request.offer.CreateOfferRequest;
 import com.ada.insurance_app.request.offer.OfferUpdateRequest;
@@ -68,10 +71,14 @@ public class OfferControllerImpl implements IOfferController {
 
     @Override
     @GetMapping
-    public ResponseEntity<GeneralResponse<List<OfferDto>>> getAllOffers() {
+    public ResponseEntity<GeneralResponse<CursorPage<OfferDto>>> getAllOffers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) OfferStatus status,
+            @RequestParam(required = false) InsuranceType insuranceType) {
         try {
             log.info("Getting all offers");
-            List<OfferDto> offers = offerService.getAllOffers();
+            CursorPage<OfferDto> offers = offerService.getAllOffers(cursor, size, status, insuranceType);
             return ResponseEntity.ok(GeneralResponse.success("All offers retrieved successfully", offers));
         } catch (Exception e) {
             log.error("Error getting all offers: {}", e.getMessage());
@@ -1,6 +1,8 @@
 package com.ada.insurance_app.controller.policy;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.ClaimStatus;
 import com.ada.insurance_app.dto.ClaimDto;
 import com.ada.insurance_app.request.claim.CreateClaimRequest;
 import com.ada.insurance_app.request.claim.UpdateClaimRequest;
@@ -26,7 +28,7 @@ public interface IClaimController {
     
     ResponseEntity<GeneralResponse<List<ClaimDto>>> getClaimsByCustomer( UUID customerId);
     
-    ResponseEntity<GeneralResponse<List<ClaimDto>>> getAllClaims();
+    ResponseEntity<GeneralResponse<CursorPage<ClaimDto>>> getAllClaims(String cursor, int size, ClaimStatus status);
     
     ResponseEntity<GeneralResponse<Void>> deleteClaim( UUID claimId);
     
@@ -1,6 +1,9 @@
 package com.ada.insurance_app.controller.policy;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PolicyStatus;
 import com.ada.insurance_app.dto.PolicyDto;
 import com.ada.insurance_app.request.policy.CreatePolicyRequest;
 import com.ada.insurance_app.request.policy.UpdatePolicyRequest;
@@ -32,7 +35,8 @@ public interface IPolicyController {
     ResponseEntity<GeneralResponse<List<PolicyDto>>> getPoliciesByCustomer( UUID customerId);
     
 
-    ResponseEntity<GeneralResponse<List<PolicyDto>>> getAllPolicies();
+    ResponseEntity<GeneralResponse<CursorPage<PolicyDto>>> getAllPolicies(String cursor, int size, PolicyStatus status,
+                                                                       InsuranceType insuranceType);
     
 
     ResponseEntity<GeneralResponse<Void>> deletePolicy( Long policyId);
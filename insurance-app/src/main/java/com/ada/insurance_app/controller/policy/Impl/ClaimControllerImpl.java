@@ -1,7 +1,9 @@
 package com.ada.insurance_app.controller.policy.Impl;
 
 import com.ada.insurance_app.controller.policy.IClaimController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.ClaimStatus;
 import com.ada.insurance_app.dto.ClaimDto;
 import com.ada.insurance_app.request.claim.CreateClaimRequest;
 import com.ada.insurance_app.request.claim.UpdateClaimRequest;
@@ -119,10 +121,13 @@ public class ClaimControllerImpl implements IClaimController {
     
     @Override
     @GetMapping("/all")
-    public ResponseEntity<GeneralResponse<List<ClaimDto>>> getAllClaims() {
+    public ResponseEntity<GeneralResponse<CursorPage<ClaimDto>>> getAllClaims(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) ClaimStatus status) {
         try {
             log.info("Getting all claims");
-            List<ClaimDto> claims = claimService.getAllClaims();
+            CursorPage<ClaimDto> claims = claimService.getAllClaims(cursor, size, status);
             
             return ResponseEntity.ok(GeneralResponse.success("All claims retrieved successfully", claims));
         } catch (Exception e) {
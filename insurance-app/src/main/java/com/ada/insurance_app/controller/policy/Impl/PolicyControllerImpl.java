@@ -1,7 +1,10 @@
 package com.ada.insurance_app.controller.policy.Impl;
 
 import com.ada.insurance_app.controller.policy.IPolicyController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PolicyStatus;
 import com.ada.insurance_app.dto.PolicyDto;
 import com.ada.insurance_app.request.policy.CreatePolicyRequest;
 import com.ada.insurance_app.request.policy.UpdatePolicyRequest;
@@ -125,10 +128,14 @@ public class PolicyControllerImpl implements IPolicyController {
 
     @Override
     @GetMapping("/all")
-    public ResponseEntity<GeneralResponse<List<PolicyDto>>> getAllPolicies() {
+    public ResponseEntity<GeneralResponse<CursorPage<PolicyDto>>> getAllPolicies(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) PolicyStatus status,
+            @RequestParam(required = false) InsuranceType insuranceType) {
         try {
             log.info("Getting all policies");
-            List<PolicyDto> policies = policyService.getAllPolicies();
+            CursorPage<PolicyDto> policies = policyService.getAllPolicies(cursor, size, status, insuranceType);
 
             return ResponseEntity.ok(GeneralResponse.success("All policies retrieved successfully", policies));
         } catch (Exception e) {
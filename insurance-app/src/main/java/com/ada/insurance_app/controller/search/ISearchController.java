@@ -0,0 +1,12 @@
+package com.ada.insurance_app.controller.search;
+
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.SearchScope;
+import com.ada.insurance_app.dto.SearchHitDto;
+import org.springframework.http.ResponseEntity;
+
+public interface ISearchController {
+    ResponseEntity<GeneralResponse<CursorPage<SearchHitDto>>> search(
+            SearchScope scope, String keyword, String cursor, int size);
+}
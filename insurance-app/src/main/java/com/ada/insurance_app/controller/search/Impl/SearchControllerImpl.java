@@ -0,0 +1,36 @@
+package com.ada.insurance_app.controller.search.Impl;
+
+import com.ada.insurance_app.controller.search.ISearchController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.SearchScope;
+import com.ada.insurance_app.core.persistence.query.QueryBudget;
+import com.ada.insurance_app.dto.SearchHitDto;
+import com.ada.insurance_app.service.search.ISearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/search")
+@RequiredArgsConstructor
+public class SearchControllerImpl implements ISearchController {
+    private final ISearchService searchService;
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping
+    @QueryBudget(statements = 1)
+    public ResponseEntity<GeneralResponse<CursorPage<SearchHitDto>>> search(
+            @RequestParam SearchScope scope,
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<SearchHitDto> results = searchService.search(scope, keyword, cursor, size);
+        return ResponseEntity.ok(GeneralResponse.success("Search results", results));
+    }
+}
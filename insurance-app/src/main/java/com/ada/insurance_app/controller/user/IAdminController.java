@@ -1,7 +1,11 @@
 package com.ada.insurance_app.controller.user;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.dto.AgentDto;
+import com.ada.insurance_app.dto.AgentLeaderboardDto;
 import com.ada.insurance_app.dto.AgentStatsDto;
 import com.ada.insurance_app.dto.DashboardSummaryDto;
 import com.ada.insurance_app.dto.UserDto;
@@ -17,7 +21,7 @@ import java.util.List;
 import java.util.UUID;
 
 public interface IAdminController {
-    ResponseEntity<GeneralResponse<List<UserDto>>> getAllUsers();
+    ResponseEntity<GeneralResponse<CursorPage<UserDto>>> getAllUsers(String cursor, int size, Role role);
     ResponseEntity<GeneralResponse<UserDto>> changeUserRole(ChangeRoleRequest request);
     ResponseEntity<GeneralResponse<DashboardSummaryDto>> getSummaryReport();
 
@@ -29,7 +33,10 @@ public interface IAdminController {
 
     ResponseEntity<GeneralResponse<Void>> deleteAgentByAgentNumber(String agentNumber);
 
-    ResponseEntity<GeneralResponse<List<AgentDto>>> getAllAgents();
+    ResponseEntity<GeneralResponse<CursorPage<AgentDto>>> getAllAgents(String cursor, int size);
 
     ResponseEntity<GeneralResponse<List<AgentStatsDto>>> getAgentStatistics();
+
+    ResponseEntity<GeneralResponse<AgentLeaderboardDto>> getAgentLeaderboard(int limit, String region,
+                                                                             InsuranceType insuranceType);
 } 
\ No newline at end of file
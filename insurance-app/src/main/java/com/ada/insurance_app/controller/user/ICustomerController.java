@@ -1,5 +1,6 @@
 package com.ada.insurance_app.controller.user;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
 import com.ada.insurance_app.dto.*;
 import com.ada.insurance_app.request.claim.CreateClaimRequest;
@@ -51,5 +52,5 @@ public interface ICustomerController {
     ResponseEntity<GeneralResponse<PaymentDto>> makePayment(Long policyId, CreatePaymentRequest request, UUID customerId);
 
     // ----------- Agent İşlemleri -----------
-    ResponseEntity<GeneralResponse<List<AgentDto>>> getAllAgents(UUID customerId);
+    ResponseEntity<GeneralResponse<CursorPage<AgentDto>>> getAllAgents(UUID customerId, String cursor, int size);
 }
@@ -1,10 +1,11 @@
 package com.ada.insurance_app.controller.user;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.dto.UserDto;
 import org.springframework.http.ResponseEntity;
 
-import java.util.List;
 import java.util.UUID;
 
 public interface IUserController {
@@ -13,7 +14,7 @@ public interface IUserController {
 
     ResponseEntity<GeneralResponse<UserDto>> getUserByEmail(String email);
 
-    ResponseEntity<GeneralResponse<List<UserDto>>> getAllUsers();
+    ResponseEntity<GeneralResponse<CursorPage<UserDto>>> getAllUsers(String cursor, int size, Role role);
 
     ResponseEntity<GeneralResponse<UserDto>> updateUser(UUID userId, UserDto userDto);
 
@@ -1,8 +1,12 @@
 package com.ada.insurance_app.controller.user.Impl;
 
 import com.ada.insurance_app.controller.user.IAdminController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.dto.AgentDto;
+import com.ada.insurance_app.dto.AgentLeaderboardDto;
 import com.ada.insurance_app.dto.AgentStatsDto;
 import com.ada.insurance_app.dto.DashboardSummaryDto;
 import com.ada.insurance_app.dto.UserDto;
@@ -32,8 +36,11 @@ public class AdminControllerImpl implements IAdminController {
     @Override
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/users")
-    public ResponseEntity<GeneralResponse<List<UserDto>>> getAllUsers() {
-        List<UserDto> users = adminService.getAllUsers();
+    public ResponseEntity<GeneralResponse<CursorPage<UserDto>>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Role role) {
+        CursorPage<UserDto> users = adminService.getAllUsers(cursor, size, role);
         return ResponseEntity.ok(GeneralResponse.success("User list", users));
     }
 
@@ -99,8 +106,10 @@ public class AdminControllerImpl implements IAdminController {
     @Override
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/agents")
-    public ResponseEntity<GeneralResponse<List<AgentDto>>> getAllAgents() {
-        List<AgentDto> agents = adminService.getAllAgents();
+    public ResponseEntity<GeneralResponse<CursorPage<AgentDto>>> getAllAgents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<AgentDto> agents = adminService.getAllAgents(cursor, size);
         return ResponseEntity.ok(GeneralResponse.success("Agent list", agents));
     }
 
@@ -111,4 +120,15 @@ public class AdminControllerImpl implements IAdminController {
         List<AgentStatsDto> agentStats = adminService.getAgentStatistics();
         return ResponseEntity.ok(GeneralResponse.success("Agent statistics", agentStats));
     }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/agent-leaderboard")
+    public ResponseEntity<GeneralResponse<AgentLeaderboardDto>> getAgentLeaderboard(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(required = false) String region,
+            @RequestParam(required = false) InsuranceType insuranceType) {
+        AgentLeaderboardDto leaderboard = adminService.getTopAgents(limit, region, insuranceType);
+        return ResponseEntity.ok(GeneralResponse.success("Agent leaderboard", leaderboard));
+    }
 } 
\ No newline at end of file
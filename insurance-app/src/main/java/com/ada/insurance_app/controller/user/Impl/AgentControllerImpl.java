@@ -3,6 +3,7 @@ package com.ada.insurance_app.controller.user.Impl;
 import com.ada.insurance_app.controller.user.IAgentController;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
 import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.ada.insurance_app.core.persistence.query.QueryBudget;
 import com.ada.insurance_app.dto.*;
 
 import com.ada.insurance_app.request.offer.OfferUpdateRequest;
@@ -51,6 +52,7 @@ public class AgentControllerImpl implements IAgentController {
     @Override
     @PreAuthorize("hasRole('AGENT')")
     @GetMapping("/offers/agent/{agentId}")
+    @QueryBudget(statements = 3)
     public ResponseEntity<GeneralResponse<List<OfferDto>>> getOfferByAgentId(@PathVariable UUID agentId) {
         log.info("Agent fetching all offers for agent: {}", agentId);
         List<OfferDto> offers = agentService.getoffersByAgentId(agentId);
@@ -154,6 +156,7 @@ public class AgentControllerImpl implements IAgentController {
     @Override
     @PreAuthorize("hasRole('AGENT')")
     @GetMapping("/my-customers")
+    @QueryBudget(statements = 1)
     public ResponseEntity<GeneralResponse<List<CustomerDto>>> getMyCustomers() {
         log.info("Agent fetching my customers");
         List<CustomerDto> customers = agentService.getMyCustomers();
@@ -165,6 +168,7 @@ public class AgentControllerImpl implements IAgentController {
     @Override
     @PreAuthorize("hasRole('AGENT')")
     @GetMapping("/active-policies")
+    @QueryBudget(statements = 3)
     public ResponseEntity<GeneralResponse<List<PolicyDto>>> getMyActivePolicies() {
         log.info("Agent fetching active policies");
         List<PolicyDto> policies = agentService.getMyActivePolicies();
@@ -174,6 +178,7 @@ public class AgentControllerImpl implements IAgentController {
     @Override
     @PreAuthorize("hasRole('AGENT')")
     @GetMapping("/expired-policies")
+    @QueryBudget(statements = 3)
     public ResponseEntity<GeneralResponse<List<PolicyDto>>> getMyExpiredPolicies() {
         log.info("Agent fetching expired policies");
         List<PolicyDto> policies = agentService.getMyExpiredPolicies();
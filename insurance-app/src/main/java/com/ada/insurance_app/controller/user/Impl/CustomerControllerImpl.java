@@ -1,6 +1,7 @@
 package com.ada.insurance_app.controller.user.Impl;
 
 import com.ada.insurance_app.controller.user.ICustomerController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
 import com.ada.insurance_app.dto.*;
 import com.ada.insurance_app.request.claim.CreateClaimRequest;
@@ -347,10 +348,13 @@ public class CustomerControllerImpl implements ICustomerController {
     @Override
     @PreAuthorize("hasRole('CUSTOMER')")
     @GetMapping("/{customerId}/agents")
-    public ResponseEntity<GeneralResponse<List<AgentDto>>> getAllAgents(@PathVariable UUID customerId) {
+    public ResponseEntity<GeneralResponse<CursorPage<AgentDto>>> getAllAgents(
+            @PathVariable UUID customerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
             log.info("Getting all agents for customer: {}", customerId);
-            List<AgentDto> agents = customerService.getAllAgents();
+            CursorPage<AgentDto> agents = customerService.getAllAgents(cursor, size);
             return ResponseEntity.ok(GeneralResponse.success("Agents retrieved successfully", agents));
         } catch (Exception e) {
             log.error("Error getting agents: {}", e.getMessage());
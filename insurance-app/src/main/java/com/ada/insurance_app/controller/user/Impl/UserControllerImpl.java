@@ -1,7 +1,9 @@
 package com.ada.insurance_app.controller.user.Impl;
 
 import com.ada.insurance_app.controller.user.IUserController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.dto.UserDto;
 import com.ada.insurance_app.service.user.IUserService;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +11,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -36,8 +37,11 @@ public class UserControllerImpl implements IUserController {
 
     @Override
     @GetMapping
-    public ResponseEntity<GeneralResponse<List<UserDto>>> getAllUsers() {
-        List<UserDto> users = userService.getAllUsers();
+    public ResponseEntity<GeneralResponse<CursorPage<UserDto>>> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Role role) {
+        CursorPage<UserDto> users = userService.getAllUsers(cursor, size, role);
         return ResponseEntity.ok(GeneralResponse.success("All users retrieved successfully", users));
     }
 
@@ -1,7 +1,9 @@
 package com.ada.insurance_app.controller.vehicle;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
 import com.ada.insurance_app.dto.VehicleDto;
+import com.ada.insurance_app.dto.VehicleSearchHitDto;
 import com.ada.insurance_app.request.vehicle.AddVehicleRequest;
 import com.ada.insurance_app.request.vehicle.UpdateVehicleRequest;
 import org.springframework.http.ResponseEntity;
@@ -30,7 +32,9 @@ public interface IVehicleController {
 
     ResponseEntity<GeneralResponse<List<VehicleDto>>> searchVehiclesByModel(String model);
 
-    ResponseEntity<GeneralResponse<List<VehicleDto>>> getAllVehicles();
+    ResponseEntity<GeneralResponse<List<VehicleSearchHitDto>>> searchVehicles(String query, int limit);
+
+    ResponseEntity<GeneralResponse<CursorPage<VehicleDto>>> getAllVehicles(String cursor, int size, UUID customerId);
 
     ResponseEntity<GeneralResponse<Boolean>> existsByPlateNumber(String plateNumber);
 
@@ -1,8 +1,11 @@
 package com.ada.insurance_app.controller.vehicle.Impl;
 
 import com.ada.insurance_app.controller.vehicle.IVehicleController;
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.common.dto.GeneralResponse;
+import com.ada.insurance_app.core.persistence.query.QueryBudget;
 import com.ada.insurance_app.dto.VehicleDto;
+import com.ada.insurance_app.dto.VehicleSearchHitDto;
 import com.ada.insurance_app.request.vehicle.AddVehicleRequest;
 import com.ada.insurance_app.request.vehicle.UpdateVehicleRequest;
 import com.ada.insurance_app.service.vehicle.IVehicleService;
@@ -11,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -90,10 +94,24 @@ public class VehicleControllerImpl implements IVehicleController {
         return ResponseEntity.ok(GeneralResponse.success("Vehicles retrieved successfully", vehicles));
     }
 
+    @Override
+    @PreAuthorize("hasAnyRole('AGENT', 'ADMIN')")
+    @GetMapping("/search")
+    @QueryBudget(statements = 1)
+    public ResponseEntity<GeneralResponse<List<VehicleSearchHitDto>>> searchVehicles(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        List<VehicleSearchHitDto> vehicles = vehicleService.searchVehicles(query, limit);
+        return ResponseEntity.ok(GeneralResponse.success("Vehicles retrieved successfully", vehicles));
+    }
+
     @Override
     @GetMapping
-    public ResponseEntity<GeneralResponse<List<VehicleDto>>> getAllVehicles() {
-        List<VehicleDto> vehicles = vehicleService.getAllVehicles();
+    public ResponseEntity<GeneralResponse<CursorPage<VehicleDto>>> getAllVehicles(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) UUID customerId) {
+        CursorPage<VehicleDto> vehicles = vehicleService.getAllVehicles(cursor, size, customerId);
         return ResponseEntity.ok(GeneralResponse.success("All vehicles retrieved successfully", vehicles));
     }
 
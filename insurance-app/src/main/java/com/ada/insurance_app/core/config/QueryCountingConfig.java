@@ -0,0 +1,41 @@
+package com.ada.insurance_app.core.config;
+
+import com.ada.insurance_app.core.enums.QueryBudgetMode;
+import com.ada.insurance_app.core.persistence.query.CountingDataSource;
+import com.ada.insurance_app.core.persistence.query.QueryBudgetInterceptor;
+import com.ada.insurance_app.core.persistence.query.QueryCountingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Per-request query counting on top of {@link CountingDataSource}: the filter opens the count before
+ * Spring Security runs and the interceptor attaches the endpoint's budget. Enabled together with the
+ * counting DataSource by app.queries.counting.enabled.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.queries.counting.enabled", havingValue = "true")
+public class QueryCountingConfig implements WebMvcConfigurer {
+
+    @Value("${app.queries.budget.mode:LOG}")
+    private QueryBudgetMode budgetMode;
+
+    @Bean
+    public FilterRegistrationBean<QueryCountingFilter> queryCountingFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<QueryCountingFilter> registration =
+                new FilterRegistrationBean<>(new QueryCountingFilter(meterRegistry, budgetMode));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryBudgetInterceptor(budgetMode));
+    }
+}
@@ -0,0 +1,18 @@
+package com.ada.insurance_app.core.enums;
+
+
+public enum EmailOutboxStatus {
+    PENDING("Pending"),
+    SENT("Sent"),
+    FAILED("Failed");
+
+    private final String description;
+
+    EmailOutboxStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,8 @@
+package com.ada.insurance_app.core.enums;
+
+public enum ExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,19 @@
+package com.ada.insurance_app.core.enums;
+
+
+public enum LossRatioDimension {
+    COVERAGE("Coverage"),
+    INSURANCE_TYPE("Insurance type"),
+    CITY("City"),
+    MONTH("Month");
+
+    private final String description;
+
+    LossRatioDimension(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ada.insurance_app.core.enums;
+
+public enum PolicyDocumentKind {
+    SCHEDULE("policy-schedule", "Policy schedule"),
+    QUOTE("quote", "Quote");
+
+    private final String template;
+    private final String description;
+
+    PolicyDocumentKind(String template, String description) {
+        this.template = template;
+        this.description = description;
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,7 @@
+package com.ada.insurance_app.core.enums;
+
+public enum QueryBudgetMode {
+    OFF,
+    LOG,
+    FAIL
+}
@@ -0,0 +1,18 @@
+package com.ada.insurance_app.core.enums;
+
+public enum SearchScope {
+    CLAIM("Claim"),
+    PAYMENT("Payment"),
+    DOCUMENT("Document"),
+    COVERAGE("Coverage");
+
+    private final String description;
+
+    SearchScope(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ada.insurance_app.core.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+
+public enum TimeBucket {
+    DAY("Day"),
+    WEEK("Week"),
+    MONTH("Month");
+
+    private final String description;
+
+    TimeBucket(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * First day of the bucket containing the given day; weeks start on Monday.
+     */
+    public LocalDate startOf(LocalDate day) {
+        return switch (this) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+}
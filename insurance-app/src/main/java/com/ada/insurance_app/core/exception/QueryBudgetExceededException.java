@@ -0,0 +1,7 @@
+package com.ada.insurance_app.core.exception;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
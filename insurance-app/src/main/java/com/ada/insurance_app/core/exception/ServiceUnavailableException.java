@@ -0,0 +1,7 @@
+package com.ada.insurance_app.core.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.ada.insurance_app.core.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -130,6 +130,27 @@ public class GlobalExceptionHandler {
         return GeneralResponse.error(ex.getMessage(), null, HttpStatus.CONFLICT);
     }
 
+    // --- Overload (bounded pools saturated) ---
+    @ExceptionHandler(ServiceUnavailableException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public GeneralResponse<Object> handleServiceUnavailable(RuntimeException ex) {
+        return GeneralResponse.error(ex.getMessage(), null, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // --- Rate limited ---
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public GeneralResponse<Object> handleTooManyRequests(TooManyRequestsException ex) {
+        return GeneralResponse.error(ex.getMessage(), null, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    // --- Request ran more queries than its endpoint declares (app.queries.budget.mode=FAIL) ---
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public GeneralResponse<Object> handleQueryBudgetExceeded(QueryBudgetExceededException ex) {
+        return GeneralResponse.error(ex.getMessage(), null, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     // --- Catch-all ---
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -0,0 +1,175 @@
+package com.ada.insurance_app.core.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Base for read models kept current from entity changes, whichever service makes them.
+ * <p>
+ * Each tracked row contributes deltas under one or more keys; an insert adds its contribution,
+ * a delete removes it and an update swaps the old contribution for the new one. Deltas are summed
+ * per transaction and applied just before commit, in the same transaction, once per key.
+ * Writes that bypass Hibernate (bulk or native statements) are not seen and need a reconciliation job.
+ *
+ * @param <K> read model row key
+ * @param <D> mutable delta accumulated for one key
+ */
+public abstract class AbstractDeltaEventListener<K, D>
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<SharedSessionContractImplementor, Map<K, D>> pending = new ConcurrentHashMap<>();
+
+    protected AbstractDeltaEventListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    protected abstract boolean isTracked(Object entity);
+
+    /**
+     * Adds {@code sign} times the row's contribution to {@code deltas}.
+     */
+    protected abstract void contribute(Object entity, Object[] state, EntityPersister persister, int sign,
+                                       Map<K, D> deltas);
+
+    /**
+     * Adds the change of an updated row to {@code deltas}: by default its old contribution is removed
+     * and the new one added.
+     */
+    protected void contributeUpdate(Object entity, Object[] oldState, Object[] state, EntityPersister persister,
+                                    Map<K, D> deltas) {
+        contribute(entity, oldState, persister, -1, deltas);
+        contribute(entity, state, persister, 1, deltas);
+    }
+
+    protected abstract boolean isEmpty(D delta);
+
+    /**
+     * Called before commit, ahead of the first {@link #apply}, e.g. to look up which keys a change affects.
+     */
+    protected void beforeApply(SessionImplementor session, Map<K, D> deltas) {
+    }
+
+    protected abstract void apply(SessionImplementor session, K key, D delta);
+
+    /**
+     * Called once the transaction that changed these keys has committed, e.g. to evict cached copies.
+     */
+    protected void afterCommit(Set<K> keys) {
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (isTracked(event.getEntity())) {
+            contribute(event.getEntity(), event.getState(), event.getPersister(), 1, deltas(event.getSession()));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (isTracked(event.getEntity()) && event.getOldState() != null) {
+            contributeUpdate(event.getEntity(), event.getOldState(), event.getState(), event.getPersister(),
+                    deltas(event.getSession()));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (isTracked(event.getEntity())) {
+            contribute(event.getEntity(), event.getDeletedState(), event.getPersister(), -1, deltas(event.getSession()));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Deltas of the current transaction; the first change in a transaction registers the
+     * before-commit write and the after-completion callback.
+     */
+    private Map<K, D> deltas(EventSource session) {
+        return pending.computeIfAbsent(session, s -> {
+            session.getActionQueue().registerProcess(this::flushDeltas);
+            session.getActionQueue().registerProcess((success, completedSession) -> {
+                Map<K, D> deltas = pending.remove(session);
+                if (success && deltas != null && !deltas.isEmpty()) {
+                    afterCommit(deltas.keySet());
+                }
+            });
+            return new HashMap<>();
+        });
+    }
+
+    // Entries stay in pending until completion so that afterCommit sees the keys
+    private void flushDeltas(SessionImplementor session) {
+        Map<K, D> deltas = pending.get(session);
+        if (deltas != null) {
+            beforeApply(session, deltas);
+            deltas.forEach((key, delta) -> {
+                if (!isEmpty(delta)) {
+                    apply(session, key, delta);
+                }
+            });
+        }
+    }
+
+    /**
+     * Marks the key for a recount at commit, for changes whose effect on it cannot be told from the changed
+     * row alone (e.g. a policy moving to another owner along with its payments and claims). Null keys are ignored.
+     */
+    protected static <K, D extends RecountableDelta> void recount(K key, Map<K, D> deltas, Supplier<D> newDelta) {
+        if (key != null) {
+            deltas.computeIfAbsent(key, k -> newDelta.get()).markRecount();
+        }
+    }
+
+    /**
+     * Whether two BigDecimal property values are equal regardless of scale; null only equals null.
+     */
+    protected static boolean sameAmount(Object oldAmount, Object newAmount) {
+        return oldAmount == null ? newAmount == null
+                : newAmount != null && ((BigDecimal) oldAmount).compareTo((BigDecimal) newAmount) == 0;
+    }
+
+    protected static Object value(Object[] state, EntityPersister persister, String property) {
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) {
+                return state[i];
+            }
+        }
+        throw new IllegalStateException("No property " + property + " on " + persister.getEntityName());
+    }
+}
@@ -0,0 +1,18 @@
+package com.ada.insurance_app.core.persistence;
+
+/**
+ * Second-level cache regions; each has a cache of the same name in ehcache.xml with its own size and TTL.
+ */
+public final class CacheRegions {
+
+    public static final String COVERAGE = "coverage";
+    public static final String AGENT = "agent";
+    public static final String USER = "user";
+
+    public static final String POLICY_COVERAGES = "policy.coverages";
+    public static final String OFFER_COVERAGES = "offer.coverages";
+    public static final String AGENT_POLICIES = "agent.policies";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,122 @@
+package com.ada.insurance_app.core.persistence;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Search columns and indexes that Hibernate's schema update cannot declare: a generated tsvector
+ * column with a GIN index per searchable table, and pg_trgm GIN indexes on the identifiers searched
+ * by substring (claim, policy and payment numbers, file names). Trigram indexes also serve the older
+ * LIKE '%...%' repository queries on the same columns.
+ * <p>
+ * Vehicles carry plate_key and vin_key columns that Vehicle fills from VehicleKeys. plate_key is switched to
+ * the C collation, so its unique B-tree also serves prefix lookups in key order. Both get GiST trigram indexes
+ * rather than GIN: GiST can return the nearest matches in order ({@code <->}), so an as-you-type search
+ * reads a few rows, not every match.
+ * <p>
+ * Runs once the EntityManagerFactory has created the tables; every statement is idempotent. Adding a
+ * generated column rewrites the table, so the first start after this change takes a while on large
+ * tables. Databases other than PostgreSQL are left alone.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextSearchSchema {
+
+    // 'simple' keeps words as they are: the data mixes Turkish and English, and most of it is identifiers
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+
+            "ALTER TABLE {s}claims ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('simple', COALESCE(claim_number, '')), 'A') || " +
+                    "setweight(to_tsvector('simple', COALESCE(description, '')), 'B')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_claims_search_vector ON {s}claims USING gin (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_claims_claim_number_trgm ON {s}claims USING gin (claim_number gin_trgm_ops)",
+
+            "CREATE INDEX IF NOT EXISTS idx_policies_policy_number_trgm ON {s}policies " +
+                    "USING gin (policy_number gin_trgm_ops)",
+
+            "CREATE INDEX IF NOT EXISTS idx_payments_transaction_reference_trgm ON {s}payments " +
+                    "USING gin (transaction_reference gin_trgm_ops)",
+
+            "ALTER TABLE {s}documents ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('simple', COALESCE(original_file_name, '')), 'A') || " +
+                    "setweight(to_tsvector('simple', COALESCE(description, '')), 'B')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_documents_search_vector ON {s}documents USING gin (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_documents_original_file_name_trgm ON {s}documents " +
+                    "USING gin (original_file_name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_documents_file_name_trgm ON {s}documents USING gin (file_name gin_trgm_ops)",
+
+            "ALTER TABLE {s}coverages ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('simple', COALESCE(name, '') || ' ' || COALESCE(code, '')), 'A') || " +
+                    "setweight(to_tsvector('simple', COALESCE(description, '')), 'B')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_coverages_search_vector ON {s}coverages USING gin (search_vector)",
+            "CREATE INDEX IF NOT EXISTS idx_coverages_name_trgm ON {s}coverages USING gin (name gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_coverages_code_trgm ON {s}coverages USING gin (code gin_trgm_ops)",
+
+            // Databases from when the keys were generated columns keep the values as plain ones
+            "ALTER TABLE {s}vehicles ALTER COLUMN plate_key DROP EXPRESSION IF EXISTS",
+            "ALTER TABLE {s}vehicles ALTER COLUMN vin_key DROP EXPRESSION IF EXISTS",
+            "DROP INDEX IF EXISTS {s}idx_vehicles_plate_key",
+            // Keys for rows saved before the columns existed; of several rows with the same plate key only
+            // the oldest gets it. The others keep a NULL key (Vehicle leaves it alone until the plate changes,
+            // lookups fall back to plate_number) and are logged at startup to be merged or corrected
+            "UPDATE {s}vehicles v SET plate_key = k.plate_key FROM (" +
+                    "SELECT DISTINCT ON (n.plate_key) n.id, n.plate_key FROM (" +
+                    "SELECT id, created_at, regexp_replace(upper(plate_number COLLATE \"C\"), '[^A-Z0-9]', '', 'g') " +
+                    "AS plate_key FROM {s}vehicles WHERE plate_key IS NULL) n " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM {s}vehicles o WHERE o.plate_key = n.plate_key) " +
+                    "ORDER BY n.plate_key, n.created_at, n.id) k WHERE v.id = k.id",
+            "UPDATE {s}vehicles SET vin_key = regexp_replace(upper(vin COLLATE \"C\"), '[^A-Z0-9]', '', 'g') " +
+                    "WHERE vin_key IS NULL",
+            "DO $$ BEGIN IF EXISTS (SELECT 1 FROM pg_attribute a JOIN pg_collation c ON c.oid = a.attcollation " +
+                    "WHERE a.attrelid = '{s}vehicles'::regclass AND a.attname = 'plate_key' AND c.collname <> 'C') " +
+                    "THEN ALTER TABLE {s}vehicles ALTER COLUMN plate_key TYPE varchar(255) COLLATE \"C\"; " +
+                    "END IF; END $$",
+            "CREATE INDEX IF NOT EXISTS idx_vehicles_plate_key_trgm ON {s}vehicles USING gist (plate_key gist_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_vehicles_vin_key_trgm ON {s}vehicles USING gist (vin_key gist_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_vehicles_make_model_trgm ON {s}vehicles " +
+                    "USING gist ((make || ' ' || model) gist_trgm_ops)");
+
+    private static final String KEYLESS_VEHICLES_SQL =
+            "SELECT id::text || ' (' || plate_number || ')' FROM {s}vehicles WHERE plate_key IS NULL ORDER BY plate_number";
+
+    private final JdbcTemplate jdbcTemplate;
+    // Only injected so that the tables exist before this runs
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${spring.jpa.properties.hibernate.default_schema:}")
+    private String schema;
+
+    @PostConstruct
+    void apply() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(product)) {
+            log.info("Full-text search indexes skipped on {}", product);
+            return;
+        }
+
+        String prefix = StringUtils.hasText(schema) ? schema + "." : "";
+        long start = System.currentTimeMillis();
+        for (String statement : STATEMENTS) {
+            jdbcTemplate.execute(statement.replace("{s}", prefix));
+        }
+        log.info("Full-text search columns and indexes checked in {} ms", System.currentTimeMillis() - start);
+
+        List<String> keyless = jdbcTemplate.queryForList(KEYLESS_VEHICLES_SQL.replace("{s}", prefix), String.class);
+        if (!keyless.isEmpty()) {
+            log.warn("{} vehicles have a plate that another vehicle already has once spacing is ignored, " +
+                    "so they have no plate_key: {}", keyless.size(), keyless);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ada.insurance_app.core.persistence;
+
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.exception.InvalidRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Position in a list ordered by (createdAt DESC, id DESC), carried between requests as an opaque token.
+ * <p>
+ * Repositories select the rows strictly after the position:
+ * {@code WHERE e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)
+ * ORDER BY e.createdAt DESC, e.id DESC}, backed by an index on (created_at, id), and fetch one row more
+ * than the page size to know whether another page follows. The first page starts after
+ * {@link #FIRST_PAGE}, later than any row.
+ */
+public record KeysetCursor(LocalDateTime createdAt, String id) {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final KeysetCursor FIRST_PAGE = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), "");
+    private static final String VERSION = "1";
+    private static final char SEPARATOR = '|';
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST_PAGE;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", 3);
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            return new KeysetCursor(LocalDateTime.parse(parts[1]), parts[2]);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirstPage() {
+        return this == FIRST_PAGE;
+    }
+
+    public Long longId() {
+        if (isFirstPage()) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public UUID uuidId() {
+        if (isFirstPage()) {
+            return new UUID(0L, 0L);
+        }
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    /**
+     * Limit for the repository query: the page size plus one look-ahead row.
+     */
+    public static Pageable limit(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return PageRequest.ofSize(size + 1);
+    }
+
+    /**
+     * Builds the page from the rows fetched with {@link #limit(int)}.
+     */
+    public static <E, D> CursorPage<D> page(List<E> rows, int size, Function<E, LocalDateTime> createdAt,
+                                            Function<E, ?> id, Function<E, D> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            E last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new KeysetCursor(createdAt.apply(last), String.valueOf(id.apply(last))).encode();
+        }
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ada.insurance_app.core.persistence;
+
+/**
+ * Delta of an {@link AbstractDeltaEventListener} that can give up on incremental maintenance: once marked,
+ * the read model row is recomputed from the source tables at commit instead of adjusted.
+ */
+public abstract class RecountableDelta {
+
+    private boolean recount;
+
+    public void markRecount() {
+        recount = true;
+    }
+
+    public boolean isRecount() {
+        return recount;
+    }
+}
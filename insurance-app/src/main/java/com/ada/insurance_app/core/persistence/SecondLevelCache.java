@@ -0,0 +1,98 @@
+package com.ada.insurance_app.core.persistence;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Explicit invalidation of the Hibernate second-level cache (see {@link CacheRegions}) and its metrics:
+ * hibernate.cache.region.hits, .misses and .hit.ratio per region.
+ * Evictions requested inside a transaction run after it commits, so a concurrent reader cannot put
+ * the old row back in between.
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void init() {
+        Statistics statistics = sessionFactory().getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            register(statistics, region);
+        }
+    }
+
+    public void evictEntityAfterCommit(Class<?> entityType, Object id) {
+        afterCommit(() -> cache().evictEntityData(entityType, id));
+    }
+
+    /**
+     * Drops the cached collection role for every owner, e.g. Policy.class and "coverages".
+     */
+    public void evictCollectionAfterCommit(Class<?> ownerType, String property) {
+        afterCommit(() -> cache().evictCollectionData(ownerType.getName() + "." + property));
+    }
+
+    private void afterCommit(Runnable eviction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    private void register(Statistics statistics, String region) {
+        FunctionCounter.builder("hibernate.cache.region.hits", statistics, regionValue(region, CacheRegionStatistics::getHitCount))
+                .description("Second-level cache lookups served from the region")
+                .tag("region", region)
+                .register(meterRegistry);
+        FunctionCounter.builder("hibernate.cache.region.misses", statistics, regionValue(region, CacheRegionStatistics::getMissCount))
+                .description("Second-level cache lookups that went to the database")
+                .tag("region", region)
+                .register(meterRegistry);
+        Gauge.builder("hibernate.cache.region.hit.ratio", statistics, regionValue(region, SecondLevelCache::hitRatio))
+                .description("Share of second-level cache lookups served from the region")
+                .tag("region", region)
+                .register(meterRegistry);
+    }
+
+    private static ToDoubleFunction<Statistics> regionValue(String region, ToDoubleFunction<CacheRegionStatistics> value) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics != null ? value.applyAsDouble(regionStatistics) : Double.NaN;
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long lookups = statistics.getHitCount() + statistics.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) statistics.getHitCount() / lookups;
+    }
+
+    private Cache cache() {
+        return sessionFactory().getCache();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -0,0 +1,88 @@
+package com.ada.insurance_app.core.persistence.query;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+
+/**
+ * Wraps connections, statements and result sets handed out by the target DataSource so that the
+ * work they do is added to {@link QueryStats#current()}. When no stats are active the proxies only
+ * forward calls.
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    public CountingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, super.getConnection(username, password));
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        Object proxy = Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, new Counting(target));
+        return type.cast(proxy);
+    }
+
+    private record Counting(Object target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            // Identity semantics: Hibernate keys statements and result sets by the proxy it was given
+            if (name.equals("equals") && method.getParameterCount() == 1) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode") && method.getParameterCount() == 0) {
+                return System.identityHashCode(proxy);
+            }
+
+            QueryStats stats = QueryStats.current();
+
+            // Counted before the call so that a budget failure never leaves a statement open
+            if (stats != null && target instanceof Connection
+                    && (name.startsWith("prepare") || name.equals("createStatement"))) {
+                stats.onStatement();
+            }
+
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, statement);
+            }
+            if (stats != null && target instanceof Statement && name.startsWith("execute")) {
+                stats.onRoundTrip();
+            }
+            if (result instanceof ResultSet resultSet) {
+                return proxy(ResultSet.class, resultSet);
+            }
+            if (stats != null && target instanceof ResultSet && name.equals("next") && Boolean.TRUE.equals(result)) {
+                stats.onRow();
+            }
+            return result;
+        }
+    }
+}
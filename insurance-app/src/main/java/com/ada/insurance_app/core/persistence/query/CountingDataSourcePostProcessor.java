@@ -0,0 +1,24 @@
+package com.ada.insurance_app.core.persistence.query;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every DataSource bean in a {@link CountingDataSource}. Off unless app.queries.counting.enabled is set:
+ * the proxies sit on every JDBC call, which is worth it in development and tests, not by default in production.
+ */
+@Component
+@ConditionalOnProperty(name = "app.queries.counting.enabled", havingValue = "true")
+public class CountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof CountingDataSource)) {
+            return new CountingDataSource(dataSource);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,20 @@
+package com.ada.insurance_app.core.persistence.query;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Most SQL statements (and optionally rows read) one call of the annotated endpoint may cost,
+ * security filters included. Checked per request by {@link QueryCountingFilter} according to
+ * app.queries.budget.mode.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements();
+
+    int rows() default Integer.MAX_VALUE;
+}
@@ -0,0 +1,33 @@
+package com.ada.insurance_app.core.persistence.query;
+
+import com.ada.insurance_app.core.enums.QueryBudgetMode;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Attaches the {@link QueryBudget} of the handling controller method to the request's
+ * {@link QueryStats}, once the handler is known.
+ */
+@RequiredArgsConstructor
+public class QueryBudgetInterceptor implements HandlerInterceptor {
+
+    private final QueryBudgetMode mode;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryStats stats = QueryStats.current();
+        if (stats == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+        if (budget != null) {
+            String owner = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+            stats.enforce(budget, owner, mode == QueryBudgetMode.FAIL);
+        }
+        return true;
+    }
+}
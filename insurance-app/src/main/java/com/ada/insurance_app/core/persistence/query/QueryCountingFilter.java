@@ -0,0 +1,90 @@
+package com.ada.insurance_app.core.persistence.query;
+
+import com.ada.insurance_app.core.enums.QueryBudgetMode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the JDBC work of each HTTP request, security filters included, and publishes it as
+ * http.server.requests.db.statements, .roundtrips and .rows per endpoint. Requests that go over the
+ * {@link QueryBudget} of their endpoint are logged and counted in http.server.requests.db.budget.exceeded
+ * unless the mode is OFF; in FAIL mode they have already been stopped by {@link QueryStats}.
+ * Work finished on another thread (async responses) is not counted.
+ */
+@Slf4j
+public class QueryCountingFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the request's {@link QueryStats}, for tests and error handling.
+     */
+    public static final String STATS_ATTRIBUTE = QueryStats.class.getName();
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetMode mode;
+
+    public QueryCountingFilter(MeterRegistry meterRegistry, QueryBudgetMode mode) {
+        this.meterRegistry = meterRegistry;
+        this.mode = mode;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        QueryStats stats = QueryStats.begin();
+        request.setAttribute(STATS_ATTRIBUTE, stats);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats.end();
+            if (!request.isAsyncStarted()) {
+                record(request, stats);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+
+        summary("http.server.requests.db.statements", "SQL statements prepared per request", method, uri)
+                .record(stats.getStatements());
+        summary("http.server.requests.db.roundtrips", "Statement executions per request", method, uri)
+                .record(stats.getRoundTrips());
+        summary("http.server.requests.db.rows", "Result set rows read per request", method, uri)
+                .record(stats.getRows());
+
+        if (mode != QueryBudgetMode.OFF && stats.isOverBudget()) {
+            log.warn("Query budget exceeded by {} {}: {}", method, uri, stats);
+            Counter.builder("http.server.requests.db.budget.exceeded")
+                    .description("Requests that ran more queries than their endpoint declares")
+                    .tag("method", method)
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, String method, String uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", method)
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ada.insurance_app.core.persistence.query;
+
+import com.ada.insurance_app.core.exception.QueryBudgetExceededException;
+
+/**
+ * JDBC work done by the current thread since {@link #begin()}: statements prepared, round trips
+ * to the database (an executed statement or batch) and rows read from result sets.
+ * Updated by {@link CountingDataSource}; work done outside a begin/end pair is not counted.
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private int roundTrips;
+    private long rows;
+
+    private QueryBudget budget;
+    private String budgetOwner;
+    private boolean failFast;
+    private boolean exceeded;
+
+    private QueryStats() {
+    }
+
+    public static QueryStats begin() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * @return the stats of the current thread, or null when nothing is being counted
+     */
+    public static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Declares the budget the counts are checked against.
+     * @param failFast throw {@link QueryBudgetExceededException} from the statement or row that
+     *                 goes over the budget instead of only reporting it afterwards
+     */
+    public void enforce(QueryBudget budget, String owner, boolean failFast) {
+        this.budget = budget;
+        this.budgetOwner = owner;
+        this.failFast = failFast;
+    }
+
+    void onStatement() {
+        statements++;
+        check();
+    }
+
+    void onRoundTrip() {
+        roundTrips++;
+    }
+
+    void onRow() {
+        rows++;
+        check();
+    }
+
+    private void check() {
+        if (budget == null || exceeded || !isOverBudget()) {
+            return;
+        }
+        exceeded = true;
+        if (failFast) {
+            throw new QueryBudgetExceededException("Query budget exceeded by " + budgetOwner + ": " + this);
+        }
+    }
+
+    public boolean isOverBudget() {
+        return budget != null && (statements > budget.statements() || rows > budget.rows());
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getRoundTrips() {
+        return roundTrips;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public QueryBudget getBudget() {
+        return budget;
+    }
+
+    @Override
+    public String toString() {
+        String counts = statements + " statements, " + roundTrips + " round trips, " + rows + " rows";
+        if (budget == null) {
+            return counts;
+        }
+        return counts + " (budget " + budget.statements() + " statements"
+                + (budget.rows() == Integer.MAX_VALUE ? "" : ", " + budget.rows() + " rows") + ")";
+    }
+}
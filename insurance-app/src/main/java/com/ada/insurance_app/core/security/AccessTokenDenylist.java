@@ -0,0 +1,107 @@
+package com.ada.insurance_app.core.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory denylist of revoked access tokens, checked by the JWT filter with two hash lookups.
+ * <ul>
+ *     <li>single tokens (logout) are keyed by their jti</li>
+ *     <li>all tokens of a user (password change/reset) are revoked with a user epoch:
+ *     tokens issued before the epoch are rejected</li>
+ * </ul>
+ * Entries are grouped into buckets by expiry and whole buckets are dropped once expired,
+ * so memory only holds revocations for tokens that could still be presented.
+ * Persistence and startup loading are handled by TokenRevocationService.
+ */
+@Component
+public class AccessTokenDenylist {
+
+    // jti -> token expiry (epoch ms)
+    private final Map<String, Long> revokedTokenIds = new ConcurrentHashMap<>();
+    // userId -> tokens issued before this instant are revoked (epoch ms)
+    private final Map<UUID, Long> userEpochs = new ConcurrentHashMap<>();
+    // bucket start (epoch ms) -> jti or userId keys expiring in that bucket
+    private final ConcurrentSkipListMap<Long, Set<Object>> expiryBuckets = new ConcurrentSkipListMap<>();
+
+    @Value("${security.jwt.expirationMs}")
+    private long accessTokenExpirationMs;
+
+    @Value("${security.jwt.denylist.bucketMs:60000}")
+    private long bucketMs;
+
+    public void revokeToken(String jti, long expiresAtMs) {
+        if (jti == null || expiresAtMs <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokenIds.put(jti, expiresAtMs);
+        addToBucket(expiresAtMs, jti);
+    }
+
+    /**
+     * Revokes every access token of the user issued before the given instant.
+     */
+    public void revokeUserTokens(UUID userId, long issuedBeforeMs) {
+        if (userId == null) {
+            return;
+        }
+        long expiresAtMs = issuedBeforeMs + accessTokenExpirationMs;
+        if (expiresAtMs <= System.currentTimeMillis()) {
+            return;
+        }
+        userEpochs.merge(userId, issuedBeforeMs, Math::max);
+        addToBucket(expiresAtMs, userId);
+    }
+
+    public boolean isRevoked(String jti, UUID userId, Date issuedAt) {
+        if (jti != null && revokedTokenIds.containsKey(jti)) {
+            return true;
+        }
+        if (userId != null && issuedAt != null) {
+            Long epoch = userEpochs.get(userId);
+            // iat has second precision: compare against the epoch truncated to the second
+            return epoch != null && issuedAt.getTime() < epoch / 1000 * 1000;
+        }
+        return false;
+    }
+
+    public int size() {
+        return revokedTokenIds.size() + userEpochs.size();
+    }
+
+    @Scheduled(fixedDelayString = "${security.jwt.denylist.bucketMs:60000}")
+    public void pruneExpired() {
+        long now = System.currentTimeMillis();
+        ConcurrentNavigableMap<Long, Set<Object>> expired = expiryBuckets.headMap(bucketOf(now));
+
+        for (Map.Entry<Long, Set<Object>> bucket : expired.entrySet()) {
+            for (Object key : bucket.getValue()) {
+                if (key instanceof String jti) {
+                    revokedTokenIds.computeIfPresent(jti, (k, expiresAt) -> expiresAt <= now ? null : expiresAt);
+                } else if (key instanceof UUID userId) {
+                    userEpochs.computeIfPresent(userId,
+                            (k, epoch) -> epoch + accessTokenExpirationMs <= now ? null : epoch);
+                }
+            }
+            expiryBuckets.remove(bucket.getKey());
+        }
+    }
+
+    private void addToBucket(long expiresAtMs, Object key) {
+        // Bucket by the end of its window so a key is never dropped before it expires
+        expiryBuckets.computeIfAbsent(bucketOf(expiresAtMs) + bucketMs, b -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private long bucketOf(long epochMs) {
+        return epochMs - Math.floorMod(epochMs, bucketMs);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ada.insurance_app.core.security;
+
+import com.ada.insurance_app.core.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Throttles login and forgot-password attempts per email and per client IP.
+ * Checked in the controller so that rejected attempts never reach the database or the password encoder.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthRateLimiter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.rateLimit.maxKeys:100000}")
+    private int maxKeys;
+
+    @Value("${security.rateLimit.login.emailCapacity:5}")
+    private int loginEmailCapacity;
+
+    @Value("${security.rateLimit.login.ipCapacity:20}")
+    private int loginIpCapacity;
+
+    @Value("${security.rateLimit.login.refillSeconds:60}")
+    private long loginRefillSeconds;
+
+    @Value("${security.rateLimit.forgotPassword.emailCapacity:3}")
+    private int forgotPasswordEmailCapacity;
+
+    @Value("${security.rateLimit.forgotPassword.ipCapacity:10}")
+    private int forgotPasswordIpCapacity;
+
+    @Value("${security.rateLimit.forgotPassword.refillSeconds:900}")
+    private long forgotPasswordRefillSeconds;
+
+    private TokenBucketRateLimiter loginByEmail;
+    private TokenBucketRateLimiter loginByIp;
+    private TokenBucketRateLimiter forgotPasswordByEmail;
+    private TokenBucketRateLimiter forgotPasswordByIp;
+    private Counter loginRejected;
+    private Counter forgotPasswordRejected;
+
+    @PostConstruct
+    void init() {
+        Duration loginRefill = Duration.ofSeconds(loginRefillSeconds);
+        Duration forgotPasswordRefill = Duration.ofSeconds(forgotPasswordRefillSeconds);
+
+        loginByEmail = new TokenBucketRateLimiter(loginEmailCapacity, loginRefill, maxKeys);
+        loginByIp = new TokenBucketRateLimiter(loginIpCapacity, loginRefill, maxKeys);
+        forgotPasswordByEmail = new TokenBucketRateLimiter(forgotPasswordEmailCapacity, forgotPasswordRefill, maxKeys);
+        forgotPasswordByIp = new TokenBucketRateLimiter(forgotPasswordIpCapacity, forgotPasswordRefill, maxKeys);
+
+        loginRejected = Counter.builder("auth.rate_limit.rejected").tag("endpoint", "login")
+                .description("Authentication requests rejected by the rate limiter")
+                .register(meterRegistry);
+        forgotPasswordRejected = Counter.builder("auth.rate_limit.rejected").tag("endpoint", "forgot_password")
+                .description("Authentication requests rejected by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    public void checkLogin(String email, String clientIp) {
+        if (!allowed(loginByIp, clientIp) || !allowed(loginByEmail, normalize(email))) {
+            loginRejected.increment();
+            throw new TooManyRequestsException("Too many login attempts, please try again later");
+        }
+    }
+
+    public void checkForgotPassword(String email, String clientIp) {
+        if (!allowed(forgotPasswordByIp, clientIp) || !allowed(forgotPasswordByEmail, normalize(email))) {
+            forgotPasswordRejected.increment();
+            throw new TooManyRequestsException("Too many password reset requests, please try again later");
+        }
+    }
+
+    private static boolean allowed(TokenBucketRateLimiter limiter, String key) {
+        return key == null || limiter.tryAcquire(key);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
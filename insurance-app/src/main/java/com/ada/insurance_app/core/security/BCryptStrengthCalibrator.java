@@ -0,0 +1,45 @@
+package com.ada.insurance_app.core.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Picks the BCrypt cost factor whose hashing time on this machine is closest to,
+ * without exceeding, a target latency.
+ */
+@Slf4j
+public final class BCryptStrengthCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password-1";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(long targetMs, int minStrength, int maxStrength) {
+        int strength = minStrength;
+        long elapsedMs = measure(strength);
+
+        // Each cost step doubles the work, so stop once the next step would overshoot the target
+        while (strength < maxStrength && elapsedMs * 2 <= targetMs) {
+            strength++;
+            elapsedMs = measure(strength);
+        }
+
+        log.info("BCrypt strength calibrated to {} ({} ms per hash, target {} ms)", strength, elapsedMs, targetMs);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD); // warm-up
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
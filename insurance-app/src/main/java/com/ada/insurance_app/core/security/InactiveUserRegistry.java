@@ -0,0 +1,51 @@
+package com.ada.insurance_app.core.security;
+
+import com.ada.insurance_app.entity.User;
+import com.ada.insurance_app.repository.auth.User.IUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory set of deactivated user ids, so the JWT filter can reject their tokens
+ * without querying the users table on every request.
+ * Loaded at startup and kept current by {@link UserStatusListener}.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InactiveUserRegistry {
+
+    private final IUserRepository userRepository;
+
+    private final Set<UUID> inactiveUserIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        userRepository.findByActive(false).stream()
+                .map(User::getId)
+                .forEach(inactiveUserIds::add);
+        log.info("Loaded {} inactive users", inactiveUserIds.size());
+    }
+
+    public boolean isInactive(UUID userId) {
+        return userId != null && inactiveUserIds.contains(userId);
+    }
+
+    public void update(UUID userId, boolean active) {
+        if (userId == null) {
+            return;
+        }
+        if (active) {
+            inactiveUserIds.remove(userId);
+        } else {
+            inactiveUserIds.add(userId);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.ada.insurance_app.core.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -21,6 +23,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final InactiveUserRegistry inactiveUserRegistry;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -29,22 +34,44 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String token = SecurityUtils.extractToken(request);
-        
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            
-            try {
-                var userDetails = userDetailsService.loadUserByUsername(username);
 
+        if (token != null) {
+            VerifiedTokenCache.VerifiedToken verified = verifiedTokenCache.get(token);
+
+            if (verified == null) {
+                Claims claims = jwtTokenProvider.parseClaims(token);
+                if (claims != null) {
+                    try {
+                        UserDetails principal = JwtUserPrincipal.fromClaims(claims);
+                        if (principal == null) {
+                            // Token issued before role claims existed: resolve the user once
+                            principal = userDetailsService.loadUserByUsername(claims.getSubject());
+                        }
+                        verified = verifiedTokenCache.put(token, claims, principal);
+                    } catch (Exception e) {
+                        // Silent fail for security reasons
+                    }
+                }
+            }
+
+            if (verified != null && !isRevoked(verified)) {
+                var userDetails = verified.userDetails();
                 var auth = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
 
                 SecurityContextHolder.getContext().setAuthentication(auth);
-            } catch (Exception e) {
-                // Silent fail for security reasons
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean isRevoked(VerifiedTokenCache.VerifiedToken verified) {
+        if (!(verified.userDetails() instanceof SecurityUtils.CustomUserDetailsInterface details)) {
+            return false;
+        }
+        Claims claims = verified.claims();
+        return inactiveUserRegistry.isInactive(details.getId())
+                || accessTokenDenylist.isRevoked(claims.getId(), details.getId(), claims.getIssuedAt());
+    }
 }
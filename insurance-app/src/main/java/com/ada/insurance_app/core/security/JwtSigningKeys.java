@@ -0,0 +1,76 @@
+package com.ada.insurance_app.core.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable set of HS512 keys identified by kid.
+ * New tokens are signed with the active key; tokens are verified with the key named in their
+ * kid header, so a previous key stays valid until the tokens it signed have expired.
+ * Tokens without a kid header (issued before key rotation existed) are verified with the active key.
+ */
+public final class JwtSigningKeys extends SigningKeyResolverAdapter {
+
+    private static final String HMAC_SHA512 = "HmacSHA512";
+
+    private final String activeKid;
+    private final SecretKey activeKey;
+    private final Map<String, SecretKey> keysByKid;
+
+    /**
+     * @param activeKid    kid written to new tokens
+     * @param activeSecret Base64 secret of the active key
+     * @param previousKeys verification-only keys as "kid:base64Secret" pairs separated by commas, may be empty
+     */
+    public JwtSigningKeys(String activeKid, String activeSecret, String previousKeys) {
+        Map<String, SecretKey> keys = new HashMap<>();
+        if (previousKeys != null && !previousKeys.isBlank()) {
+            for (String entry : previousKeys.split(",")) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("Invalid JWT key entry, expected kid:secret");
+                }
+                keys.put(entry.substring(0, separator).trim(), toKey(entry.substring(separator + 1).trim()));
+            }
+        }
+        this.activeKid = activeKid;
+        this.activeKey = toKey(activeSecret);
+        keys.put(activeKid, activeKey);
+        this.keysByKid = Map.copyOf(keys);
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    public SecretKey getActiveKey() {
+        return activeKey;
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            return activeKey;
+        }
+        SecretKey key = keysByKid.get(kid);
+        if (key == null) {
+            throw new UnsupportedJwtException("Unknown signing key id: " + kid);
+        }
+        return key;
+    }
+
+    // Same decoding as the former signWith(HS512, String), so existing secrets keep working
+    private static SecretKey toKey(String base64Secret) {
+        return new SecretKeySpec(Decoders.BASE64.decode(base64Secret), HMAC_SHA512);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ada.insurance_app.core.security;
 
 import io.jsonwebtoken.*;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -16,9 +17,27 @@ public class JwtTokenProvider {
     @Value("${security.jwt.secret}")
     private String jwtSecret;
 
+    @Value("${security.jwt.kid:primary}")
+    private String jwtKid;
+
+    @Value("${security.jwt.previousKeys:}")
+    private String jwtPreviousKeys;
+
     @Value("${security.jwt.expirationMs}")
     private Long jwtExpirationMs;
 
+    // Built once: key material is decoded at startup and the parser is thread-safe
+    private JwtSigningKeys signingKeys;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    void init() {
+        signingKeys = new JwtSigningKeys(jwtKid, jwtSecret, jwtPreviousKeys);
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(signingKeys)
+                .build();
+    }
+
     public String generateToken(Authentication authentication) {
         try {
             String username = authentication.getName();
@@ -33,14 +52,16 @@ public class JwtTokenProvider {
             Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
             JwtBuilder builder = Jwts.builder()
+                    .setId(UUID.randomUUID().toString())
                     .setSubject(username)
                     .setIssuedAt(now)
                     .setExpiration(expiryDate)
-                    .signWith(SignatureAlgorithm.HS512, jwtSecret);
+                    .setHeaderParam(JwsHeader.KEY_ID, signingKeys.getActiveKid())
+                    .signWith(signingKeys.getActiveKey(), SignatureAlgorithm.HS512);
             
             // Add user ID as a claim if available
             if (userId != null) {
-                builder.claim("userId", userId.toString());
+                builder.claim(JwtUserPrincipal.CLAIM_USER_ID, userId.toString());
             }
 
             String token = builder.compact();
@@ -50,10 +71,56 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Verifies the signature and expiry of the token in a single parse.
+     * @return the token claims, or null if the token is invalid or expired
+     */
+    public Claims parseClaims(String token) {
+        try {
+            Claims claims = jwtParser
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            if (claims.getExpiration() == null || claims.getExpiration().before(new Date())) {
+                return null;
+            }
+            return claims;
+        } catch (Exception ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Issues a self-contained token: the filter rebuilds the principal from these claims
+     * without loading the user.
+     */
+    public String generateToken(JwtUserPrincipal principal) {
+        Date now = new Date();
+        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+
+        JwtBuilder builder = Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(principal.getUsername())
+                .setIssuedAt(now)
+                .setExpiration(expiryDate)
+                .claim(JwtUserPrincipal.CLAIM_USER_ID, principal.getId().toString())
+                .claim(JwtUserPrincipal.CLAIM_ROLE, principal.getRole().name())
+                .setHeaderParam(JwsHeader.KEY_ID, signingKeys.getActiveKid())
+                .signWith(signingKeys.getActiveKey(), SignatureAlgorithm.HS512);
+
+        if (principal.getCustomerId() != null) {
+            builder.claim(JwtUserPrincipal.CLAIM_CUSTOMER_ID, principal.getCustomerId().toString());
+        }
+        if (principal.getAgentId() != null) {
+            builder.claim(JwtUserPrincipal.CLAIM_AGENT_ID, principal.getAgentId().toString());
+        }
+
+        return builder.compact();
+    }
+
     public String getUsernameFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(jwtSecret)
+            return jwtParser
                     .parseClaimsJws(token)
                     .getBody()
                     .getSubject();
@@ -64,36 +131,22 @@ public class JwtTokenProvider {
 
     public UUID getUserIdFromToken(String token) {
         try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(jwtSecret)
+            Claims claims = jwtParser
                     .parseClaimsJws(token)
                     .getBody();
             
-            String userIdStr = claims.get("userId", String.class);
-            if (userIdStr != null) {
-                return UUID.fromString(userIdStr);
-            }
-            return null;
+            return getUserIdFromClaims(claims);
         } catch (Exception e) {
             return null;
         }
     }
 
+    public UUID getUserIdFromClaims(Claims claims) {
+        String userIdStr = claims.get(JwtUserPrincipal.CLAIM_USER_ID, String.class);
+        return userIdStr != null ? UUID.fromString(userIdStr) : null;
+    }
+
     public boolean validateToken(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .setSigningKey(jwtSecret)
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            // Check if token is expired
-            if (claims.getExpiration().before(new Date())) {
-                return false;
-            }
-            
-            return true;
-        } catch (Exception ex) {
-            return false;
-        }
+        return parseClaims(token) != null;
     }
 }
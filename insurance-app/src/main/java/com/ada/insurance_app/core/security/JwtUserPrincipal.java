@@ -0,0 +1,65 @@
+package com.ada.insurance_app.core.security;
+
+import com.ada.insurance_app.core.enums.Role;
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * Authenticated caller rebuilt from access token claims, without a database lookup.
+ * customerId is set for CUSTOMER users and agentId for AGENT users.
+ */
+@Getter
+@AllArgsConstructor
+public class JwtUserPrincipal implements SecurityUtils.CustomUserDetailsInterface {
+
+    public static final String CLAIM_USER_ID = "userId";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_CUSTOMER_ID = "customerId";
+    public static final String CLAIM_AGENT_ID = "agentId";
+
+    private final UUID id;
+    private final String username;
+    private final Role role;
+    private final UUID customerId;
+    private final UUID agentId;
+
+    /**
+     * @return the principal, or null if the token predates the role/userId claims
+     */
+    public static JwtUserPrincipal fromClaims(Claims claims) {
+        String userId = claims.get(CLAIM_USER_ID, String.class);
+        String role = claims.get(CLAIM_ROLE, String.class);
+        if (userId == null || role == null) {
+            return null;
+        }
+        return new JwtUserPrincipal(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                Role.valueOf(role),
+                parseUuid(claims.get(CLAIM_CUSTOMER_ID, String.class)),
+                parseUuid(claims.get(CLAIM_AGENT_ID, String.class))
+        );
+    }
+
+    private static UUID parseUuid(String value) {
+        return value != null ? UUID.fromString(value) : null;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    @Override public String getPassword() { return null; }
+    @Override public boolean isAccountNonExpired() { return true; }
+    @Override public boolean isAccountNonLocked() { return true; }
+    @Override public boolean isCredentialsNonExpired() { return true; }
+    @Override public boolean isEnabled() { return true; }
+}
@@ -1,6 +1,8 @@
 package com.ada.insurance_app.core.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -62,8 +64,28 @@ public class SecurityConfig {
         return config.getAuthenticationManager();
     }
 
+    /**
+     * BCrypt on a dedicated bounded pool. The cost factor is fixed by security.password.bcrypt.strength,
+     * or calibrated at startup against security.password.bcrypt.targetMs when the strength is not set.
+     * Stored hashes with a lower cost are upgraded on the next successful login
+     * (see UserDetailsServiceImpl.updatePassword).
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${security.password.bcrypt.strength:0}") int strength,
+            @Value("${security.password.bcrypt.targetMs:250}") long targetMs,
+            @Value("${security.password.bcrypt.minStrength:10}") int minStrength,
+            @Value("${security.password.bcrypt.maxStrength:14}") int maxStrength,
+            @Value("${security.password.hashing.poolSize:0}") int poolSize,
+            @Value("${security.password.hashing.queueCapacity:50}") int queueCapacity,
+            @Value("${security.password.hashing.timeoutMs:5000}") long timeoutMs) {
+        int bcryptStrength = strength > 0
+                ? strength
+                : BCryptStrengthCalibrator.calibrate(targetMs, minStrength, maxStrength);
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptStrength), threads, queueCapacity, timeoutMs, meterRegistry);
     }
 }
@@ -28,6 +28,17 @@ public class SecurityUtils {
         }
     }
 
+    /**
+     * Remote address of the current request, or null outside a request.
+     * Behind a proxy, enable server.forward-headers-strategy so this is the client address.
+     */
+    public static String getClientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+
     public static Authentication getCurrentAuthentication() {
         return SecurityContextHolder.getContext().getAuthentication();
     }
@@ -88,6 +99,32 @@ public class SecurityUtils {
         }
     }
 
+    /**
+     * @return customer id carried by the access token, or null if the caller is not a customer
+     * or authenticated with a token issued before the customerId claim existed
+     */
+    public static UUID getCurrentCustomerId() {
+        JwtUserPrincipal principal = getCurrentJwtPrincipal();
+        return principal != null ? principal.getCustomerId() : null;
+    }
+
+    /**
+     * @return agent id carried by the access token, or null if the caller is not an agent
+     * or authenticated with a token issued before the agentId claim existed
+     */
+    public static UUID getCurrentAgentId() {
+        JwtUserPrincipal principal = getCurrentJwtPrincipal();
+        return principal != null ? principal.getAgentId() : null;
+    }
+
+    private static JwtUserPrincipal getCurrentJwtPrincipal() {
+        Authentication authentication = getCurrentAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
     public static boolean isAuthenticated() {
         Authentication authentication = getCurrentAuthentication();
         return authentication != null && authentication.isAuthenticated();
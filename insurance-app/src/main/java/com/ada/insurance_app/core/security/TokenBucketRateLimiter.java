@@ -0,0 +1,76 @@
+package com.ada.insurance_app.core.security;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-key token buckets holding {@code capacity} tokens that refill evenly over {@code refillPeriod}.
+ * <p>
+ * Each bucket is a single AtomicLong holding the instant at which it will be full again
+ * (the GCRA form of a token bucket), so acquiring is one CAS loop without locks.
+ * A bucket that is full carries no information and may be dropped; memory is bounded by
+ * {@code maxKeys}, and once that many keys are tracked full buckets are evicted. If every
+ * tracked key is still throttled, new keys are let through untracked rather than rejected.
+ */
+public final class TokenBucketRateLimiter {
+
+    private static final long SWEEP_INTERVAL_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final long tokenIntervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepAt = new AtomicLong(System.nanoTime());
+
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, int maxKeys) {
+        if (capacity <= 0 || refillPeriod.isZero() || refillPeriod.isNegative() || maxKeys <= 0) {
+            throw new IllegalArgumentException("Rate limiter capacity, refill period and max keys must be positive");
+        }
+        this.tokenIntervalNanos = refillPeriod.toNanos() / capacity;
+        this.burstNanos = tokenIntervalNanos * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     * @return false if the bucket is empty and the call should be rejected
+     */
+    public boolean tryAcquire(String key) {
+        long now = System.nanoTime();
+        AtomicLong fullAt = buckets.get(key);
+        if (fullAt == null) {
+            if (buckets.size() >= maxKeys) {
+                evictFullBuckets(now);
+                if (buckets.size() >= maxKeys) {
+                    return true;
+                }
+            }
+            fullAt = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + tokenIntervalNanos;
+            if (next - now > burstNanos) {
+                return false;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private void evictFullBuckets(long now) {
+        long sweepAt = nextSweepAt.get();
+        // One sweep at a time, at most once per interval, so a flood of new keys stays O(1) per call
+        if (now - sweepAt < 0 || !nextSweepAt.compareAndSet(sweepAt, now + SWEEP_INTERVAL_NANOS)) {
+            return;
+        }
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() - now <= 0);
+    }
+}
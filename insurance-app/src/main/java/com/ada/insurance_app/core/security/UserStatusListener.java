@@ -0,0 +1,26 @@
+package com.ada.insurance_app.core.security;
+
+import com.ada.insurance_app.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps {@link InactiveUserRegistry} in sync with User.active, whichever service changes it.
+ * The registry is looked up lazily: Hibernate instantiates this listener while the
+ * EntityManagerFactory the registry depends on is still being built.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserStatusListener {
+
+    private final ObjectProvider<InactiveUserRegistry> inactiveUserRegistry;
+
+    @PostPersist
+    @PostUpdate
+    public void onUserSaved(User user) {
+        inactiveUserRegistry.getObject().update(user.getId(), user.isActive());
+    }
+}
@@ -0,0 +1,93 @@
+package com.ada.insurance_app.core.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of already verified access tokens.
+ * Entries are keyed by a SHA-256 hash of the token, so raw tokens are never kept in memory,
+ * and expire at the token expiry or after the configured TTL, whichever comes first.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    @Value("${security.jwt.cache.maxEntries:10000}")
+    private int maxEntries;
+
+    @Value("${security.jwt.cache.ttlMs:300000}") // Default 5 minutes
+    private long ttlMs;
+
+    public VerifiedToken get(String token) {
+        String key = hash(token);
+        VerifiedToken verified = entries.get(key);
+        if (verified == null) {
+            return null;
+        }
+        if (verified.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, verified);
+            return null;
+        }
+        return verified;
+    }
+
+    public VerifiedToken put(String token, Claims claims, UserDetails userDetails) {
+        long now = System.currentTimeMillis();
+        long expiresAt = Math.min(claims.getExpiration().getTime(), now + ttlMs);
+        VerifiedToken verified = new VerifiedToken(claims, userDetails, expiresAt);
+
+        if (entries.size() >= maxEntries) {
+            evictExpired(now);
+        }
+        // Still full: skip caching, the token is simply verified again next time
+        if (entries.size() < maxEntries) {
+            entries.put(hash(token), verified);
+        }
+        return verified;
+    }
+
+    public void invalidate(String token) {
+        entries.remove(hash(token));
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record VerifiedToken(Claims claims, UserDetails userDetails, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ada.insurance_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AgentLeaderboardDto {
+    // Null until the first scoring run has completed
+    private LocalDateTime generatedAt;
+    private List<AgentLeaderboardEntryDto> entries;
+}
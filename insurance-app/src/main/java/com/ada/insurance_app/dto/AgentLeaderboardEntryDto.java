@@ -0,0 +1,23 @@
+package com.ada.insurance_app.dto;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AgentLeaderboardEntryDto {
+    private int rank;
+    private String agentNumber;
+    private String agentName;
+    private String region;
+    // Set when ranked within one insurance type
+    private InsuranceType insuranceType;
+    private long totalPolicies;
+    private double conversionRate;
+    private double noClaimPolicyRate;
+    private double netProfitability;
+    private double performanceScore;
+}
@@ -9,6 +9,8 @@ public class CustomerDashboardDto {
 
     private int totalPolicies;
     private int totalClaims;
+    private int openClaims;
     private int totalPayments;
     private BigDecimal totalPremium;
+    private int pendingOffers;
 }
@@ -0,0 +1,27 @@
+package com.ada.insurance_app.dto;
+
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.ada.insurance_app.core.enums.ExportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ExportJobDto {
+    private UUID id;
+    // policies, payments or claims
+    private String register;
+    private ExportFormat format;
+    private ExportJobStatus status;
+    private long rowsWritten;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String error;
+    // Set once the job has completed
+    private String downloadUrl;
+}
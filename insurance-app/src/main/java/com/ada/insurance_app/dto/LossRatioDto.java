@@ -0,0 +1,17 @@
+package com.ada.insurance_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LossRatioDto {
+    // Coverage code, insurance type, city or month (yyyy-MM), depending on the grouping
+    private String key;
+    private double earnedPremium;
+    private double claimsPaid;
+    // claimsPaid / earnedPremium * 100, null when nothing was earned
+    private Double lossRatio;
+}
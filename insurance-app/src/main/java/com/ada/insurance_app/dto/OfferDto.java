@@ -16,6 +16,7 @@ public class OfferDto {
     private Long id;
     private String offerNumber;
     private BigDecimal totalPremium;
+    private Long priceCatalogVersion;
     private OfferStatus status;
     private CustomerDto customer;
     private String note;
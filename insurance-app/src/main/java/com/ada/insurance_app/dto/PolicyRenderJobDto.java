@@ -0,0 +1,28 @@
+package com.ada.insurance_app.dto;
+
+import com.ada.insurance_app.core.enums.ExportJobStatus;
+import com.ada.insurance_app.core.enums.PolicyDocumentKind;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PolicyRenderJobDto {
+    private UUID id;
+    private PolicyDocumentKind kind;
+    // Policies in this status are re-rendered
+    private PolicyStatus policyStatus;
+    private ExportJobStatus status;
+    private int policies;
+    private int rendered;
+    private int failed;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
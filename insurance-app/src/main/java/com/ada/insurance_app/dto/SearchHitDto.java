@@ -0,0 +1,21 @@
+package com.ada.insurance_app.dto;
+
+import com.ada.insurance_app.core.enums.SearchScope;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchHitDto {
+    private SearchScope scope;
+    private String id;
+    // Claim number, payment reference, file name or coverage name
+    private String title;
+    // Policy number, document type or coverage code
+    private String subtitle;
+    // HTML-escaped fragments with the matched terms wrapped in <mark>
+    private String highlight;
+    private double rank;
+}
@@ -0,0 +1,19 @@
+package com.ada.insurance_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimeSeriesPointDto {
+    private LocalDate bucketStart;
+    private long count;
+    private BigDecimal amount;
+    // Claims only: sum of approved amounts
+    private BigDecimal approvedAmount;
+}
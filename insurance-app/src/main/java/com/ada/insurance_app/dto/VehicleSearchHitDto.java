@@ -0,0 +1,22 @@
+package com.ada.insurance_app.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class VehicleSearchHitDto {
+    private UUID id;
+    private String plateNumber;
+    private String vin;
+    private String make;
+    private String model;
+    private Integer year;
+    private UUID customerId;
+    // Higher is closer: 2 exact plate, 1 plate prefix, otherwise trigram similarity between 0 and 1
+    private double score;
+}
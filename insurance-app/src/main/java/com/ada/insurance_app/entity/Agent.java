@@ -1,9 +1,12 @@
 package com.ada.insurance_app.entity;
 
+import com.ada.insurance_app.core.persistence.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -14,7 +17,10 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "agents")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.AGENT)
+@Table(name = "agents",
+        indexes = @Index(name = "idx_agents_created_at_id", columnList = "created_at, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -52,6 +58,7 @@ public class Agent {
     private String postalCode;
 
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.AGENT_POLICIES)
     @OneToMany(mappedBy = "agent", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Policy> policies = new ArrayList<>();
 
@@ -0,0 +1,50 @@
+package com.ada.insurance_app.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model of an agent's portfolio totals, kept current by AgentStatsEventListener
+ * and periodically recomputed from the source tables by AgentStatsReconciliationService.
+ */
+@Entity
+@Table(name = "agent_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+public class AgentStats {
+
+    @Id
+    @Column(name = "agent_id")
+    private UUID agentId;
+
+    @Column(name = "total_offers", nullable = false)
+    private long totalOffers;
+
+    @Column(name = "total_policies", nullable = false)
+    private long totalPolicies;
+
+    @Column(name = "approved_policies", nullable = false)
+    private long approvedPolicies;
+
+    @Column(name = "total_payments", nullable = false)
+    private long totalPayments;
+
+    @Column(name = "total_premium", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalPremium = BigDecimal.ZERO;
+
+    @Column(name = "total_claims", nullable = false)
+    private long totalClaims;
+
+    @Column(name = "total_claim_paid", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalClaimPaid = BigDecimal.ZERO;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
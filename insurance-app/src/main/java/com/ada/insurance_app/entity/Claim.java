@@ -16,7 +16,11 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "claims")
+@Table(name = "claims",
+        indexes = {
+                @Index(name = "idx_claims_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_claims_policy_id", columnList = "policy_id")
+        })
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,55 @@
+package com.ada.insurance_app.entity;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Claims aggregated per incident day, insurance type, agent and status.
+ * Policies without an agent are recorded under {@link PaymentDailyRollup#NO_AGENT}.
+ */
+@Entity
+@Table(name = "claim_daily_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_claim_daily_rollup",
+                        columnNames = {"day", "insurance_type", "agent_id", "status"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+public class ClaimDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "insurance_type", nullable = false)
+    private InsuranceType insuranceType;
+
+    @Column(name = "agent_id", nullable = false)
+    private UUID agentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ClaimStatus status;
+
+    @Column(name = "claim_count", nullable = false)
+    private long claimCount;
+
+    @Column(name = "estimated_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal estimatedAmount = BigDecimal.ZERO;
+
+    @Column(name = "approved_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal approvedAmount = BigDecimal.ZERO;
+}
@@ -1,11 +1,14 @@
 package com.ada.insurance_app.entity;
 
 import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.persistence.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -15,7 +18,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "coverages")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.COVERAGE)
+@Table(name = "coverages",
+        indexes = @Index(name = "idx_coverages_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
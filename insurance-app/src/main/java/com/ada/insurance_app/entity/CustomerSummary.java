@@ -0,0 +1,47 @@
+package com.ada.insurance_app.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model of a customer's dashboard figures, kept current by CustomerSummaryEventListener
+ * and periodically recomputed from the source tables by CustomerSummaryReconciliationService.
+ */
+@Entity
+@Table(name = "customer_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CustomerSummary {
+
+    @Id
+    @Column(name = "customer_id")
+    private UUID customerId;
+
+    @Column(name = "total_policies", nullable = false)
+    private long totalPolicies;
+
+    @Column(name = "total_claims", nullable = false)
+    private long totalClaims;
+
+    @Column(name = "open_claims", nullable = false)
+    private long openClaims;
+
+    @Column(name = "total_payments", nullable = false)
+    private long totalPayments;
+
+    @Column(name = "total_premium", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalPremium = BigDecimal.ZERO;
+
+    @Column(name = "pending_offers", nullable = false)
+    private long pendingOffers;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
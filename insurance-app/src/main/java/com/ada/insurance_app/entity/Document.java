@@ -43,6 +43,10 @@ public class Document {
     @Enumerated(EnumType.STRING)
     private DocumentType documentType;
 
+    // Set only on documents the application renders: at most one per policy and file name
+    @Column(unique = true)
+    private String generatedKey;
+
     // Relationships - a document can be linked to either a policy, claim, or customer
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "policy_id")
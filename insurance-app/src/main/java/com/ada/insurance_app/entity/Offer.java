@@ -2,11 +2,14 @@ package com.ada.insurance_app.entity;
 
 import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.core.enums.OfferStatus;
+import com.ada.insurance_app.core.persistence.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -16,7 +19,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "offers")
+@Table(name = "offers",
+        indexes = @Index(name = "idx_offers_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -34,6 +38,7 @@ public class Offer {
     @JoinColumn(name = "policy_id",nullable = true)
     private Policy policy;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.OFFER_COVERAGES)
     @ManyToMany
     @JoinTable(
             name = "offer_coverages",
@@ -47,6 +52,9 @@ public class Offer {
     @Column(nullable = false)
     private BigDecimal totalPremium;
 
+    // CoveragePriceCatalog version the total premium was calculated with
+    private Long priceCatalogVersion;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private OfferStatus status;  // PENDING, ACCEPTED, REJECTED
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "payments")
+@Table(name = "payments",
+        indexes = @Index(name = "idx_payments_policy_id", columnList = "policy_id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
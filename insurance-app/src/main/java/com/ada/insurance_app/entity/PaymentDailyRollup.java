@@ -0,0 +1,54 @@
+package com.ada.insurance_app.entity;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Payments aggregated per payment day, insurance type, agent and status.
+ * Policies without an agent are recorded under {@link #NO_AGENT}.
+ */
+@Entity
+@Table(name = "payment_daily_rollups",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_payment_daily_rollup",
+                        columnNames = {"day", "insurance_type", "agent_id", "status"})
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+public class PaymentDailyRollup {
+
+    public static final UUID NO_AGENT = new UUID(0L, 0L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "insurance_type", nullable = false)
+    private InsuranceType insuranceType;
+
+    @Column(name = "agent_id", nullable = false)
+    private UUID agentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PaymentStatus status;
+
+    @Column(name = "payment_count", nullable = false)
+    private long paymentCount;
+
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount = BigDecimal.ZERO;
+}
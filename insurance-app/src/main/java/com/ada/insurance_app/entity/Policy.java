@@ -2,11 +2,14 @@ package com.ada.insurance_app.entity;
 
 import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.ada.insurance_app.core.persistence.CacheRegions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,7 +20,8 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "policies")
+@Table(name = "policies",
+        indexes = @Index(name = "idx_policies_created_at_id", columnList = "created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -73,6 +77,7 @@ public class Policy {
     @JoinColumn(name = "home_detail_id")
     private HomeInsuranceDetail homeInsuranceDetail;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.POLICY_COVERAGES)
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "policy_coverages",
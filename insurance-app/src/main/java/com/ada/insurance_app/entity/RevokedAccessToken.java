@@ -0,0 +1,45 @@
+package com.ada.insurance_app.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A revoked access token (jti set) or a revocation of every access token of a user issued
+ * before revokedAt (jti null). Rows are only kept until expiresAt, after which the tokens
+ * they cover are rejected on expiry anyway.
+ */
+@Entity
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_access_tokens",
+        indexes = {
+                @Index(name = "idx_revoked_access_token_expires_at", columnList = "expires_at")
+        })
+public class RevokedAccessToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "jti", unique = true, length = 64)
+    private String jti;
+
+    @Column(name = "user_id")
+    private UUID userId;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isUserWide() {
+        return jti == null;
+    }
+}
@@ -1,10 +1,14 @@
 package com.ada.insurance_app.entity;
 
 import com.ada.insurance_app.core.enums.Role;
+import com.ada.insurance_app.core.persistence.CacheRegions;
+import com.ada.insurance_app.core.security.UserStatusListener;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.security.core.GrantedAuthority;
@@ -16,7 +20,11 @@ import java.util.Set;
 import java.util.UUID;
 
 @Entity
-@Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.USER)
+@Table(name = "users",
+        indexes = @Index(name = "idx_users_created_at_id", columnList = "created_at, id"))
+@EntityListeners(UserStatusListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
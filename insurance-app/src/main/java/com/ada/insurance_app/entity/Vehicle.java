@@ -4,19 +4,25 @@ package com.ada.insurance_app.entity;
 import com.ada.insurance_app.core.enums.FuelType;
 import com.ada.insurance_app.core.enums.GearType;
 import com.ada.insurance_app.core.enums.UsageType;
+import com.ada.insurance_app.service.vehicle.VehicleKeys;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 import java.util.UUID;
 
 @Entity
-@Table(name = "vehicles")
+@Table(name = "vehicles",
+        indexes = @Index(name = "idx_vehicles_created_at_id", columnList = "created_at, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -41,6 +47,17 @@ public class Vehicle {
     @Column(nullable = false, unique = true)
     private String vin; // Şasi No
 
+    // Normalized plate and VIN (see VehicleKeys), derived on every save; the unique plate_key keeps one
+    // plate from being stored twice with different spacing. A row left without a key by the backfill in
+    // FullTextSearchSchema (its plate clashes with an older one) only gets one when its plate changes
+    @Setter(AccessLevel.NONE)
+    @Column(name = "plate_key", unique = true)
+    private String plateKey;
+
+    @Setter(AccessLevel.NONE)
+    @Column(name = "vin_key")
+    private String vinKey;
+
     @Column(nullable = false, unique = true)
     private String engineNumber;
 
@@ -75,4 +92,22 @@ public class Vehicle {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String loadedPlateNumber;
+
+    @PostLoad
+    void rememberPlate() {
+        loadedPlateNumber = plateNumber;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void updateKeys() {
+        if (plateKey != null || !Objects.equals(plateNumber, loadedPlateNumber)) {
+            plateKey = VehicleKeys.normalize(plateNumber);
+        }
+        vinKey = VehicleKeys.normalize(vin);
+    }
 }
@@ -21,5 +21,6 @@ public interface DocumentMapper {
     @Mapping(target = "claim", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "generatedKey", ignore = true)
     Document toEntity(DocumentDto documentDto);
 }
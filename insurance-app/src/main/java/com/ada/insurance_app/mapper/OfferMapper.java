@@ -21,6 +21,7 @@ public interface OfferMapper {
 
     @Mapping(target = "customer", ignore = true)
     @Mapping(target = "coverages", ignore = true)
+    @Mapping(target = "priceCatalogVersion", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "acceptedAt", ignore = true)
@@ -0,0 +1,15 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.entity.Coverage;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface CachedCoverageLookup {
+
+    /**
+     * Coverages by id, served from the second-level cache where possible; the misses are loaded
+     * in a single query. Unknown ids are skipped.
+     */
+    List<Coverage> findAllByIdCached(Collection<Long> ids);
+}
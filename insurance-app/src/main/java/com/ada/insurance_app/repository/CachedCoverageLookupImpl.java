@@ -0,0 +1,31 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.entity.Coverage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+class CachedCoverageLookupImpl implements CachedCoverageLookup {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Coverage> findAllByIdCached(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        // Unlike findAllById's IN query, multiLoad checks the session and the second-level cache first
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Coverage.class)
+                .multiLoad(new ArrayList<>(ids))
+                .stream()
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
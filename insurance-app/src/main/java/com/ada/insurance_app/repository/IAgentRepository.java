@@ -2,11 +2,14 @@ package com.ada.insurance_app.repository;
 
 import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.entity.Agent;
+import com.ada.insurance_app.repository.projection.AgentTypeStatsView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,14 +17,92 @@ import java.util.UUID;
 @Repository
 public interface IAgentRepository extends JpaRepository<Agent, UUID> {
 
+    // Every agent's totals in one statement: each table is aggregated once, grouped by agent.
+    // Column aliases match AgentStatsView; used to rebuild the agent_stats read model.
+    String AGENT_STATS_QUERY = "WITH policy_totals AS (" +
+            "  SELECT p.agent_id, COUNT(*) AS policies," +
+            "         COUNT(*) FILTER (WHERE p.status = 'ACTIVE') AS approved_policies," +
+            "         COUNT(pay.id) AS payments," +
+            "         COALESCE(SUM(p.premium) FILTER (WHERE pay.status = 'SUCCESS'), 0) AS premium" +
+            "  FROM {h-schema}policies p LEFT JOIN {h-schema}payments pay ON pay.policy_id = p.id" +
+            "  GROUP BY p.agent_id), " +
+            "claim_totals AS (" +
+            "  SELECT p.agent_id, COUNT(*) AS claims," +
+            "         COALESCE(SUM(c.approved_amount) FILTER (WHERE c.status = 'APPROVED'), 0) AS claim_paid" +
+            "  FROM {h-schema}claims c JOIN {h-schema}policies p ON p.id = c.policy_id" +
+            "  GROUP BY p.agent_id), " +
+            "offer_totals AS (" +
+            "  SELECT o.agent_id, COUNT(*) AS offers FROM {h-schema}offers o GROUP BY o.agent_id) " +
+            "SELECT a.id AS \"agentId\", a.name AS \"agentName\", a.agent_number AS \"agentNumber\"," +
+            "       COALESCE(pt.policies, 0) AS \"totalPolicies\"," +
+            "       COALESCE(pt.approved_policies, 0) AS \"approvedPolicies\"," +
+            "       COALESCE(pt.payments, 0) AS \"totalPayments\"," +
+            "       COALESCE(pt.premium, 0) AS \"totalPremium\"," +
+            "       COALESCE(ct.claims, 0) AS \"totalClaims\"," +
+            "       COALESCE(ct.claim_paid, 0) AS \"totalClaimPaid\"," +
+            "       COALESCE(ot.offers, 0) AS \"totalOffers\" " +
+            "FROM {h-schema}agents a " +
+            "JOIN {h-schema}users u ON u.id = a.user_id " +
+            "LEFT JOIN policy_totals pt ON pt.agent_id = a.id " +
+            "LEFT JOIN claim_totals ct ON ct.agent_id = a.id " +
+            "LEFT JOIN offer_totals ot ON ot.agent_id = a.id ";
+
+    /**
+     * Totals per agent and insurance type for the nightly scoring job, ordered by agent.
+     * Agents without offers or policies have no rows.
+     */
+    @Query(value = "WITH policy_totals AS (" +
+            "  SELECT p.agent_id, p.insurance_type, COUNT(*) AS policies, COUNT(pay.id) AS payments," +
+            "         COALESCE(SUM(p.premium) FILTER (WHERE pay.status = 'SUCCESS'), 0) AS premium" +
+            "  FROM {h-schema}policies p LEFT JOIN {h-schema}payments pay ON pay.policy_id = p.id" +
+            "  WHERE p.agent_id IS NOT NULL GROUP BY p.agent_id, p.insurance_type), " +
+            "claim_totals AS (" +
+            "  SELECT p.agent_id, p.insurance_type, COUNT(*) AS claims," +
+            "         COALESCE(SUM(c.approved_amount) FILTER (WHERE c.status = 'APPROVED'), 0) AS claim_paid" +
+            "  FROM {h-schema}claims c JOIN {h-schema}policies p ON p.id = c.policy_id" +
+            "  WHERE p.agent_id IS NOT NULL GROUP BY p.agent_id, p.insurance_type), " +
+            "offer_totals AS (" +
+            "  SELECT o.agent_id, o.insurance_type, COUNT(*) AS offers FROM {h-schema}offers o" +
+            "  WHERE o.agent_id IS NOT NULL GROUP BY o.agent_id, o.insurance_type), " +
+            "agent_types AS (" +
+            "  SELECT agent_id, insurance_type FROM policy_totals" +
+            "  UNION SELECT agent_id, insurance_type FROM offer_totals) " +
+            "SELECT a.id AS \"agentId\", a.name AS \"agentName\", a.agent_number AS \"agentNumber\"," +
+            "       a.city AS \"city\", k.insurance_type AS \"insuranceType\"," +
+            "       COALESCE(ot.offers, 0) AS \"totalOffers\"," +
+            "       COALESCE(pt.policies, 0) AS \"totalPolicies\"," +
+            "       COALESCE(pt.payments, 0) AS \"totalPayments\"," +
+            "       COALESCE(pt.premium, 0) AS \"totalPremium\"," +
+            "       COALESCE(ct.claims, 0) AS \"totalClaims\"," +
+            "       COALESCE(ct.claim_paid, 0) AS \"totalClaimPaid\" " +
+            "FROM agent_types k " +
+            "JOIN {h-schema}agents a ON a.id = k.agent_id " +
+            "JOIN {h-schema}users u ON u.id = a.user_id AND u.role = 'AGENT' " +
+            "LEFT JOIN policy_totals pt ON pt.agent_id = k.agent_id AND pt.insurance_type = k.insurance_type " +
+            "LEFT JOIN claim_totals ct ON ct.agent_id = k.agent_id AND ct.insurance_type = k.insurance_type " +
+            "LEFT JOIN offer_totals ot ON ot.agent_id = k.agent_id AND ot.insurance_type = k.insurance_type " +
+            "ORDER BY a.id", nativeQuery = true)
+    List<AgentTypeStatsView> findAgentStatsByInsuranceType();
+
     Optional<Agent> findAgentByAgentNumber(String agentNumber);
 
     @Query("SELECT a FROM Agent a WHERE a.user.role = :role")
     List<Agent> findAllByUserRole(@Param("role") Role role);
 
     Optional<Agent> findByUser_Email(String email);
+
+    Optional<Agent> findByUser_Id(UUID userId);
     
     @Query("SELECT a FROM Agent a WHERE a.user.username = :username OR a.user.email = :username")
     Optional<Agent> findByUsernameOrEmail(@Param("username") String username);
 
-} 
\ No newline at end of file
+    /**
+     * One keyset page, newest first; see KeysetCursor.
+     */
+    @Query("SELECT a FROM Agent a " +
+            "WHERE (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<Agent> findPageAfter(@Param("createdAt") LocalDateTime createdAt,
+                              @Param("id") UUID id,
+                              Pageable limit);
+}
@@ -0,0 +1,90 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.core.enums.Role;
+import com.ada.insurance_app.entity.AgentStats;
+import com.ada.insurance_app.repository.projection.AgentStatsView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IAgentStatsRepository extends JpaRepository<AgentStats, UUID> {
+
+    // Adds the given deltas to an agent's row, creating it if missing
+    String APPLY_DELTA_SQL = "INSERT INTO {h-schema}agent_stats AS st (agent_id, total_offers, total_policies, " +
+            "approved_policies, total_payments, total_premium, total_claims, total_claim_paid, updated_at) " +
+            "VALUES (:agentId, :offers, :policies, :approvedPolicies, :payments, :premium, :claims, :claimPaid, now()) " +
+            "ON CONFLICT (agent_id) DO UPDATE SET " +
+            "total_offers = st.total_offers + EXCLUDED.total_offers, " +
+            "total_policies = st.total_policies + EXCLUDED.total_policies, " +
+            "approved_policies = st.approved_policies + EXCLUDED.approved_policies, " +
+            "total_payments = st.total_payments + EXCLUDED.total_payments, " +
+            "total_premium = st.total_premium + EXCLUDED.total_premium, " +
+            "total_claims = st.total_claims + EXCLUDED.total_claims, " +
+            "total_claim_paid = st.total_claim_paid + EXCLUDED.total_claim_paid, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    String STATS_VIEW_SELECT = "SELECT a.id AS agentId, a.name AS agentName, a.agentNumber AS agentNumber, " +
+            "COALESCE(s.totalPolicies, 0) AS totalPolicies, " +
+            "COALESCE(s.approvedPolicies, 0) AS approvedPolicies, " +
+            "COALESCE(s.totalPayments, 0) AS totalPayments, " +
+            "COALESCE(s.totalPremium, 0) AS totalPremium, " +
+            "COALESCE(s.totalClaims, 0) AS totalClaims, " +
+            "COALESCE(s.totalClaimPaid, 0) AS totalClaimPaid, " +
+            "COALESCE(s.totalOffers, 0) AS totalOffers " +
+            "FROM Agent a LEFT JOIN AgentStats s ON s.agentId = a.id ";
+
+    @Query(STATS_VIEW_SELECT + "WHERE a.user.role = :role ORDER BY a.name")
+    List<AgentStatsView> findStatsByRole(@Param("role") Role role);
+
+    @Query(STATS_VIEW_SELECT + "WHERE a.id = :agentId")
+    Optional<AgentStatsView> findStatsByAgentId(@Param("agentId") UUID agentId);
+
+    // Agent totals recomputed from the source tables, as rows for agent_stats
+    String RECOUNT_INSERT = "INSERT INTO {h-schema}agent_stats AS st (agent_id, total_offers, total_policies, " +
+            "approved_policies, total_payments, total_premium, total_claims, total_claim_paid, updated_at) " +
+            "SELECT t.\"agentId\", t.\"totalOffers\", t.\"totalPolicies\", t.\"approvedPolicies\", " +
+            "t.\"totalPayments\", t.\"totalPremium\", t.\"totalClaims\", t.\"totalClaimPaid\", now() " +
+            "FROM (" + IAgentRepository.AGENT_STATS_QUERY + ") t ";
+
+    String RECOUNT_ON_CONFLICT = "ON CONFLICT (agent_id) DO UPDATE SET " +
+            "total_offers = EXCLUDED.total_offers, " +
+            "total_policies = EXCLUDED.total_policies, " +
+            "approved_policies = EXCLUDED.approved_policies, " +
+            "total_payments = EXCLUDED.total_payments, " +
+            "total_premium = EXCLUDED.total_premium, " +
+            "total_claims = EXCLUDED.total_claims, " +
+            "total_claim_paid = EXCLUDED.total_claim_paid, " +
+            "updated_at = EXCLUDED.updated_at ";
+
+    // Replaces one agent's row with its recomputed totals
+    String RECOUNT_AGENT_SQL = RECOUNT_INSERT + "WHERE t.\"agentId\" = :agentId " + RECOUNT_ON_CONFLICT;
+
+    /**
+     * Recomputes every agent's row from the source tables.
+     * @return the number of rows that were missing or had drifted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "agent_stats"))
+    @Query(value = RECOUNT_INSERT + RECOUNT_ON_CONFLICT +
+            "WHERE (st.total_offers, st.total_policies, st.approved_policies, st.total_payments, " +
+            "st.total_premium, st.total_claims, st.total_claim_paid) IS DISTINCT FROM " +
+            "(EXCLUDED.total_offers, EXCLUDED.total_policies, EXCLUDED.approved_policies, EXCLUDED.total_payments, " +
+            "EXCLUDED.total_premium, EXCLUDED.total_claims, EXCLUDED.total_claim_paid)", nativeQuery = true)
+    int reconcileAll();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "agent_stats"))
+    @Query(value = "DELETE FROM {h-schema}agent_stats st WHERE NOT EXISTS " +
+            "(SELECT 1 FROM {h-schema}agents a WHERE a.id = st.agent_id)", nativeQuery = true)
+    int deleteOrphans();
+}
@@ -0,0 +1,82 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.entity.ClaimDailyRollup;
+import com.ada.insurance_app.repository.projection.DailyTotalView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IClaimDailyRollupRepository extends JpaRepository<ClaimDailyRollup, UUID> {
+
+    // Adds the given deltas to a rollup row, creating it if missing
+    String APPLY_DELTA_SQL = "INSERT INTO {h-schema}claim_daily_rollups AS r " +
+            "(id, day, insurance_type, agent_id, status, claim_count, estimated_amount, approved_amount) " +
+            "VALUES (gen_random_uuid(), :day, :insuranceType, :agentId, :status, :count, :amount, :approvedAmount) " +
+            "ON CONFLICT (day, insurance_type, agent_id, status) DO UPDATE SET " +
+            "claim_count = r.claim_count + EXCLUDED.claim_count, " +
+            "estimated_amount = r.estimated_amount + EXCLUDED.estimated_amount, " +
+            "approved_amount = r.approved_amount + EXCLUDED.approved_amount";
+
+    // Days and statuses of one policy's claims, i.e. the rollup rows they count in
+    String POLICY_BUCKETS_SQL = "SELECT DISTINCT incident_date AS day, status " +
+            "FROM {h-schema}claims WHERE policy_id = :policyId AND incident_date IS NOT NULL";
+
+    // Recomputing one rollup row from the claims table: delete it, then insert it again unless it is empty
+    String RECOUNT_DELETE_SQL = "DELETE FROM {h-schema}claim_daily_rollups " +
+            "WHERE day = :day AND insurance_type = :insuranceType AND agent_id = :agentId AND status = :status";
+
+    String RECOUNT_INSERT_SQL = "INSERT INTO {h-schema}claim_daily_rollups " +
+            "(id, day, insurance_type, agent_id, status, claim_count, estimated_amount, approved_amount) " +
+            "SELECT gen_random_uuid(), :day, :insuranceType, :agentId, :status, COUNT(*), " +
+            "COALESCE(SUM(c.estimated_amount), 0), COALESCE(SUM(c.approved_amount), 0) " +
+            "FROM {h-schema}claims c JOIN {h-schema}policies p ON p.id = c.policy_id " +
+            "WHERE c.incident_date = :day AND p.insurance_type = :insuranceType " +
+            "AND COALESCE(p.agent_id, '00000000-0000-0000-0000-000000000000') = :agentId " +
+            "AND c.status = :status HAVING COUNT(*) > 0";
+
+    @Query("SELECT r.day AS day, SUM(r.claimCount) AS count, SUM(r.estimatedAmount) AS amount, " +
+            "SUM(r.approvedAmount) AS approvedAmount " +
+            "FROM ClaimDailyRollup r " +
+            "WHERE r.day BETWEEN :from AND :to " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND (:insuranceType IS NULL OR r.insuranceType = :insuranceType) " +
+            "AND (:agentId IS NULL OR r.agentId = :agentId) " +
+            "GROUP BY r.day ORDER BY r.day")
+    List<DailyTotalView> findDailyTotals(@Param("from") LocalDate from,
+                                         @Param("to") LocalDate to,
+                                         @Param("status") ClaimStatus status,
+                                         @Param("insuranceType") InsuranceType insuranceType,
+                                         @Param("agentId") UUID agentId);
+
+    @Query(value = "SELECT MIN(incident_date) FROM {h-schema}claims", nativeQuery = true)
+    LocalDate findEarliestSourceDay();
+
+    @Modifying
+    @Query("DELETE FROM ClaimDailyRollup r WHERE r.day >= :from AND r.day < :to")
+    int deleteByDayRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Rebuilds the rollup rows of [from, to) from the claims table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "claim_daily_rollups"))
+    @Query(value = "INSERT INTO {h-schema}claim_daily_rollups " +
+            "(id, day, insurance_type, agent_id, status, claim_count, estimated_amount, approved_amount) " +
+            "SELECT gen_random_uuid(), c.incident_date, p.insurance_type, " +
+            "COALESCE(p.agent_id, '00000000-0000-0000-0000-000000000000'), c.status, COUNT(*), " +
+            "COALESCE(SUM(c.estimated_amount), 0), COALESCE(SUM(c.approved_amount), 0) " +
+            "FROM {h-schema}claims c JOIN {h-schema}policies p ON p.id = c.policy_id " +
+            "WHERE c.incident_date >= :from AND c.incident_date < :to " +
+            "GROUP BY c.incident_date, p.insurance_type, p.agent_id, c.status", nativeQuery = true)
+    int insertAggregatedRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -2,8 +2,15 @@ package com.ada.insurance_app.repository;
 
 import com.ada.insurance_app.core.enums.ClaimStatus;
 import com.ada.insurance_app.entity.Claim;
+import com.ada.insurance_app.repository.projection.ClaimExportRow;
+import com.ada.insurance_app.repository.projection.ClaimLossView;
+import com.ada.insurance_app.repository.projection.SearchHitView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,12 +20,42 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface IClaimRepository extends JpaRepository<Claim, UUID> {
 
     Optional<Claim> findClaimByClaimNumber(String claimNumber);
 
+    /**
+     * Change feed for the loss-ratio engine: claims changed after the given instant,
+     * one row per coverage of the claim's policy and ordered by claim.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT cl.id AS claimId, cl.status AS status, cl.approvedAmount AS approvedAmount, " +
+            "cl.incidentDate AS incidentDate, p.insuranceType AS insuranceType, cu.city AS city, " +
+            "c.id AS coverageId, c.code AS coverageCode, c.basePrice AS coverageBasePrice " +
+            "FROM Claim cl JOIN cl.policy p JOIN p.customer cu LEFT JOIN p.coverages c " +
+            "WHERE cl.updatedAt > :since " +
+            "ORDER BY cl.id")
+    Stream<ClaimLossView> streamLossRowsChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Export feed, read forward-only in fetch-size chunks; null filters are ignored.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT cl.id AS id, cl.claimNumber AS claimNumber, p.policyNumber AS policyNumber, " +
+            "a.agentNumber AS agentNumber, cl.status AS status, cl.incidentDate AS incidentDate, " +
+            "cl.estimatedAmount AS estimatedAmount, cl.approvedAmount AS approvedAmount, cl.createdAt AS createdAt " +
+            "FROM Claim cl JOIN cl.policy p LEFT JOIN cl.agent a " +
+            "WHERE (:from IS NULL OR cl.createdAt >= :from) AND (:to IS NULL OR cl.createdAt < :to) " +
+            "AND (:agentId IS NULL OR a.id = :agentId) AND (:status IS NULL OR cl.status = :status) " +
+            "ORDER BY cl.createdAt, cl.id")
+    Stream<ClaimExportRow> streamExportRows(@Param("from") LocalDateTime from,
+                                            @Param("to") LocalDateTime to,
+                                            @Param("agentId") UUID agentId,
+                                            @Param("status") ClaimStatus status);
+
     List<Claim> findClaimByPolicy_Id(Long policyİd);
 
     List<Claim> findByAgent_Id(UUID agentId);
@@ -38,6 +75,36 @@ public interface IClaimRepository extends JpaRepository<Claim, UUID> {
     @Query("SELECT SUM(c.approvedAmount) FROM Claim c WHERE c.status = 'APPROVED' AND c.policy.id = :policyId")
     BigDecimal getTotalApprovedAmountByPolicy(@Param("policyId") Long policyId);
 
+    /**
+     * Claims whose number or description matches the search terms, or whose number or policy number
+     * contains the pattern, best first. Every branch of the match is served by its own GIN index, see
+     * FullTextSearchSchema; ts_headline only runs on the returned page. Shared with SearchBenchmark.
+     */
+    String SEARCH_RANKED_SQL = "WITH q AS (SELECT websearch_to_tsquery('simple', :query) AS tsq), " +
+            "matched AS (" +
+            "SELECT c.id FROM {h-schema}claims c, q WHERE c.search_vector @@ q.tsq " +
+            "UNION SELECT c.id FROM {h-schema}claims c WHERE c.claim_number ILIKE :pattern " +
+            "UNION SELECT c.id FROM {h-schema}claims c JOIN {h-schema}policies p ON p.id = c.policy_id " +
+            "WHERE p.policy_number ILIKE :pattern), " +
+            "page AS (" +
+            "SELECT c.id, c.claim_number, c.description, p.policy_number, " +
+            "ts_rank_cd(c.search_vector, q.tsq) + " +
+            "GREATEST(similarity(c.claim_number, :query), similarity(p.policy_number, :query)) AS rank " +
+            "FROM matched m JOIN {h-schema}claims c ON c.id = m.id " +
+            "JOIN {h-schema}policies p ON p.id = c.policy_id CROSS JOIN q " +
+            "ORDER BY rank DESC, c.id LIMIT :limit OFFSET :offset) " +
+            "SELECT CAST(page.id AS varchar) AS id, page.claim_number AS title, page.policy_number AS subtitle, " +
+            "ts_headline('simple', page.description, q.tsq, :headline) AS highlight, " +
+            "CAST(page.rank AS double precision) AS rank " +
+            "FROM page CROSS JOIN q ORDER BY page.rank DESC, page.id";
+
+    @Query(value = SEARCH_RANKED_SQL, nativeQuery = true)
+    List<SearchHitView> searchRanked(@Param("query") String query,
+                                     @Param("pattern") String pattern,
+                                     @Param("headline") String headline,
+                                     @Param("limit") int limit,
+                                     @Param("offset") int offset);
+
     @Query("SELECT c FROM Claim c WHERE " +
            "c.claimNumber LIKE %:keyword% OR " +
            "c.description LIKE %:keyword% OR " +
@@ -70,4 +137,16 @@ public interface IClaimRepository extends JpaRepository<Claim, UUID> {
     // Sum approved claim amounts by agent number
     @Query("SELECT COALESCE(SUM(c.approvedAmount), 0) FROM Claim c WHERE c.policy.agent.agentNumber = :agentNumber AND c.status = 'APPROVED'")
     double sumApprovedClaimAmountsByAgent_AgentNumber(@Param("agentNumber") String agentNumber);
-}
\ No newline at end of file
+
+    /**
+     * One keyset page, newest first; see KeysetCursor.
+     */
+    @Query("SELECT cl FROM Claim cl " +
+            "WHERE (:status IS NULL OR cl.status = :status) " +
+            "AND (cl.createdAt < :createdAt OR (cl.createdAt = :createdAt AND cl.id < :id)) " +
+            "ORDER BY cl.createdAt DESC, cl.id DESC")
+    List<Claim> findPageAfter(@Param("status") ClaimStatus status,
+                              @Param("createdAt") LocalDateTime createdAt,
+                              @Param("id") UUID id,
+                              Pageable limit);
+}
@@ -2,24 +2,54 @@ package com.ada.insurance_app.repository;
 
 import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.entity.Coverage;
+import com.ada.insurance_app.repository.projection.SearchHitView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ICoverageRepository extends JpaRepository<Coverage, Long> {
+public interface ICoverageRepository extends JpaRepository<Coverage, Long>, CachedCoverageLookup {
 
 
 
     @Query("SELECT c FROM Coverage c WHERE c.basePrice <= :maxPrice AND c.active = true")
     List<Coverage> findActiveCoveragesByMaxPrice(@Param("maxPrice") BigDecimal maxPrice);
 
+    /**
+     * Coverages whose name, code or description matches the search terms, or whose name or code
+     * contains the pattern, best first; name and code weigh more than the description.
+     */
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('simple', :query) AS tsq), " +
+            "matched AS (" +
+            "SELECT c.id FROM {h-schema}coverages c, q WHERE c.search_vector @@ q.tsq " +
+            "UNION SELECT c.id FROM {h-schema}coverages c WHERE c.name ILIKE :pattern " +
+            "UNION SELECT c.id FROM {h-schema}coverages c WHERE c.code ILIKE :pattern), " +
+            "page AS (" +
+            "SELECT c.id, c.name, c.code, c.description, " +
+            "ts_rank_cd(c.search_vector, q.tsq) + similarity(c.name, :query) AS rank " +
+            "FROM matched m JOIN {h-schema}coverages c ON c.id = m.id CROSS JOIN q " +
+            "ORDER BY rank DESC, c.id LIMIT :limit OFFSET :offset) " +
+            "SELECT CAST(page.id AS varchar) AS id, page.name AS title, page.code AS subtitle, " +
+            "ts_headline('simple', page.description, q.tsq, :headline) AS highlight, " +
+            "CAST(page.rank AS double precision) AS rank " +
+            "FROM page CROSS JOIN q ORDER BY page.rank DESC, page.id", nativeQuery = true)
+    List<SearchHitView> searchRanked(@Param("query") String query,
+                                     @Param("pattern") String pattern,
+                                     @Param("headline") String headline,
+                                     @Param("limit") int limit,
+                                     @Param("offset") int offset);
+
     @Query("SELECT c FROM Coverage c WHERE c.name LIKE %:keyword% OR c.description LIKE %:keyword%")
     List<Coverage> searchCoverages(@Param("keyword") String keyword);
 
@@ -37,7 +67,20 @@ public interface ICoverageRepository extends JpaRepository<Coverage, Long> {
     
     boolean existsByName(String name);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Coverage> findByInsuranceType(InsuranceType insuranceType);
 
-
+    /**
+     * One keyset page, newest first; see KeysetCursor.
+     */
+    @Query("SELECT c FROM Coverage c " +
+            "WHERE (:insuranceType IS NULL OR c.insuranceType = :insuranceType) " +
+            "AND (:active IS NULL OR c.active = :active) " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Coverage> findPageAfter(@Param("insuranceType") InsuranceType insuranceType,
+                                 @Param("active") Boolean active,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable limit);
 }
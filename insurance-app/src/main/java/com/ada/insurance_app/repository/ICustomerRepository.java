@@ -4,6 +4,7 @@ import com.ada.insurance_app.entity.Customer;
 import com.ada.insurance_app.core.enums.CustomerType;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -33,6 +34,7 @@ public interface ICustomerRepository extends JpaRepository<Customer, UUID> {
     @Query("SELECT COUNT(DISTINCT p.customer.id) FROM Policy p WHERE p.agent.id = :agentId")
     Long countByAgentId(UUID agentId);
     
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT DISTINCT c FROM Customer c WHERE c.id IN " +
            "(SELECT DISTINCT o.customer.id FROM Offer o WHERE o.agent.id = :agentId) OR " +
            "c.id IN (SELECT DISTINCT p.customer.id FROM Policy p WHERE p.agent.id = :agentId)")
@@ -0,0 +1,86 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.entity.CustomerSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ICustomerSummaryRepository extends JpaRepository<CustomerSummary, UUID> {
+
+    // Claims still awaiting a decision
+    String OPEN_CLAIM_STATUSES = "'SUBMITTED', 'IN_REVIEW', 'ADDITIONAL_INFO_REQUIRED'";
+
+    // Adds the given deltas to a customer's row, creating it if missing
+    String APPLY_DELTA_SQL = "INSERT INTO {h-schema}customer_summaries AS cs (customer_id, total_policies, " +
+            "total_claims, open_claims, total_payments, total_premium, pending_offers, updated_at) " +
+            "VALUES (:customerId, :policies, :claims, :openClaims, :payments, :premium, :pendingOffers, now()) " +
+            "ON CONFLICT (customer_id) DO UPDATE SET " +
+            "total_policies = cs.total_policies + EXCLUDED.total_policies, " +
+            "total_claims = cs.total_claims + EXCLUDED.total_claims, " +
+            "open_claims = cs.open_claims + EXCLUDED.open_claims, " +
+            "total_payments = cs.total_payments + EXCLUDED.total_payments, " +
+            "total_premium = cs.total_premium + EXCLUDED.total_premium, " +
+            "pending_offers = cs.pending_offers + EXCLUDED.pending_offers, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    // Customer totals recomputed from the source tables, as rows for customer_summaries
+    String RECOUNT_INSERT = "WITH policy_totals AS (" +
+            "  SELECT p.customer_id, COUNT(*) AS policies, COUNT(pay.id) AS payments," +
+            "         COALESCE(SUM(p.premium) FILTER (WHERE pay.status = 'SUCCESS'), 0) AS premium" +
+            "  FROM {h-schema}policies p LEFT JOIN {h-schema}payments pay ON pay.policy_id = p.id" +
+            "  GROUP BY p.customer_id), " +
+            "claim_totals AS (" +
+            "  SELECT p.customer_id, COUNT(*) AS claims," +
+            "         COUNT(*) FILTER (WHERE c.status IN (" + OPEN_CLAIM_STATUSES + ")) AS open_claims" +
+            "  FROM {h-schema}claims c JOIN {h-schema}policies p ON p.id = c.policy_id" +
+            "  GROUP BY p.customer_id), " +
+            "offer_totals AS (" +
+            "  SELECT o.customer_id, COUNT(*) AS pending_offers FROM {h-schema}offers o" +
+            "  WHERE o.status = 'PENDING' GROUP BY o.customer_id) " +
+            "INSERT INTO {h-schema}customer_summaries AS cs (customer_id, total_policies, total_claims, " +
+            "open_claims, total_payments, total_premium, pending_offers, updated_at) " +
+            "SELECT c.id, COALESCE(pt.policies, 0), COALESCE(ct.claims, 0), COALESCE(ct.open_claims, 0), " +
+            "COALESCE(pt.payments, 0), COALESCE(pt.premium, 0), COALESCE(ot.pending_offers, 0), now() " +
+            "FROM {h-schema}customers c " +
+            "LEFT JOIN policy_totals pt ON pt.customer_id = c.id " +
+            "LEFT JOIN claim_totals ct ON ct.customer_id = c.id " +
+            "LEFT JOIN offer_totals ot ON ot.customer_id = c.id ";
+
+    String RECOUNT_ON_CONFLICT = "ON CONFLICT (customer_id) DO UPDATE SET " +
+            "total_policies = EXCLUDED.total_policies, " +
+            "total_claims = EXCLUDED.total_claims, " +
+            "open_claims = EXCLUDED.open_claims, " +
+            "total_payments = EXCLUDED.total_payments, " +
+            "total_premium = EXCLUDED.total_premium, " +
+            "pending_offers = EXCLUDED.pending_offers, " +
+            "updated_at = EXCLUDED.updated_at ";
+
+    // Replaces one customer's row with its recomputed totals
+    String RECOUNT_CUSTOMER_SQL = RECOUNT_INSERT + "WHERE c.id = :customerId " + RECOUNT_ON_CONFLICT;
+
+    /**
+     * Recomputes every customer's row from the source tables.
+     * @return the number of rows that were missing or had drifted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "customer_summaries"))
+    @Query(value = RECOUNT_INSERT + RECOUNT_ON_CONFLICT +
+            "WHERE (cs.total_policies, cs.total_claims, cs.open_claims, cs.total_payments, " +
+            "cs.total_premium, cs.pending_offers) IS DISTINCT FROM " +
+            "(EXCLUDED.total_policies, EXCLUDED.total_claims, EXCLUDED.open_claims, EXCLUDED.total_payments, " +
+            "EXCLUDED.total_premium, EXCLUDED.pending_offers)", nativeQuery = true)
+    int reconcileAll();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "customer_summaries"))
+    @Query(value = "DELETE FROM {h-schema}customer_summaries cs WHERE NOT EXISTS " +
+            "(SELECT 1 FROM {h-schema}customers c WHERE c.id = cs.customer_id)", nativeQuery = true)
+    int deleteOrphans();
+}
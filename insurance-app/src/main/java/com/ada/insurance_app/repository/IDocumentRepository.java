@@ -2,6 +2,7 @@ package com.ada.insurance_app.repository;
 
 import com.ada.insurance_app.core.enums.DocumentType;
 import com.ada.insurance_app.entity.Document;
+import com.ada.insurance_app.repository.projection.SearchHitView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -37,6 +38,32 @@ public interface IDocumentRepository extends JpaRepository<Document, Long> {
         @Param("endDate") LocalDateTime endDate
     );
 
+    /**
+     * Documents whose original name or description matches the search terms, or whose stored or original
+     * file name contains the pattern, best first.
+     */
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('simple', :query) AS tsq), " +
+            "matched AS (" +
+            "SELECT d.id FROM {h-schema}documents d, q WHERE d.search_vector @@ q.tsq " +
+            "UNION SELECT d.id FROM {h-schema}documents d WHERE d.original_file_name ILIKE :pattern " +
+            "UNION SELECT d.id FROM {h-schema}documents d WHERE d.file_name ILIKE :pattern), " +
+            "page AS (" +
+            "SELECT d.id, d.original_file_name, d.document_type, d.description, " +
+            "ts_rank_cd(d.search_vector, q.tsq) + " +
+            "GREATEST(similarity(d.original_file_name, :query), similarity(d.file_name, :query)) AS rank " +
+            "FROM matched m JOIN {h-schema}documents d ON d.id = m.id CROSS JOIN q " +
+            "ORDER BY rank DESC, d.id LIMIT :limit OFFSET :offset) " +
+            "SELECT CAST(page.id AS varchar) AS id, page.original_file_name AS title, " +
+            "CAST(page.document_type AS varchar) AS subtitle, " +
+            "ts_headline('simple', COALESCE(page.description, page.original_file_name), q.tsq, :headline) AS highlight, " +
+            "CAST(page.rank AS double precision) AS rank " +
+            "FROM page CROSS JOIN q ORDER BY page.rank DESC, page.id", nativeQuery = true)
+    List<SearchHitView> searchRanked(@Param("query") String query,
+                                     @Param("pattern") String pattern,
+                                     @Param("headline") String headline,
+                                     @Param("limit") int limit,
+                                     @Param("offset") int offset);
+
     @Query("SELECT d FROM Document d WHERE d.fileName LIKE %:keyword% OR " +
            "d.originalFileName LIKE %:keyword% OR d.description LIKE %:keyword%")
     List<Document> searchDocuments(@Param("keyword") String keyword);
@@ -54,4 +81,10 @@ public interface IDocumentRepository extends JpaRepository<Document, Long> {
     List<Document> searchByFileName(@Param("keyword") String keyword);
 
     Optional<Document> findByIdAndCustomerId(Long documentId, UUID customerId);
+
+    Optional<Document> findByGeneratedKey(String generatedKey);
+
+    // Generated documents stored before they had a key
+    Optional<Document> findFirstByPolicy_IdAndOriginalFileNameAndGeneratedKeyIsNull(Long policyId,
+                                                                                   String originalFileName);
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.core.enums.EmailOutboxStatus;
+import com.ada.insurance_app.entity.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IEmailOutboxRepository extends JpaRepository<EmailOutbox, UUID> {
+
+    // SKIP LOCKED lets several workers claim disjoint batches concurrently
+    @Query(value = "SELECT * FROM {h-schema}email_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<EmailOutbox> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE EmailOutbox eo SET eo.status = :status, eo.sentAt = :sentAt, eo.attempts = eo.attempts + 1 " +
+            "WHERE eo.id IN :ids")
+    int markSent(@Param("ids") Collection<UUID> ids,
+                 @Param("status") EmailOutboxStatus status,
+                 @Param("sentAt") LocalDateTime sentAt);
+
+    long countByStatus(EmailOutboxStatus status);
+}
@@ -2,10 +2,13 @@ package com.ada.insurance_app.repository;
 
 import com.ada.insurance_app.entity.Offer;
 import com.ada.insurance_app.core.enums.OfferStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,10 +17,12 @@ public interface IOfferRepository extends JpaRepository<Offer, Long> {
     Optional<Offer> findByOfferNumber(String offerNumber);
     List<Offer> findByStatus(OfferStatus status);
 
-    @EntityGraph(attributePaths = {"coverages", "customer", "policy"})
+    @EntityGraph(attributePaths = {"coverages", "customer.user", "agent.user", "policy",
+            "healthDetail", "homeDetail", "vehicleDetail"})
     List<Offer> findByCustomer_Id(UUID customerId);
 
-    @EntityGraph(attributePaths = {"coverages", "customer", "policy"})
+    @EntityGraph(attributePaths = {"coverages", "customer.user", "agent.user", "policy",
+            "healthDetail", "homeDetail", "vehicleDetail"})
     List<Offer> findByAgent_Id(@Param("agentId") UUID agentId);
 
     @Query("SELECT o FROM Offer o LEFT JOIN FETCH o.coverages LEFT JOIN FETCH o.customer LEFT JOIN FETCH o.policy LEFT JOIN FETCH o.agent WHERE o.id = :id")
@@ -36,4 +41,20 @@ public interface IOfferRepository extends JpaRepository<Offer, Long> {
     // Count offers by agent number
     @Query("SELECT COUNT(o) FROM Offer o WHERE o.agent.agentNumber = :agentNumber")
     long countByAgent_AgentNumber(@Param("agentNumber") String agentNumber);
-}
\ No newline at end of file
+
+    /**
+     * One keyset page, newest first; see KeysetCursor. Coverages are batch fetched, a collection
+     * fetch join would defeat the row limit.
+     */
+    @EntityGraph(attributePaths = {"customer.user", "agent.user", "policy", "healthDetail", "homeDetail", "vehicleDetail"})
+    @Query("SELECT o FROM Offer o " +
+            "WHERE (:status IS NULL OR o.status = :status) " +
+            "AND (:insuranceType IS NULL OR o.insuranceType = :insuranceType) " +
+            "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Offer> findPageAfter(@Param("status") OfferStatus status,
+                              @Param("insuranceType") InsuranceType insuranceType,
+                              @Param("createdAt") LocalDateTime createdAt,
+                              @Param("id") Long id,
+                              Pageable limit);
+}
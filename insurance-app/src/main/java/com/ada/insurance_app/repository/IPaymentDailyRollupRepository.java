@@ -0,0 +1,80 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.entity.PaymentDailyRollup;
+import com.ada.insurance_app.repository.projection.DailyTotalView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface IPaymentDailyRollupRepository extends JpaRepository<PaymentDailyRollup, UUID> {
+
+    // Adds the given deltas to a rollup row, creating it if missing
+    String APPLY_DELTA_SQL = "INSERT INTO {h-schema}payment_daily_rollups AS r " +
+            "(id, day, insurance_type, agent_id, status, payment_count, amount) " +
+            "VALUES (gen_random_uuid(), :day, :insuranceType, :agentId, :status, :count, :amount) " +
+            "ON CONFLICT (day, insurance_type, agent_id, status) DO UPDATE SET " +
+            "payment_count = r.payment_count + EXCLUDED.payment_count, " +
+            "amount = r.amount + EXCLUDED.amount";
+
+    // Days and statuses of one policy's payments, i.e. the rollup rows they count in
+    String POLICY_BUCKETS_SQL = "SELECT DISTINCT CAST(payment_date AS date) AS day, status " +
+            "FROM {h-schema}payments WHERE policy_id = :policyId AND payment_date IS NOT NULL";
+
+    // Recomputing one rollup row from the payments table: delete it, then insert it again unless it is empty
+    String RECOUNT_DELETE_SQL = "DELETE FROM {h-schema}payment_daily_rollups " +
+            "WHERE day = :day AND insurance_type = :insuranceType AND agent_id = :agentId AND status = :status";
+
+    String RECOUNT_INSERT_SQL = "INSERT INTO {h-schema}payment_daily_rollups " +
+            "(id, day, insurance_type, agent_id, status, payment_count, amount) " +
+            "SELECT gen_random_uuid(), :day, :insuranceType, :agentId, :status, COUNT(*), SUM(pay.amount) " +
+            "FROM {h-schema}payments pay JOIN {h-schema}policies p ON p.id = pay.policy_id " +
+            "WHERE pay.payment_date >= :day AND pay.payment_date < :nextDay " +
+            "AND p.insurance_type = :insuranceType " +
+            "AND COALESCE(p.agent_id, '00000000-0000-0000-0000-000000000000') = :agentId " +
+            "AND pay.status = :status HAVING COUNT(*) > 0";
+
+    @Query("SELECT r.day AS day, SUM(r.paymentCount) AS count, SUM(r.amount) AS amount, " +
+            "CAST(NULL AS BigDecimal) AS approvedAmount " +
+            "FROM PaymentDailyRollup r " +
+            "WHERE r.day BETWEEN :from AND :to " +
+            "AND (:status IS NULL OR r.status = :status) " +
+            "AND (:insuranceType IS NULL OR r.insuranceType = :insuranceType) " +
+            "AND (:agentId IS NULL OR r.agentId = :agentId) " +
+            "GROUP BY r.day ORDER BY r.day")
+    List<DailyTotalView> findDailyTotals(@Param("from") LocalDate from,
+                                         @Param("to") LocalDate to,
+                                         @Param("status") PaymentStatus status,
+                                         @Param("insuranceType") InsuranceType insuranceType,
+                                         @Param("agentId") UUID agentId);
+
+    @Query(value = "SELECT CAST(MIN(payment_date) AS date) FROM {h-schema}payments", nativeQuery = true)
+    LocalDate findEarliestSourceDay();
+
+    @Modifying
+    @Query("DELETE FROM PaymentDailyRollup r WHERE r.day >= :from AND r.day < :to")
+    int deleteByDayRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // Rebuilds the rollup rows of [from, to) from the payments table
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "payment_daily_rollups"))
+    @Query(value = "INSERT INTO {h-schema}payment_daily_rollups " +
+            "(id, day, insurance_type, agent_id, status, payment_count, amount) " +
+            "SELECT gen_random_uuid(), CAST(pay.payment_date AS date), p.insurance_type, " +
+            "COALESCE(p.agent_id, '00000000-0000-0000-0000-000000000000'), pay.status, COUNT(*), SUM(pay.amount) " +
+            "FROM {h-schema}payments pay JOIN {h-schema}policies p ON p.id = pay.policy_id " +
+            "WHERE pay.payment_date >= :from AND pay.payment_date < :to " +
+            "GROUP BY CAST(pay.payment_date AS date), p.insurance_type, p.agent_id, pay.status", nativeQuery = true)
+    int insertAggregatedRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -2,8 +2,13 @@ package com.ada.insurance_app.repository;
 
 import com.ada.insurance_app.core.enums.PaymentStatus;
 import com.ada.insurance_app.entity.Payment;
+import com.ada.insurance_app.repository.projection.PaymentExportRow;
+import com.ada.insurance_app.repository.projection.SearchHitView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +17,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface IPaymentRepository extends JpaRepository<Payment, UUID> {
@@ -20,6 +26,23 @@ public interface IPaymentRepository extends JpaRepository<Payment, UUID> {
 
     List<Payment> findByPolicy_Id(Long policyId);
 
+    /**
+     * Export feed, read forward-only in fetch-size chunks; null filters are ignored.
+     * The date range applies to the payment date.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT pay.id AS id, pay.transactionReference AS transactionReference, p.policyNumber AS policyNumber, " +
+            "cu.customerNumber AS customerNumber, a.agentNumber AS agentNumber, pay.amount AS amount, " +
+            "pay.status AS status, pay.paymentDate AS paymentDate, pay.createdAt AS createdAt " +
+            "FROM Payment pay JOIN pay.policy p JOIN pay.customer cu LEFT JOIN p.agent a " +
+            "WHERE (:from IS NULL OR pay.paymentDate >= :from) AND (:to IS NULL OR pay.paymentDate < :to) " +
+            "AND (:agentId IS NULL OR a.id = :agentId) AND (:status IS NULL OR pay.status = :status) " +
+            "ORDER BY pay.paymentDate, pay.id")
+    Stream<PaymentExportRow> streamExportRows(@Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to,
+                                              @Param("agentId") UUID agentId,
+                                              @Param("status") PaymentStatus status);
+
     Optional<Payment> findByIdAndPolicy_Customer_Id(UUID paymentId, UUID customerId);
 
 
@@ -41,6 +64,26 @@ public interface IPaymentRepository extends JpaRepository<Payment, UUID> {
     @Query("SELECT COUNT(p) > 0 FROM Payment p WHERE p.policy.id = :policyId AND p.status = 'SUCCESS'")
     boolean hasSuccessfulPayment(@Param("policyId") Long policyId);
 
+    /**
+     * Payments whose transaction reference or policy number contains the pattern, closest first.
+     * References have no free text, so there is no highlight and the query is only used for ranking.
+     */
+    @Query(value = "WITH matched AS (" +
+            "SELECT pay.id FROM {h-schema}payments pay WHERE pay.transaction_reference ILIKE :pattern " +
+            "UNION SELECT pay.id FROM {h-schema}payments pay JOIN {h-schema}policies p ON p.id = pay.policy_id " +
+            "WHERE p.policy_number ILIKE :pattern) " +
+            "SELECT CAST(pay.id AS varchar) AS id, pay.transaction_reference AS title, p.policy_number AS subtitle, " +
+            "CAST(NULL AS text) AS highlight, " +
+            "CAST(GREATEST(similarity(COALESCE(pay.transaction_reference, ''), :query), " +
+            "similarity(p.policy_number, :query)) AS double precision) AS rank " +
+            "FROM matched m JOIN {h-schema}payments pay ON pay.id = m.id " +
+            "JOIN {h-schema}policies p ON p.id = pay.policy_id " +
+            "ORDER BY rank DESC, pay.id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<SearchHitView> searchRanked(@Param("query") String query,
+                                     @Param("pattern") String pattern,
+                                     @Param("limit") int limit,
+                                     @Param("offset") int offset);
+
     @Query("SELECT p FROM Payment p WHERE " +
            "p.transactionReference LIKE %:keyword% OR " +
            "p.policy.policyNumber LIKE %:keyword%")
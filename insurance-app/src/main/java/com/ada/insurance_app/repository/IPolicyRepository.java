@@ -4,23 +4,70 @@ import com.ada.insurance_app.entity.Agent;
 import com.ada.insurance_app.entity.Policy;
 import com.ada.insurance_app.core.enums.PolicyStatus;
 import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.repository.projection.DashboardSummaryView;
+import com.ada.insurance_app.repository.projection.PolicyEarningView;
+import com.ada.insurance_app.repository.projection.PolicyExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface IPolicyRepository extends JpaRepository<Policy, Long> {
 
+    @EntityGraph(attributePaths = {"customer.user", "agent.user", "vehicle", "payment", "offer",
+            "healthInsuranceDetail", "homeInsuranceDetail"})
     List<Policy> findByCustomer_Id(UUID customerId);
 
-
+    /**
+     * Change feed for the loss-ratio engine: policies changed, or whose payment changed, after the given
+     * instant, one row per coverage and ordered by policy.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS policyId, p.insuranceType AS insuranceType, p.premium AS premium, " +
+            "p.startDate AS startDate, p.endDate AS endDate, cu.city AS city, pay.status AS paymentStatus, " +
+            "c.id AS coverageId, c.code AS coverageCode, c.basePrice AS coverageBasePrice " +
+            "FROM Policy p JOIN p.customer cu LEFT JOIN p.payment pay LEFT JOIN p.coverages c " +
+            "WHERE p.updatedAt > :since OR pay.updatedAt > :since " +
+            "ORDER BY p.id")
+    Stream<PolicyEarningView> streamEarningRowsChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Export feed, read forward-only in fetch-size chunks; null filters are ignored.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id AS id, p.policyNumber AS policyNumber, p.status AS status, " +
+            "p.insuranceType AS insuranceType, p.premium AS premium, p.startDate AS startDate, " +
+            "p.endDate AS endDate, cu.customerNumber AS customerNumber, a.agentNumber AS agentNumber, " +
+            "p.createdAt AS createdAt " +
+            "FROM Policy p JOIN p.customer cu LEFT JOIN p.agent a " +
+            "WHERE (:from IS NULL OR p.createdAt >= :from) AND (:to IS NULL OR p.createdAt < :to) " +
+            "AND (:agentId IS NULL OR a.id = :agentId) AND (:status IS NULL OR p.status = :status) " +
+            "ORDER BY p.createdAt, p.id")
+    Stream<PolicyExportRow> streamExportRows(@Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("agentId") UUID agentId,
+                                             @Param("status") PolicyStatus status);
+
+
+    @EntityGraph(attributePaths = {"customer.user", "agent.user", "vehicle", "payment", "offer",
+            "healthInsuranceDetail", "homeInsuranceDetail"})
     List<Policy> findByAgentId(UUID agentId);
 
+    @Query("SELECT p.id FROM Policy p WHERE p.status = :status AND p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsByStatusAfter(@Param("status") PolicyStatus status, @Param("afterId") Long afterId, Pageable limit);
+
     Optional<Policy> findByIdAndCustomerId(Long policyId, UUID customerId);
     
     @Query("SELECT p FROM Policy p JOIN p.coverages c WHERE c = :coverage")
@@ -29,6 +76,18 @@ public interface IPolicyRepository extends JpaRepository<Policy, Long> {
     @Query("SELECT COALESCE(SUM(p.premium), 0) FROM Policy p JOIN p.payment pay WHERE pay.status = 'SUCCESS'")
     double sumTotalPremium();
 
+    // All admin summary figures in one round trip
+    @Query(value = "SELECT " +
+            "(SELECT COUNT(*) FROM {h-schema}policies) AS \"totalPolicies\", " +
+            "(SELECT COUNT(*) FROM {h-schema}users) AS \"totalUsers\", " +
+            "(SELECT COUNT(*) FROM {h-schema}claims) AS \"totalClaims\", " +
+            "(SELECT COUNT(*) FROM {h-schema}payments) AS \"totalPayments\", " +
+            "(SELECT COUNT(*) FROM {h-schema}offers) AS \"totalOffers\", " +
+            "(SELECT COALESCE(SUM(p.premium), 0) FROM {h-schema}policies p " +
+            "   JOIN {h-schema}payments pay ON pay.policy_id = p.id WHERE pay.status = 'SUCCESS') AS \"totalPremium\"",
+            nativeQuery = true)
+    DashboardSummaryView findDashboardSummary();
+
     long countPoliciesByAgent_AgentNumber(String agentAgentNumber);
 
     @Query("SELECT COALESCE(SUM(p.premium), 0) FROM Policy p JOIN p.payment pay WHERE p.agent.agentNumber = :agentNumber AND pay.status = 'SUCCESS'")
@@ -47,7 +106,20 @@ public interface IPolicyRepository extends JpaRepository<Policy, Long> {
 
     boolean existsByOffer_Id(Long offerId);
     Optional<Policy> findByOffer_Id(Long offerId);
-}
-
-
 
+    /**
+     * One keyset page, newest first; see KeysetCursor.
+     */
+    @EntityGraph(attributePaths = {"customer.user", "agent.user", "vehicle", "payment", "offer",
+            "healthInsuranceDetail", "homeInsuranceDetail"})
+    @Query("SELECT p FROM Policy p " +
+            "WHERE (:status IS NULL OR p.status = :status) " +
+            "AND (:insuranceType IS NULL OR p.insuranceType = :insuranceType) " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Policy> findPageAfter(@Param("status") PolicyStatus status,
+                               @Param("insuranceType") InsuranceType insuranceType,
+                               @Param("createdAt") LocalDateTime createdAt,
+                               @Param("id") Long id,
+                               Pageable limit);
+}
@@ -1,12 +1,15 @@
 package com.ada.insurance_app.repository;
 
 import com.ada.insurance_app.entity.Vehicle;
+import com.ada.insurance_app.repository.projection.VehicleSearchView;
 import jakarta.validation.constraints.NotBlank;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -17,6 +20,19 @@ public interface IVehicleRepository extends JpaRepository<Vehicle, UUID> {
 
     Optional<Vehicle> findByPlateNumber(String plateNumber);
 
+    /**
+     * Lookup by normalized plate (see VehicleKeys), so spacing and separators in either the stored or
+     * the requested plate do not matter.
+     */
+    Optional<Vehicle> findByPlateKey(String plateKey);
+
+    boolean existsByPlateKey(String plateKey);
+
+    // Rows whose plate clashed with an older one when the keys were backfilled have no key
+    Optional<Vehicle> findByPlateNumberAndPlateKeyIsNull(String plateNumber);
+
+    boolean existsByPlateNumberAndPlateKeyIsNull(String plateNumber);
+
 
     Optional<Vehicle> findByVin(String vin);
 
@@ -28,9 +44,48 @@ public interface IVehicleRepository extends JpaRepository<Vehicle, UUID> {
     Optional<Vehicle> findByOfferId(@Param("offerId") Long offerId);
 
 
-    List<Vehicle> findByMakeContainingIgnoreCase(String make);
-
-    List<Vehicle> findByModelContainingIgnoreCase(String model);
+    /**
+     * Case-insensitive substring match on make; the make and model condition lets the trigram index on
+     * (make || ' ' || model) narrow the rows first.
+     */
+    @Query(value = "SELECT * FROM {h-schema}vehicles v " +
+            "WHERE (v.make || ' ' || v.model) ILIKE :pattern AND v.make ILIKE :pattern", nativeQuery = true)
+    List<Vehicle> findByMakeMatching(@Param("pattern") String pattern);
+
+    @Query(value = "SELECT * FROM {h-schema}vehicles v " +
+            "WHERE (v.make || ' ' || v.model) ILIKE :pattern AND v.model ILIKE :pattern", nativeQuery = true)
+    List<Vehicle> findByModelMatching(@Param("pattern") String pattern);
+
+    /**
+     * Typo-tolerant vehicle search for as-you-type lookups: plate prefix, nearest plates, VIN substring and
+     * nearest make and model. Each branch reads at most :limit rows in index order (B-tree for the prefix,
+     * GiST KNN for the rest, see FullTextSearchSchema), and only those candidates are scored. Shared with
+     * VehicleSearchBenchmark.
+     */
+    String SEARCH_FUZZY_SQL = "WITH candidates AS (" +
+            "(SELECT v.id FROM {h-schema}vehicles v WHERE v.plate_key LIKE :keyPrefix " +
+            "ORDER BY v.plate_key LIMIT :limit) " +
+            "UNION (SELECT v.id FROM {h-schema}vehicles v WHERE v.plate_key % :key " +
+            "ORDER BY v.plate_key <-> :key LIMIT :limit) " +
+            "UNION (SELECT v.id FROM {h-schema}vehicles v WHERE v.vin_key LIKE :keyContains LIMIT :limit) " +
+            "UNION (SELECT v.id FROM {h-schema}vehicles v WHERE :query <% (v.make || ' ' || v.model) " +
+            "ORDER BY :query <<-> (v.make || ' ' || v.model) LIMIT :limit)) " +
+            "SELECT v.id AS id, v.plate_number AS plateNumber, v.vin AS vin, v.make AS make, v.model AS model, " +
+            "v.year AS year, v.customer_id AS customerId, " +
+            "CAST(GREATEST(" +
+            "CASE WHEN v.plate_key = :key THEN 2 WHEN v.plate_key LIKE :keyPrefix THEN 1 " +
+            "ELSE similarity(v.plate_key, :key) END, " +
+            "CASE WHEN v.vin_key LIKE :keyContains THEN 0.9 ELSE 0 END, " +
+            "word_similarity(:query, v.make || ' ' || v.model)) AS double precision) AS score " +
+            "FROM candidates c JOIN {h-schema}vehicles v ON v.id = c.id " +
+            "ORDER BY score DESC, v.plate_key LIMIT :limit";
+
+    @Query(value = SEARCH_FUZZY_SQL, nativeQuery = true)
+    List<VehicleSearchView> searchFuzzy(@Param("query") String query,
+                                        @Param("key") String key,
+                                        @Param("keyPrefix") String keyPrefix,
+                                        @Param("keyContains") String keyContains,
+                                        @Param("limit") int limit);
 
 
     boolean existsByPlateNumber(String plateNumber);
@@ -42,4 +97,16 @@ public interface IVehicleRepository extends JpaRepository<Vehicle, UUID> {
 
     @Query("SELECT CASE WHEN COUNT(v) > 0 THEN true ELSE false END FROM Vehicle v WHERE v.engineNumber = :engineNumber")
     boolean existsByEngineNumber(String engineNumber);
+
+    /**
+     * One keyset page, newest first; see KeysetCursor.
+     */
+    @Query("SELECT v FROM Vehicle v " +
+            "WHERE (:customerId IS NULL OR v.customer.id = :customerId) " +
+            "AND (v.createdAt < :createdAt OR (v.createdAt = :createdAt AND v.id < :id)) " +
+            "ORDER BY v.createdAt DESC, v.id DESC")
+    List<Vehicle> findPageAfter(@Param("customerId") UUID customerId,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") UUID id,
+                                Pageable limit);
 }
@@ -5,9 +5,12 @@ package com.ada.insurance_app.repository.auth;
 import com.ada.insurance_app.entity.PasswordResetToken;
 import com.ada.insurance_app.entity.User;
 import com.ada.insurance_app.core.enums.PasswordResetTokenStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -23,6 +26,8 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
 
     List<PasswordResetToken> findAllByUser(User user);
 
+    boolean existsByUserAndCreatedAtAfter(User user, LocalDateTime createdAfter);
+
     List<PasswordResetToken> findAllByUserAndPasswordResetTokenStatus(User user, PasswordResetTokenStatus status);
 
     List<PasswordResetToken> findAllByPasswordResetTokenStatusAndExpiresAtBefore(
@@ -32,6 +37,28 @@ public interface PasswordResetTokenRepository extends JpaRepository<PasswordRese
     @Query("DELETE FROM PasswordResetToken prt WHERE prt.createdAt < :cutoffDate")
     int deleteByCreatedAtBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
 
+    @Modifying
+    @Query("UPDATE PasswordResetToken prt SET prt.passwordResetTokenStatus = :newStatus, prt.updatedAt = :now " +
+            "WHERE prt.user = :user AND prt.passwordResetTokenStatus = :status")
+    int updateStatusByUser(@Param("user") User user,
+                           @Param("status") PasswordResetTokenStatus status,
+                           @Param("newStatus") PasswordResetTokenStatus newStatus,
+                           @Param("now") LocalDateTime now);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "password_reset_tokens"))
+    @Query(value = "UPDATE {h-schema}password_reset_tokens SET password_reset_token_status = 'EXPIRED', updated_at = :now " +
+            "WHERE password_reset_token_id IN (SELECT password_reset_token_id FROM {h-schema}password_reset_tokens " +
+            "WHERE password_reset_token_status = 'ACTIVE' AND expires_at < :now LIMIT :limit)", nativeQuery = true)
+    int markExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "password_reset_tokens"))
+    @Query(value = "DELETE FROM {h-schema}password_reset_tokens WHERE password_reset_token_id IN " +
+            "(SELECT password_reset_token_id FROM {h-schema}password_reset_tokens WHERE created_at < :cutoffDate LIMIT :limit)",
+            nativeQuery = true)
+    int deleteCreatedBeforeChunk(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("limit") int limit);
+
     @Query("SELECT prt FROM PasswordResetToken prt WHERE prt.user = :user " +
             "AND prt.passwordResetTokenStatus = 'ACTIVE' " +
             "AND prt.expiresAt > :now " +
@@ -2,8 +2,11 @@ package com.ada.insurance_app.repository.auth.User;
 
 import com.ada.insurance_app.entity.User;
 import com.ada.insurance_app.core.enums.Role;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,4 +21,16 @@ public interface IUserRepository extends JpaRepository<User, UUID> {
     long countByRole(Role role);
     @Query("SELECT u FROM User u ORDER BY u.createdAt DESC")
     List<User> findTop5ByOrderByCreatedAtDesc();
+
+    /**
+     * One keyset page, newest first; see KeysetCursor.
+     */
+    @Query("SELECT u FROM User u " +
+            "WHERE (:role IS NULL OR u.role = :role) " +
+            "AND (u.createdAt < :createdAt OR (u.createdAt = :createdAt AND u.id < :id)) " +
+            "ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findPageAfter(@Param("role") Role role,
+                             @Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") UUID id,
+                             Pageable limit);
 }
@@ -0,0 +1,30 @@
+package com.ada.insurance_app.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Per-agent totals read from the agent_stats read model.
+ */
+public interface AgentStatsView {
+
+    UUID getAgentId();
+
+    String getAgentName();
+
+    String getAgentNumber();
+
+    long getTotalPolicies();
+
+    long getApprovedPolicies();
+
+    long getTotalPayments();
+
+    BigDecimal getTotalPremium();
+
+    long getTotalClaims();
+
+    BigDecimal getTotalClaimPaid();
+
+    long getTotalOffers();
+}
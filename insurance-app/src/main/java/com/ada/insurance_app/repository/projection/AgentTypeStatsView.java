@@ -0,0 +1,32 @@
+package com.ada.insurance_app.repository.projection;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Totals of one agent for one insurance type, read from the source tables.
+ */
+public interface AgentTypeStatsView {
+
+    UUID getAgentId();
+
+    String getAgentName();
+
+    String getAgentNumber();
+
+    String getCity();
+
+    String getInsuranceType();
+
+    long getTotalOffers();
+
+    long getTotalPolicies();
+
+    long getTotalPayments();
+
+    BigDecimal getTotalPremium();
+
+    long getTotalClaims();
+
+    BigDecimal getTotalClaimPaid();
+}
@@ -0,0 +1,32 @@
+package com.ada.insurance_app.repository.projection;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One claim line of an export; the agent is the one handling the claim.
+ */
+public interface ClaimExportRow {
+
+    UUID getId();
+
+    String getClaimNumber();
+
+    String getPolicyNumber();
+
+    String getAgentNumber();
+
+    ClaimStatus getStatus();
+
+    LocalDate getIncidentDate();
+
+    BigDecimal getEstimatedAmount();
+
+    BigDecimal getApprovedAmount();
+
+    LocalDateTime getCreatedAt();
+}
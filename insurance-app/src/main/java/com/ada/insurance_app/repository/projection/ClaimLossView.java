@@ -0,0 +1,33 @@
+package com.ada.insurance_app.repository.projection;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * One coverage of a claim's policy with what is needed to spread the payout over coverages.
+ * Coverage fields are null when the policy has no coverages.
+ */
+public interface ClaimLossView {
+
+    UUID getClaimId();
+
+    ClaimStatus getStatus();
+
+    BigDecimal getApprovedAmount();
+
+    LocalDate getIncidentDate();
+
+    InsuranceType getInsuranceType();
+
+    String getCity();
+
+    Long getCoverageId();
+
+    String getCoverageCode();
+
+    BigDecimal getCoverageBasePrice();
+}
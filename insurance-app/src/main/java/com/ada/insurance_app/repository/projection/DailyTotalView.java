@@ -0,0 +1,19 @@
+package com.ada.insurance_app.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One day of a rollup, summed over the dimensions that were not filtered on.
+ * approvedAmount is only set for claims.
+ */
+public interface DailyTotalView {
+
+    LocalDate getDay();
+
+    long getCount();
+
+    BigDecimal getAmount();
+
+    BigDecimal getApprovedAmount();
+}
@@ -0,0 +1,21 @@
+package com.ada.insurance_app.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * System-wide totals returned by {@code IPolicyRepository.findDashboardSummary}.
+ */
+public interface DashboardSummaryView {
+
+    long getTotalPolicies();
+
+    long getTotalUsers();
+
+    long getTotalClaims();
+
+    long getTotalPayments();
+
+    long getTotalOffers();
+
+    BigDecimal getTotalPremium();
+}
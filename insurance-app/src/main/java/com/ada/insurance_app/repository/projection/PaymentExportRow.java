@@ -0,0 +1,31 @@
+package com.ada.insurance_app.repository.projection;
+
+import com.ada.insurance_app.core.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One payment line of an export; the agent is the one of the paid policy.
+ */
+public interface PaymentExportRow {
+
+    UUID getId();
+
+    String getTransactionReference();
+
+    String getPolicyNumber();
+
+    String getCustomerNumber();
+
+    String getAgentNumber();
+
+    BigDecimal getAmount();
+
+    PaymentStatus getStatus();
+
+    LocalDateTime getPaymentDate();
+
+    LocalDateTime getCreatedAt();
+}
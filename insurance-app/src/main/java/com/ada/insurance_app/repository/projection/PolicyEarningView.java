@@ -0,0 +1,34 @@
+package com.ada.insurance_app.repository.projection;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One coverage of a policy with what is needed to spread its premium over coverages and months.
+ * Coverage fields are null for a policy without coverages.
+ */
+public interface PolicyEarningView {
+
+    Long getPolicyId();
+
+    InsuranceType getInsuranceType();
+
+    BigDecimal getPremium();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    String getCity();
+
+    PaymentStatus getPaymentStatus();
+
+    Long getCoverageId();
+
+    String getCoverageCode();
+
+    BigDecimal getCoverageBasePrice();
+}
@@ -0,0 +1,34 @@
+package com.ada.insurance_app.repository.projection;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One policy line of an export. Agent fields are null for a policy without an agent.
+ */
+public interface PolicyExportRow {
+
+    Long getId();
+
+    String getPolicyNumber();
+
+    PolicyStatus getStatus();
+
+    InsuranceType getInsuranceType();
+
+    BigDecimal getPremium();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    String getCustomerNumber();
+
+    String getAgentNumber();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,18 @@
+package com.ada.insurance_app.repository.projection;
+
+/**
+ * One ranked full-text search match. highlight holds matched fragments of the row's text between
+ * the markers given to ts_headline; it is null when the row has no free text.
+ */
+public interface SearchHitView {
+
+    String getId();
+
+    String getTitle();
+
+    String getSubtitle();
+
+    String getHighlight();
+
+    double getRank();
+}
@@ -0,0 +1,26 @@
+package com.ada.insurance_app.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * One fuzzy vehicle search match; score is 2 for an exact plate, 1 for a plate prefix and the trigram
+ * similarity otherwise.
+ */
+public interface VehicleSearchView {
+
+    UUID getId();
+
+    String getPlateNumber();
+
+    String getVin();
+
+    String getMake();
+
+    String getModel();
+
+    Integer getYear();
+
+    UUID getCustomerId();
+
+    double getScore();
+}
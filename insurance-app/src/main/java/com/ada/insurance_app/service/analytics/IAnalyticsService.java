@@ -0,0 +1,32 @@
+package com.ada.insurance_app.service.analytics;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.LossRatioDimension;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.TimeBucket;
+import com.ada.insurance_app.dto.LossRatioDto;
+import com.ada.insurance_app.dto.TimeSeriesPointDto;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+public interface IAnalyticsService {
+
+    // Collected premium (successful payments) per bucket
+    List<TimeSeriesPointDto> getPremiumSeries(LocalDate from, LocalDate to, TimeBucket bucket,
+                                              InsuranceType insuranceType, UUID agentId);
+
+    List<TimeSeriesPointDto> getPaymentSeries(LocalDate from, LocalDate to, TimeBucket bucket,
+                                              PaymentStatus status, InsuranceType insuranceType, UUID agentId);
+
+    // Claims per incident date bucket
+    List<TimeSeriesPointDto> getClaimSeries(LocalDate from, LocalDate to, TimeBucket bucket,
+                                            ClaimStatus status, InsuranceType insuranceType, UUID agentId);
+
+    // Loss ratio per coverage, insurance type, city or month, answered in memory
+    List<LossRatioDto> getLossRatios(YearMonth from, YearMonth to, LossRatioDimension groupBy,
+                                     Long coverageId, InsuranceType insuranceType, String city);
+}
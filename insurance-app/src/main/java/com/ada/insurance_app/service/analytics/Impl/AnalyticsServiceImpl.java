@@ -0,0 +1,114 @@
+package com.ada.insurance_app.service.analytics.Impl;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.LossRatioDimension;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.TimeBucket;
+import com.ada.insurance_app.core.exception.InvalidRequestException;
+import com.ada.insurance_app.core.exception.ServiceUnavailableException;
+import com.ada.insurance_app.dto.LossRatioDto;
+import com.ada.insurance_app.dto.TimeSeriesPointDto;
+import com.ada.insurance_app.repository.IClaimDailyRollupRepository;
+import com.ada.insurance_app.repository.IPaymentDailyRollupRepository;
+import com.ada.insurance_app.repository.projection.DailyTotalView;
+import com.ada.insurance_app.service.analytics.IAnalyticsService;
+import com.ada.insurance_app.service.analytics.lossratio.LossRatioEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Time series read from the daily rollup tables: the database returns at most one row per day
+ * and days are folded into week or month buckets here. Loss ratios are answered by LossRatioEngine.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnalyticsServiceImpl implements IAnalyticsService {
+    private final IPaymentDailyRollupRepository paymentRollupRepository;
+    private final IClaimDailyRollupRepository claimRollupRepository;
+    private final LossRatioEngine lossRatioEngine;
+
+    @Value("${app.analytics.maxRangeDays:1830}")
+    private long maxRangeDays;
+
+    @Override
+    public List<TimeSeriesPointDto> getPremiumSeries(LocalDate from, LocalDate to, TimeBucket bucket,
+                                                     InsuranceType insuranceType, UUID agentId) {
+        return getPaymentSeries(from, to, bucket, PaymentStatus.SUCCESS, insuranceType, agentId);
+    }
+
+    @Override
+    public List<TimeSeriesPointDto> getPaymentSeries(LocalDate from, LocalDate to, TimeBucket bucket,
+                                                     PaymentStatus status, InsuranceType insuranceType, UUID agentId) {
+        validateRange(from, to);
+        return toBuckets(paymentRollupRepository.findDailyTotals(from, to, status, insuranceType, agentId), bucket);
+    }
+
+    @Override
+    public List<TimeSeriesPointDto> getClaimSeries(LocalDate from, LocalDate to, TimeBucket bucket,
+                                                   ClaimStatus status, InsuranceType insuranceType, UUID agentId) {
+        validateRange(from, to);
+        return toBuckets(claimRollupRepository.findDailyTotals(from, to, status, insuranceType, agentId), bucket);
+    }
+
+    @Override
+    public List<LossRatioDto> getLossRatios(YearMonth from, YearMonth to, LossRatioDimension groupBy,
+                                            Long coverageId, InsuranceType insuranceType, String city) {
+        validateRange(from.atDay(1), to.atEndOfMonth());
+        if (!lossRatioEngine.isLoaded()) {
+            throw new ServiceUnavailableException("Loss-ratio analytics are still loading, please try again shortly");
+        }
+
+        List<LossRatioDto> ratios = new ArrayList<>();
+        lossRatioEngine.slice(groupBy, coverageId, insuranceType, city, from, to).forEach((key, totals) -> {
+            double premium = totals[0];
+            double claims = totals[1];
+            ratios.add(new LossRatioDto(key, premium, claims, premium > 0 ? claims / premium * 100 : null));
+        });
+        return ratios;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidRequestException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxRangeDays) {
+            throw new InvalidRequestException("Date range must not exceed " + maxRangeDays + " days");
+        }
+    }
+
+    // Days arrive ordered, so consecutive days of the same bucket are merged into one point
+    private List<TimeSeriesPointDto> toBuckets(List<DailyTotalView> days, TimeBucket bucket) {
+        List<TimeSeriesPointDto> points = new ArrayList<>();
+        TimeSeriesPointDto current = null;
+
+        for (DailyTotalView day : days) {
+            LocalDate start = bucket.startOf(day.getDay());
+            if (current == null || !current.getBucketStart().equals(start)) {
+                current = new TimeSeriesPointDto(start, 0, BigDecimal.ZERO, null);
+                points.add(current);
+            }
+            current.setCount(current.getCount() + day.getCount());
+            current.setAmount(current.getAmount().add(orZero(day.getAmount())));
+            if (day.getApprovedAmount() != null) {
+                current.setApprovedAmount(orZero(current.getApprovedAmount()).add(day.getApprovedAmount()));
+            }
+        }
+        return points;
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+}
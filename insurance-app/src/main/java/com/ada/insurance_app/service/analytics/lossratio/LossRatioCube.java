@@ -0,0 +1,298 @@
+package com.ada.insurance_app.service.analytics.lossratio;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.LossRatioDimension;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Earned premium and claim payouts per (coverage, insurance type, city, month) cell, stored column-wise
+ * in primitive arrays so that a slice is a single linear scan.
+ * <p>
+ * The contribution of every policy and claim is remembered as (cell, amount) pairs, so a changed row
+ * is applied by subtracting its previous contribution and adding the new one. The pairs live in a
+ * {@link ContributionStore}, primitive arrays keyed by row id, so remembering them costs a few bytes per
+ * pair rather than a map entry and two arrays per row. Not thread-safe: LossRatioEngine guards it with a
+ * read/write lock.
+ */
+final class LossRatioCube {
+
+    private static final InsuranceType[] TYPES = InsuranceType.values();
+
+    // Dictionaries: dimension value -> dense index
+    private final Map<Long, Integer> coverageIndex = new HashMap<>();
+    private final List<String> coverageCodes = new ArrayList<>();
+    private final Map<String, Integer> cityIndex = new HashMap<>();
+    private final List<String> cities = new ArrayList<>();
+
+    // Cells, column-wise
+    private final Map<Long, Integer> cellIndex = new HashMap<>();
+    private int[] cellCoverage = new int[1024];
+    private byte[] cellType = new byte[1024];
+    private int[] cellCity = new int[1024];
+    private int[] cellMonth = new int[1024];
+    private double[] premium = new double[1024];
+    private double[] claims = new double[1024];
+    private int size;
+
+    private final ContributionStore policyContributions = new ContributionStore();
+    private final ContributionStore claimContributions = new ContributionStore();
+
+    /**
+     * A row's (cell, amount) pairs as computed from the feed; copied into the store, not kept.
+     */
+    record Contribution(int[] cells, double[] amounts) {
+    }
+
+    /**
+     * Cell of the given dimension values, created if missing.
+     * @param month months since year 0, see {@link #monthOf(YearMonth)}
+     */
+    int cell(long coverageId, String coverageCode, InsuranceType type, String city, int month) {
+        int coverage = coverageIndex.computeIfAbsent(coverageId, id -> {
+            coverageCodes.add(coverageCode);
+            return coverageCodes.size() - 1;
+        });
+        String cityKey = Objects.requireNonNullElse(city, "");
+        int cityIdx = cityIndex.computeIfAbsent(cityKey, c -> {
+            cities.add(cityKey);
+            return cities.size() - 1;
+        });
+
+        // 24 bits coverage, 4 bits type, 20 bits city, 16 bits month
+        long key = ((long) coverage << 40) | ((long) type.ordinal() << 36) | ((long) cityIdx << 16) | month;
+        return cellIndex.computeIfAbsent(key, k -> {
+            if (size == premium.length) {
+                grow();
+            }
+            cellCoverage[size] = coverage;
+            cellType[size] = (byte) type.ordinal();
+            cellCity[size] = cityIdx;
+            cellMonth[size] = month;
+            return size++;
+        });
+    }
+
+    void replacePolicy(long policyId, Contribution next) {
+        policyContributions.replace(policyId, 0L, next, premium);
+    }
+
+    void replaceClaim(UUID claimId, Contribution next) {
+        claimContributions.replace(claimId.getMostSignificantBits(), claimId.getLeastSignificantBits(), next, claims);
+    }
+
+    /**
+     * Sums premium and claims of the cells matching the filters, grouped by one dimension.
+     * Null filters match everything; months are inclusive.
+     * @return group label -> {premium, claims}, in dimension order
+     */
+    Map<String, double[]> slice(LossRatioDimension groupBy, Long coverageId, InsuranceType type, String city,
+                                YearMonth from, YearMonth to) {
+        int coverageFilter = coverageId == null ? -1 : coverageIndex.getOrDefault(coverageId, -2);
+        int typeFilter = type == null ? -1 : type.ordinal();
+        int cityFilter = city == null ? -1 : cityIndex.getOrDefault(city, -2);
+        int fromMonth = monthOf(from);
+        int toMonth = monthOf(to);
+        if (coverageFilter == -2 || cityFilter == -2) {
+            return Map.of();
+        }
+
+        int groups = switch (groupBy) {
+            case COVERAGE -> coverageCodes.size();
+            case INSURANCE_TYPE -> TYPES.length;
+            case CITY -> cities.size();
+            case MONTH -> toMonth - fromMonth + 1;
+        };
+        double[] premiumByGroup = new double[groups];
+        double[] claimsByGroup = new double[groups];
+        boolean[] seen = new boolean[groups];
+
+        for (int i = 0; i < size; i++) {
+            int month = cellMonth[i];
+            if (month < fromMonth || month > toMonth
+                    || (coverageFilter >= 0 && cellCoverage[i] != coverageFilter)
+                    || (typeFilter >= 0 && cellType[i] != typeFilter)
+                    || (cityFilter >= 0 && cellCity[i] != cityFilter)) {
+                continue;
+            }
+            int group = switch (groupBy) {
+                case COVERAGE -> cellCoverage[i];
+                case INSURANCE_TYPE -> cellType[i];
+                case CITY -> cellCity[i];
+                case MONTH -> month - fromMonth;
+            };
+            premiumByGroup[group] += premium[i];
+            claimsByGroup[group] += claims[i];
+            seen[group] = true;
+        }
+
+        Map<String, double[]> result = new LinkedHashMap<>();
+        for (int group = 0; group < groups; group++) {
+            if (seen[group]) {
+                result.put(label(groupBy, group, fromMonth), new double[]{premiumByGroup[group], claimsByGroup[group]});
+            }
+        }
+        return result;
+    }
+
+    int cellCount() {
+        return size;
+    }
+
+    private String label(LossRatioDimension groupBy, int group, int fromMonth) {
+        return switch (groupBy) {
+            case COVERAGE -> coverageCodes.get(group);
+            case INSURANCE_TYPE -> TYPES[group].name();
+            case CITY -> cities.get(group);
+            case MONTH -> YearMonth.of((fromMonth + group) / 12, (fromMonth + group) % 12 + 1).toString();
+        };
+    }
+
+    private void grow() {
+        int capacity = premium.length * 2;
+        cellCoverage = Arrays.copyOf(cellCoverage, capacity);
+        cellType = Arrays.copyOf(cellType, capacity);
+        cellCity = Arrays.copyOf(cellCity, capacity);
+        cellMonth = Arrays.copyOf(cellMonth, capacity);
+        premium = Arrays.copyOf(premium, capacity);
+        claims = Arrays.copyOf(claims, capacity);
+    }
+
+    static int monthOf(YearMonth month) {
+        return month.getYear() * 12 + month.getMonthValue() - 1;
+    }
+
+    /**
+     * Contributions of one kind of row, keyed by the row id as two longs (a policy id and 0, or the halves of a
+     * claim UUID) in an open-addressing table with linear probing. Each row points to a segment of one shared
+     * pair of arrays; a contribution that grows is appended and its old segment left behind, and the arrays are
+     * compacted whenever they fill up. A removed row keeps its slot with an empty segment until the next rebuild.
+     */
+    private static final class ContributionStore {
+
+        private long[] keyHigh = new long[1024];
+        private long[] keyLow = new long[1024];
+        private boolean[] used = new boolean[1024];
+        private int[] start = new int[1024];
+        private int[] length = new int[1024];
+        private int rows;
+
+        private int[] cells = new int[4096];
+        private double[] amounts = new double[4096];
+        private int end;
+        private int live;
+
+        /**
+         * Subtracts the row's previous contribution from the column, stores the next one (null removes it)
+         * and adds it to the column.
+         */
+        void replace(long high, long low, Contribution next, double[] column) {
+            int slot = find(high, low);
+            int previous = 0;
+            if (used[slot]) {
+                previous = length[slot];
+                for (int i = start[slot]; i < start[slot] + previous; i++) {
+                    column[cells[i]] -= amounts[i];
+                }
+                live -= previous;
+                length[slot] = 0;
+            }
+            if (next == null) {
+                return;
+            }
+            if (!used[slot]) {
+                if ((rows + 1) * 4L > used.length * 3L) {
+                    growTable();
+                    slot = find(high, low);
+                }
+                used[slot] = true;
+                keyHigh[slot] = high;
+                keyLow[slot] = low;
+                rows++;
+            }
+
+            int count = next.cells().length;
+            if (count > previous) {
+                reserve(count);
+                start[slot] = end;
+                end += count;
+            }
+            System.arraycopy(next.cells(), 0, cells, start[slot], count);
+            System.arraycopy(next.amounts(), 0, amounts, start[slot], count);
+            length[slot] = count;
+            live += count;
+            for (int i = 0; i < count; i++) {
+                column[next.cells()[i]] += next.amounts()[i];
+            }
+        }
+
+        // Slot holding the key, or the free slot where it belongs
+        private int find(long high, long low) {
+            int mask = used.length - 1;
+            int slot = hash(high, low) & mask;
+            while (used[slot] && (keyHigh[slot] != high || keyLow[slot] != low)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private static int hash(long high, long low) {
+            long h = (high ^ Long.rotateLeft(low, 32)) * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private void growTable() {
+            long[] oldHigh = keyHigh;
+            long[] oldLow = keyLow;
+            boolean[] oldUsed = used;
+            int[] oldStart = start;
+            int[] oldLength = length;
+            int capacity = oldUsed.length * 2;
+            keyHigh = new long[capacity];
+            keyLow = new long[capacity];
+            used = new boolean[capacity];
+            start = new int[capacity];
+            length = new int[capacity];
+            for (int i = 0; i < oldUsed.length; i++) {
+                if (oldUsed[i]) {
+                    int slot = find(oldHigh[i], oldLow[i]);
+                    used[slot] = true;
+                    keyHigh[slot] = oldHigh[i];
+                    keyLow[slot] = oldLow[i];
+                    start[slot] = oldStart[i];
+                    length[slot] = oldLength[i];
+                }
+            }
+        }
+
+        // Makes room for count more pairs at the end, dropping the segments of replaced contributions
+        private void reserve(int count) {
+            if (end + count <= cells.length) {
+                return;
+            }
+            int capacity = Math.max(cells.length, 2 * (live + count));
+            int[] compactCells = new int[capacity];
+            double[] compactAmounts = new double[capacity];
+            int at = 0;
+            for (int slot = 0; slot < used.length; slot++) {
+                if (used[slot] && length[slot] > 0) {
+                    System.arraycopy(cells, start[slot], compactCells, at, length[slot]);
+                    System.arraycopy(amounts, start[slot], compactAmounts, at, length[slot]);
+                    start[slot] = at;
+                    at += length[slot];
+                }
+            }
+            cells = compactCells;
+            amounts = compactAmounts;
+            end = at;
+        }
+    }
+}
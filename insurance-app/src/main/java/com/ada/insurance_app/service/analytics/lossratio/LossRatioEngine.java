@@ -0,0 +1,294 @@
+package com.ada.insurance_app.service.analytics.lossratio;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.LossRatioDimension;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.repository.IClaimRepository;
+import com.ada.insurance_app.repository.IPolicyRepository;
+import com.ada.insurance_app.repository.projection.ClaimLossView;
+import com.ada.insurance_app.repository.projection.PolicyEarningView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * In-memory loss-ratio engine: earned premium and approved claim payouts per coverage, insurance type,
+ * customer city and month, answered from a {@link LossRatioCube}.
+ * <ul>
+ *     <li>premium of a paid policy is earned evenly per day between its start and end date</li>
+ *     <li>premium and payouts are split over the policy's coverages pro rata to their base price</li>
+ *     <li>payouts are the approved amount of APPROVED and PAID claims, in the incident month</li>
+ * </ul>
+ * After the initial load only rows changed since the last refresh are read back (by updated_at, with an
+ * overlap for transactions still in flight) and replace their previous contribution. The feed only looks at
+ * the policy, payment and claim rows themselves, so some changes keep the old contribution until the nightly
+ * rebuild catches them:
+ * <ul>
+ *     <li>deleted policies and claims</li>
+ *     <li>coverages added to or removed from a policy, and base price changes that shift the coverage shares</li>
+ *     <li>a customer moving to another city</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LossRatioEngine {
+
+    private static final Set<ClaimStatus> PAID_OUT_STATUSES = EnumSet.of(ClaimStatus.APPROVED, ClaimStatus.PAID);
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long NO_COVERAGE_ID = 0L;
+    private static final String NO_COVERAGE_CODE = "NONE";
+
+    private final IPolicyRepository policyRepository;
+    private final IClaimRepository claimRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private LossRatioCube cube = new LossRatioCube();
+    private volatile LocalDateTime lastRefreshStart;
+
+    @Value("${app.analytics.lossRatio.feedOverlapMs:60000}")
+    private long feedOverlapMs;
+
+    /**
+     * @return group label -> {earned premium, claims paid}
+     */
+    public Map<String, double[]> slice(LossRatioDimension groupBy, Long coverageId, InsuranceType insuranceType,
+                                       String city, YearMonth from, YearMonth to) {
+        lock.readLock().lock();
+        try {
+            return cube.slice(groupBy, coverageId, insuranceType, city == null ? null : cityKey(city), from, to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return lastRefreshStart != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.analytics.lossRatio.rebuildCron:0 15 3 * * *}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime refreshStart = LocalDateTime.now();
+        try {
+            LossRatioCube fresh = new LossRatioCube();
+            int[] rows = load(BEGINNING, policy -> fresh.replacePolicy(policy.id(), policy.contribution(fresh)),
+                    claim -> fresh.replaceClaim(claim.id(), claim.contribution(fresh)));
+
+            lock.writeLock().lock();
+            try {
+                cube = fresh;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastRefreshStart = refreshStart;
+            log.info("Loss-ratio engine rebuilt in {} ms: {} policies, {} claims, {} cells",
+                    System.currentTimeMillis() - start, rows[0], rows[1], fresh.cellCount());
+        } catch (Exception e) {
+            log.error("Loss-ratio engine rebuild failed", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.analytics.lossRatio.refreshIntervalMs:60000}",
+            fixedDelayString = "${app.analytics.lossRatio.refreshIntervalMs:60000}")
+    public synchronized void refresh() {
+        if (lastRefreshStart == null) {
+            return; // initial rebuild not done yet
+        }
+        LocalDateTime refreshStart = LocalDateTime.now();
+        LocalDateTime since = lastRefreshStart.minus(feedOverlapMs, ChronoUnit.MILLIS);
+        try {
+            // Replacing a contribution is idempotent, so rows seen twice because of the overlap are harmless
+            int[] rows = load(since, this::applyPolicy, this::applyClaim);
+            lastRefreshStart = refreshStart;
+            if (rows[0] > 0 || rows[1] > 0) {
+                log.debug("Loss-ratio engine refreshed: {} policies, {} claims changed", rows[0], rows[1]);
+            }
+        } catch (Exception e) {
+            log.error("Loss-ratio engine refresh failed", e);
+        }
+    }
+
+    private void applyPolicy(PolicyFact policy) {
+        lock.writeLock().lock();
+        try {
+            cube.replacePolicy(policy.id(), policy.contribution(cube));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void applyClaim(ClaimFact claim) {
+        lock.writeLock().lock();
+        try {
+            cube.replaceClaim(claim.id(), claim.contribution(cube));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Streams the rows changed since the given instant and hands one fact per policy and per claim to the sinks.
+     * @return {policies, claims} read
+     */
+    private int[] load(LocalDateTime since, Consumer<PolicyFact> policySink, Consumer<ClaimFact> claimSink) {
+        int[] rows = new int[2];
+        transactionTemplate.execute(status -> {
+            try (Stream<PolicyEarningView> stream = policyRepository.streamEarningRowsChangedSince(since)) {
+                rows[0] = groupConsecutive(stream, PolicyEarningView::getPolicyId, PolicyFact::new, policySink);
+            }
+            try (Stream<ClaimLossView> stream = claimRepository.streamLossRowsChangedSince(since)) {
+                rows[1] = groupConsecutive(stream, ClaimLossView::getClaimId, ClaimFact::new, claimSink);
+            }
+            return null;
+        });
+        return rows;
+    }
+
+    // Rows arrive ordered by id, one per coverage
+    private static <R, I, F> int groupConsecutive(Stream<R> rows, Function<R, I> id,
+                                                   Function<List<R>, F> fact, Consumer<F> sink) {
+        int[] count = new int[1];
+        List<R> group = new ArrayList<>();
+        rows.forEachOrdered(row -> {
+            if (!group.isEmpty() && !id.apply(group.get(0)).equals(id.apply(row))) {
+                sink.accept(fact.apply(List.copyOf(group)));
+                count[0]++;
+                group.clear();
+            }
+            group.add(row);
+        });
+        if (!group.isEmpty()) {
+            sink.accept(fact.apply(List.copyOf(group)));
+            count[0]++;
+        }
+        return count[0];
+    }
+
+    private static String cityKey(String city) {
+        return city == null ? "" : city.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Share of each coverage in the policy, pro rata to base price; even when prices are missing.
+     */
+    private static double[] coverageShares(List<BigDecimal> basePrices) {
+        double[] shares = new double[basePrices.size()];
+        double total = 0;
+        for (BigDecimal price : basePrices) {
+            total += price == null ? 0 : Math.max(0, price.doubleValue());
+        }
+        for (int i = 0; i < shares.length; i++) {
+            BigDecimal price = basePrices.get(i);
+            shares[i] = total > 0 ? (price == null ? 0 : Math.max(0, price.doubleValue())) / total : 1.0 / shares.length;
+        }
+        return shares;
+    }
+
+    private record PolicyFact(List<PolicyEarningView> rows) {
+
+        long id() {
+            return rows.get(0).getPolicyId();
+        }
+
+        LossRatioCube.Contribution contribution(LossRatioCube cube) {
+            PolicyEarningView policy = rows.get(0);
+            if (policy.getPaymentStatus() != PaymentStatus.SUCCESS || policy.getPremium() == null
+                    || policy.getStartDate() == null || policy.getInsuranceType() == null) {
+                return null;
+            }
+            LocalDate start = policy.getStartDate();
+            LocalDate end = policy.getEndDate() != null && policy.getEndDate().isAfter(start)
+                    ? policy.getEndDate() : start.plusDays(1);
+            double totalDays = ChronoUnit.DAYS.between(start, end);
+            double[] shares = coverageShares(rows.stream().map(PolicyEarningView::getCoverageBasePrice).toList());
+
+            List<Integer> cells = new ArrayList<>();
+            List<Double> amounts = new ArrayList<>();
+            for (YearMonth month = YearMonth.from(start); !month.atDay(1).isAfter(end.minusDays(1)); month = month.plusMonths(1)) {
+                LocalDate monthStart = month.atDay(1).isBefore(start) ? start : month.atDay(1);
+                LocalDate monthEnd = month.plusMonths(1).atDay(1).isAfter(end) ? end : month.plusMonths(1).atDay(1);
+                double earned = policy.getPremium().doubleValue() * ChronoUnit.DAYS.between(monthStart, monthEnd) / totalDays;
+
+                for (int i = 0; i < rows.size(); i++) {
+                    PolicyEarningView coverage = rows.get(i);
+                    cells.add(cube.cell(coverageId(coverage.getCoverageId()), coverageCode(coverage.getCoverageCode()),
+                            policy.getInsuranceType(), cityKey(policy.getCity()), LossRatioCube.monthOf(month)));
+                    amounts.add(earned * shares[i]);
+                }
+            }
+            return toContribution(cells, amounts);
+        }
+    }
+
+    private record ClaimFact(List<ClaimLossView> rows) {
+
+        UUID id() {
+            return rows.get(0).getClaimId();
+        }
+
+        LossRatioCube.Contribution contribution(LossRatioCube cube) {
+            ClaimLossView claim = rows.get(0);
+            if (!PAID_OUT_STATUSES.contains(claim.getStatus()) || claim.getApprovedAmount() == null
+                    || claim.getIncidentDate() == null || claim.getInsuranceType() == null) {
+                return null;
+            }
+            double[] shares = coverageShares(rows.stream().map(ClaimLossView::getCoverageBasePrice).toList());
+            int month = LossRatioCube.monthOf(YearMonth.from(claim.getIncidentDate()));
+
+            List<Integer> cells = new ArrayList<>();
+            List<Double> amounts = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                ClaimLossView coverage = rows.get(i);
+                cells.add(cube.cell(coverageId(coverage.getCoverageId()), coverageCode(coverage.getCoverageCode()),
+                        claim.getInsuranceType(), cityKey(claim.getCity()), month));
+                amounts.add(claim.getApprovedAmount().doubleValue() * shares[i]);
+            }
+            return toContribution(cells, amounts);
+        }
+    }
+
+    private static long coverageId(Long id) {
+        return id != null ? id : NO_COVERAGE_ID;
+    }
+
+    private static String coverageCode(String code) {
+        return code != null ? code : NO_COVERAGE_CODE;
+    }
+
+    private static LossRatioCube.Contribution toContribution(List<Integer> cells, List<Double> amounts) {
+        int[] cellArray = new int[cells.size()];
+        double[] amountArray = new double[amounts.size()];
+        for (int i = 0; i < cellArray.length; i++) {
+            cellArray[i] = cells.get(i);
+            amountArray[i] = amounts.get(i);
+        }
+        return new LossRatioCube.Contribution(cellArray, amountArray);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ada.insurance_app.service.analytics.rollup;
+
+import com.ada.insurance_app.repository.IClaimDailyRollupRepository;
+import com.ada.insurance_app.repository.IPaymentDailyRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * Rebuilds the daily rollups from the payments and claims tables.
+ * <ul>
+ *     <li>at startup, empty rollup tables are backfilled from the earliest source day, one month per transaction</li>
+ *     <li>every night the last reconcileDays days are recomputed to correct drift left by writes
+ *     the incremental listener cannot see</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyRollupBackfillService {
+
+    private final IPaymentDailyRollupRepository paymentRollupRepository;
+    private final IClaimDailyRollupRepository claimRollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.analytics.rollup.reconcileDays:7}")
+    private int reconcileDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (paymentRollupRepository.count() == 0) {
+                LocalDate earliest = paymentRollupRepository.findEarliestSourceDay();
+                if (earliest != null) {
+                    backfill("payments", earliest, this::rebuildPayments);
+                }
+            }
+            if (claimRollupRepository.count() == 0) {
+                LocalDate earliest = claimRollupRepository.findEarliestSourceDay();
+                if (earliest != null) {
+                    backfill("claims", earliest, this::rebuildClaims);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Daily rollup backfill failed", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.analytics.rollup.reconcileCron:0 30 2 * * *}")
+    public void reconcileRecentDays() {
+        LocalDate to = LocalDate.now().plusDays(1);
+        LocalDate from = to.minusDays(reconcileDays + 1L);
+        try {
+            int payments = rebuildPayments(from, to);
+            int claims = rebuildClaims(from, to);
+            log.info("Daily rollups since {} recomputed: {} payment rows, {} claim rows", from, payments, claims);
+        } catch (Exception e) {
+            log.error("Daily rollup reconciliation failed", e);
+        }
+    }
+
+    private void backfill(String name, LocalDate earliest, RangeRebuild rebuild) {
+        long start = System.currentTimeMillis();
+        LocalDate end = LocalDate.now().plusDays(1);
+        int rows = 0;
+        for (LocalDate from = earliest.withDayOfMonth(1); from.isBefore(end); from = from.plusMonths(1)) {
+            rows += rebuild.rebuild(from, from.plusMonths(1));
+        }
+        log.info("Daily {} rollups backfilled from {} in {} ms: {} rows", name, earliest,
+                System.currentTimeMillis() - start, rows);
+    }
+
+    /**
+     * Replaces the payment rollup rows of [from, to) in one transaction.
+     */
+    int rebuildPayments(LocalDate from, LocalDate to) {
+        Integer rows = transactionTemplate.execute(status -> {
+            paymentRollupRepository.deleteByDayRange(from, to);
+            return paymentRollupRepository.insertAggregatedRange(from, to);
+        });
+        return rows != null ? rows : 0;
+    }
+
+    /**
+     * Replaces the claim rollup rows of [from, to) in one transaction.
+     */
+    int rebuildClaims(LocalDate from, LocalDate to) {
+        Integer rows = transactionTemplate.execute(status -> {
+            claimRollupRepository.deleteByDayRange(from, to);
+            return claimRollupRepository.insertAggregatedRange(from, to);
+        });
+        return rows != null ? rows : 0;
+    }
+
+    @FunctionalInterface
+    private interface RangeRebuild {
+        int rebuild(LocalDate from, LocalDate to);
+    }
+}
@@ -0,0 +1,221 @@
+package com.ada.insurance_app.service.analytics.rollup;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.persistence.AbstractDeltaEventListener;
+import com.ada.insurance_app.core.persistence.RecountableDelta;
+import com.ada.insurance_app.entity.Agent;
+import com.ada.insurance_app.entity.Claim;
+import com.ada.insurance_app.entity.ClaimDailyRollup;
+import com.ada.insurance_app.entity.Payment;
+import com.ada.insurance_app.entity.PaymentDailyRollup;
+import com.ada.insurance_app.entity.Policy;
+import com.ada.insurance_app.repository.IClaimDailyRollupRepository;
+import com.ada.insurance_app.repository.IPaymentDailyRollupRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps payment_daily_rollups and claim_daily_rollups current whichever service changes a payment or claim.
+ * Rows whose date or policy is not set yet are skipped; DailyRollupBackfillService recomputes recent days
+ * to correct any drift.
+ * <p>
+ * Payments and claims are bucketed under their policy's insurance type and agent, which their own rows do
+ * not record. When a policy changes either, every rollup row its payments and claims count in, under the
+ * old and the new type and agent, is recomputed from the source tables before commit instead.
+ */
+@Component
+public class DailyRollupEventListener
+        extends AbstractDeltaEventListener<DailyRollupEventListener.Key, DailyRollupEventListener.RollupDelta> {
+
+    enum Kind { PAYMENT, CLAIM }
+
+    sealed interface Key permits RollupKey, PolicyMove {
+    }
+
+    record RollupKey(Kind kind, LocalDate day, InsuranceType insuranceType, UUID agentId, Enum<?> status)
+            implements Key {
+    }
+
+    // A policy moved from one insurance type and agent to another; resolved into RollupKeys in beforeApply
+    record PolicyMove(Long policyId, InsuranceType oldType, UUID oldAgentId, InsuranceType newType, UUID newAgentId)
+            implements Key {
+    }
+
+    static final class RollupDelta extends RecountableDelta {
+        long count;
+        BigDecimal amount = BigDecimal.ZERO;
+        BigDecimal approvedAmount = BigDecimal.ZERO;
+    }
+
+    public DailyRollupEventListener(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected boolean isTracked(Object entity) {
+        return entity instanceof Payment || entity instanceof Claim || entity instanceof Policy;
+    }
+
+    @Override
+    protected void contribute(Object entity, Object[] state, EntityPersister persister, int sign,
+                              Map<Key, RollupDelta> deltas) {
+        if (entity instanceof Policy) {
+            return; // a policy's payments and claims are counted through their own rows
+        }
+        Policy policy = (Policy) value(state, persister, "policy");
+        Enum<?> status = (Enum<?>) value(state, persister, "status");
+        if (policy == null || policy.getInsuranceType() == null || status == null) {
+            return;
+        }
+        UUID agentId = agentId(policy.getAgent());
+
+        if (entity instanceof Payment) {
+            LocalDateTime paymentDate = (LocalDateTime) value(state, persister, "paymentDate");
+            if (paymentDate == null) {
+                return;
+            }
+            RollupKey key = new RollupKey(Kind.PAYMENT, paymentDate.toLocalDate(), policy.getInsuranceType(), agentId, status);
+            RollupDelta delta = deltas.computeIfAbsent(key, k -> new RollupDelta());
+            delta.count += sign;
+            delta.amount = delta.amount.add(signed((BigDecimal) value(state, persister, "amount"), sign));
+        } else {
+            LocalDate incidentDate = (LocalDate) value(state, persister, "incidentDate");
+            if (incidentDate == null) {
+                return;
+            }
+            RollupKey key = new RollupKey(Kind.CLAIM, incidentDate, policy.getInsuranceType(), agentId, status);
+            RollupDelta delta = deltas.computeIfAbsent(key, k -> new RollupDelta());
+            delta.count += sign;
+            delta.amount = delta.amount.add(signed((BigDecimal) value(state, persister, "estimatedAmount"), sign));
+            delta.approvedAmount = delta.approvedAmount.add(signed((BigDecimal) value(state, persister, "approvedAmount"), sign));
+        }
+    }
+
+    @Override
+    protected void contributeUpdate(Object entity, Object[] oldState, Object[] state, EntityPersister persister,
+                                    Map<Key, RollupDelta> deltas) {
+        super.contributeUpdate(entity, oldState, state, persister, deltas);
+        if (entity instanceof Policy policy) {
+            InsuranceType oldType = (InsuranceType) value(oldState, persister, "insuranceType");
+            InsuranceType newType = (InsuranceType) value(state, persister, "insuranceType");
+            UUID oldAgentId = agentId((Agent) value(oldState, persister, "agent"));
+            UUID newAgentId = agentId((Agent) value(state, persister, "agent"));
+            if (oldType != newType || !oldAgentId.equals(newAgentId)) {
+                deltas.put(new PolicyMove(policy.getId(), oldType, oldAgentId, newType, newAgentId), new RollupDelta());
+            }
+        }
+    }
+
+    /**
+     * Marks every rollup row that a moved policy's payments and claims count in, under the old and the new
+     * type and agent, for a recount. Runs after the final flush, so the days are those being committed.
+     */
+    @Override
+    protected void beforeApply(SessionImplementor session, Map<Key, RollupDelta> deltas) {
+        List<PolicyMove> moves = deltas.keySet().stream()
+                .filter(PolicyMove.class::isInstance)
+                .map(PolicyMove.class::cast)
+                .toList();
+        for (PolicyMove move : moves) {
+            deltas.remove(move);
+            for (Object[] bucket : buckets(session, IPaymentDailyRollupRepository.POLICY_BUCKETS_SQL, move.policyId())) {
+                PaymentStatus status = PaymentStatus.valueOf((String) bucket[1]);
+                recount(deltas, new RollupKey(Kind.PAYMENT, (LocalDate) bucket[0], move.oldType(), move.oldAgentId(), status));
+                recount(deltas, new RollupKey(Kind.PAYMENT, (LocalDate) bucket[0], move.newType(), move.newAgentId(), status));
+            }
+            for (Object[] bucket : buckets(session, IClaimDailyRollupRepository.POLICY_BUCKETS_SQL, move.policyId())) {
+                ClaimStatus status = ClaimStatus.valueOf((String) bucket[1]);
+                recount(deltas, new RollupKey(Kind.CLAIM, (LocalDate) bucket[0], move.oldType(), move.oldAgentId(), status));
+                recount(deltas, new RollupKey(Kind.CLAIM, (LocalDate) bucket[0], move.newType(), move.newAgentId(), status));
+            }
+        }
+    }
+
+    @Override
+    protected boolean isEmpty(RollupDelta delta) {
+        return !delta.isRecount() && delta.count == 0 && delta.amount.signum() == 0 && delta.approvedAmount.signum() == 0;
+    }
+
+    @Override
+    protected void apply(SessionImplementor session, Key rollupKey, RollupDelta delta) {
+        RollupKey key = (RollupKey) rollupKey;
+        if (delta.isRecount()) {
+            recount(session, key);
+            return;
+        }
+        var query = key.kind() == Kind.PAYMENT
+                ? session.createNativeQuery(IPaymentDailyRollupRepository.APPLY_DELTA_SQL)
+                    .addSynchronizedEntityClass(PaymentDailyRollup.class)
+                : session.createNativeQuery(IClaimDailyRollupRepository.APPLY_DELTA_SQL)
+                    .addSynchronizedEntityClass(ClaimDailyRollup.class)
+                    .setParameter("approvedAmount", delta.approvedAmount);
+        query.setParameter("day", key.day())
+                .setParameter("insuranceType", key.insuranceType().name())
+                .setParameter("agentId", key.agentId())
+                .setParameter("status", key.status().name())
+                .setParameter("count", delta.count)
+                .setParameter("amount", delta.amount)
+                .executeUpdate();
+    }
+
+    private static void recount(SessionImplementor session, RollupKey key) {
+        boolean payment = key.kind() == Kind.PAYMENT;
+        Class<?> rollup = payment ? PaymentDailyRollup.class : ClaimDailyRollup.class;
+        session.createNativeQuery(payment ? IPaymentDailyRollupRepository.RECOUNT_DELETE_SQL
+                        : IClaimDailyRollupRepository.RECOUNT_DELETE_SQL)
+                .addSynchronizedEntityClass(rollup)
+                .setParameter("day", key.day())
+                .setParameter("insuranceType", key.insuranceType().name())
+                .setParameter("agentId", key.agentId())
+                .setParameter("status", key.status().name())
+                .executeUpdate();
+        var insert = session.createNativeQuery(payment ? IPaymentDailyRollupRepository.RECOUNT_INSERT_SQL
+                        : IClaimDailyRollupRepository.RECOUNT_INSERT_SQL)
+                .addSynchronizedEntityClass(rollup)
+                .setParameter("day", key.day())
+                .setParameter("insuranceType", key.insuranceType().name())
+                .setParameter("agentId", key.agentId())
+                .setParameter("status", key.status().name());
+        if (payment) {
+            insert.setParameter("nextDay", key.day().plusDays(1));
+        }
+        insert.executeUpdate();
+    }
+
+    private static List<Object[]> buckets(SessionImplementor session, String sql, Long policyId) {
+        return session.createNativeQuery(sql, Object[].class)
+                .addScalar("day", LocalDate.class)
+                .addScalar("status", String.class)
+                .setParameter("policyId", policyId)
+                .getResultList();
+    }
+
+    private static void recount(Map<Key, RollupDelta> deltas, RollupKey key) {
+        if (key.insuranceType() == null) {
+            return; // never counted, as contribute skips policies without a type
+        }
+        recount(key, deltas, RollupDelta::new);
+    }
+
+    private static UUID agentId(Agent agent) {
+        return agent != null ? agent.getId() : PaymentDailyRollup.NO_AGENT;
+    }
+
+    private static BigDecimal signed(BigDecimal amount, int sign) {
+        if (amount == null) {
+            return BigDecimal.ZERO;
+        }
+        return sign < 0 ? amount.negate() : amount;
+    }
+}
@@ -5,13 +5,16 @@ import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.core.exception.InvalidRequestException;
 import com.ada.insurance_app.core.exception.UserNotFoundException;
 import com.ada.insurance_app.core.security.JwtTokenProvider;
+import com.ada.insurance_app.core.security.JwtUserPrincipal;
 import com.ada.insurance_app.core.security.SecurityUtils;
 import com.ada.insurance_app.dto.CustomerDto;
 import com.ada.insurance_app.dto.UserDto;
+import com.ada.insurance_app.entity.Agent;
 import com.ada.insurance_app.entity.Customer;
 import com.ada.insurance_app.entity.User;
 import com.ada.insurance_app.entity.RefreshToken;
 import com.ada.insurance_app.mapper.UserInfoMapper;
+import com.ada.insurance_app.repository.IAgentRepository;
 import com.ada.insurance_app.repository.ICustomerRepository;
 import com.ada.insurance_app.repository.auth.User.IUserRepository;
 import com.ada.insurance_app.request.auth.LoginRequest;
@@ -25,7 +28,9 @@ import com.ada.insurance_app.response.PasswordResponse;
 import com.ada.insurance_app.service.auth.IAuthService;
 import com.ada.insurance_app.service.auth.token.RefreshTokenService;
 import com.ada.insurance_app.service.auth.token.PasswordResetTokenService;
+import com.ada.insurance_app.service.auth.token.TokenRevocationService;
 import com.ada.insurance_app.service.email.EmailService;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -54,6 +59,8 @@ public class AuthServiceImpl implements IAuthService {
     private final UserInfoMapper userInfoMapper;
     private final EmailService emailService;
     private final ICustomerRepository customerRepository;
+    private final IAgentRepository agentRepository;
+    private final TokenRevocationService tokenRevocationService;
 
     @Value("${security.jwt.expirationMs}")
     private long accessTokenExpirationMs;
@@ -80,7 +87,7 @@ public class AuthServiceImpl implements IAuthService {
                     .orElseThrow(() -> new UserNotFoundException("User not found with email: " + request.getEmail()));
 
             // Generate tokens
-            String accessToken = jwtTokenProvider.generateToken(authentication);
+            String accessToken = jwtTokenProvider.generateToken(toPrincipal(user));
             String refreshTokenValue = UUID.randomUUID().toString();
 
             RefreshToken refreshToken = refreshTokenService.createRefreshToken(user, refreshTokenValue);
@@ -222,12 +229,8 @@ public class AuthServiceImpl implements IAuthService {
 
         User user = refreshToken.getUser();
 
-        // Create authentication object
-        Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getUsername(), null, user.getAuthorities());
-
         // Generate new access token
-        String accessToken = jwtTokenProvider.generateToken(authentication);
+        String accessToken = jwtTokenProvider.generateToken(toPrincipal(user));
 
         // Generate new refresh token
         String newRefreshTokenValue = UUID.randomUUID().toString();
@@ -248,11 +251,42 @@ public class AuthServiceImpl implements IAuthService {
                 .build();
     }
 
+    /**
+     * Resolves the customer/agent ids once at token issue so that later requests
+     * can identify the caller from the token alone.
+     */
+    private JwtUserPrincipal toPrincipal(User user) {
+        UUID customerId = null;
+        UUID agentId = null;
+
+        if (user.getRole() == Role.CUSTOMER) {
+            customerId = customerRepository.findByUserId(user.getId())
+                    .map(Customer::getId)
+                    .orElse(null);
+        } else if (user.getRole() == Role.AGENT) {
+            agentId = agentRepository.findByUser_Id(user.getId())
+                    .map(Agent::getId)
+                    .orElse(null);
+        }
+
+        return new JwtUserPrincipal(user.getId(), user.getUsername(), user.getRole(), customerId, agentId);
+    }
+
     @Override
     @Transactional
     public void logout(String token) {
-        refreshTokenService.revokeToken(token);
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+        }
 
+        // Revoke the access token itself so it stops working before it expires
+        Claims claims = jwtTokenProvider.parseClaims(token);
+        if (claims != null) {
+            tokenRevocationService.revokeToken(claims.getId(),
+                    jwtTokenProvider.getUserIdFromClaims(claims), claims.getExpiration());
+        }
+
+        refreshTokenService.revokeToken(token);
     }
 
     @Override
@@ -284,6 +318,7 @@ public class AuthServiceImpl implements IAuthService {
         userRepository.save(user);
 
         refreshTokenService.revokeAllTokensByUser(user);
+        tokenRevocationService.revokeAllTokensByUser(user.getId());
 
 
 
@@ -358,6 +393,7 @@ public class AuthServiceImpl implements IAuthService {
         userRepository.save(user);
 
         refreshTokenService.revokeAllTokensByUser(user);
+        tokenRevocationService.revokeAllTokensByUser(user.getId());
 
         return PasswordResponse.builder()
                 .success(true)
@@ -67,30 +67,27 @@ public class PasswordResetTokenService {
 
     @Transactional
     public void invalidateUserTokens(User user) {
-        passwordResetTokenRepository.findAllByUserAndPasswordResetTokenStatus(user, PasswordResetTokenStatus.ACTIVE)
-                .forEach(token -> {
-                    token.setPasswordResetTokenStatus(PasswordResetTokenStatus.EXPIRED);
-                    passwordResetTokenRepository.save(token);
-                });
+        passwordResetTokenRepository.updateStatusByUser(user, PasswordResetTokenStatus.ACTIVE,
+                PasswordResetTokenStatus.EXPIRED, LocalDateTime.now());
     }
 
+    /**
+     * Marks at most {@code limit} active tokens past their expiry as expired.
+     * @return the number of rows updated
+     */
     @Transactional
-    public void markExpiredTokens() {
-        passwordResetTokenRepository.findAllByPasswordResetTokenStatusAndExpiresAtBefore(
-                        PasswordResetTokenStatus.ACTIVE, LocalDateTime.now())
-                .forEach(token -> {
-                    token.markAsExpired();
-                    passwordResetTokenRepository.save(token);
-                });
-
-
+    public int markExpiredTokens(int limit) {
+        return passwordResetTokenRepository.markExpiredChunk(LocalDateTime.now(), limit);
     }
 
+    /**
+     * Deletes at most {@code limit} tokens created more than {@code daysOld} days ago.
+     * @return the number of rows deleted
+     */
     @Transactional
-    public void cleanupOldTokens(int daysOld) {
+    public int cleanupOldTokens(int daysOld, int limit) {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(daysOld);
-        int deletedCount = passwordResetTokenRepository.deleteByCreatedAtBefore(cutoffDate);
-
+        return passwordResetTokenRepository.deleteCreatedBeforeChunk(cutoffDate, limit);
     }
 
     public Optional<User> getUserByToken(String token) {
@@ -99,8 +96,7 @@ public class PasswordResetTokenService {
     }
 
     public boolean isRecentTokenRequest(User user, int minutes) {
-        return passwordResetTokenRepository.findAllByUser(user).stream()
-                .anyMatch(token -> token.isCreatedRecently(minutes));
+        return passwordResetTokenRepository.existsByUserAndCreatedAtAfter(user, LocalDateTime.now().minusMinutes(minutes));
     }
 
     public long getTokenExpiryMinutes(String token) {
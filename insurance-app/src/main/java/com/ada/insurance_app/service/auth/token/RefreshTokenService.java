@@ -59,17 +59,16 @@ public class RefreshTokenService {
 
     @Transactional
     public void revokeAllTokensByUser(User user) {
-        refreshTokenRepository.findAllByUser(user)
-                .forEach(token -> {
-                    token.setRevoked(true);
-                    refreshTokenRepository.save(token);
-                });
+        refreshTokenRepository.revokeAllByUser(user);
     }
 
+    /**
+     * Deletes at most {@code limit} expired refresh tokens.
+     * @return the number of rows deleted
+     */
     @Transactional
-    public void deleteExpiredTokens() {
-        refreshTokenRepository.deleteByExpiresAtBefore(LocalDateTime.now());
-
+    public int deleteExpiredTokens(int limit) {
+        return refreshTokenRepository.deleteExpiredChunk(LocalDateTime.now(), limit);
     }
 
     public Optional<User> getUserByToken(String token) {
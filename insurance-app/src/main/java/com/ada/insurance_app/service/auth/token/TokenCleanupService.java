@@ -1,10 +1,22 @@
 package com.ada.insurance_app.service.auth.token;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Periodically sweeps the token tables with set-based statements.
+ * Each sweep runs in chunks of batchSize rows, one transaction per chunk, so a large backlog
+ * never holds long locks; rows touched and duration are published per sweep as
+ * token.cleanup.rows and token.cleanup.duration.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -12,44 +24,58 @@ public class TokenCleanupService {
 
     private final RefreshTokenService refreshTokenService;
     private final PasswordResetTokenService passwordResetTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final MeterRegistry meterRegistry;
 
-    /**
-     * Clean up expired refresh tokens every hour
-     */
-    @Scheduled(fixedRate = 3600000) // 1 hour in milliseconds
-    public void cleanupExpiredRefreshTokens() {
-        try {
-            refreshTokenService.deleteExpiredTokens();
+    @Value("${security.tokens.cleanup.batchSize:1000}")
+    private int batchSize;
 
-        } catch (Exception e) {
-            log.error("Error during scheduled refresh token cleanup", e);
-        }
-    }
+    @Value("${security.tokens.cleanup.passwordResetRetentionDays:30}")
+    private int passwordResetRetentionDays;
 
     /**
-     * Mark expired password reset tokens every 30 minutes
+     * Run every sweep, every 15 minutes by default
      */
-    @Scheduled(fixedRate = 1800000) // 30 minutes in milliseconds
-    public void markExpiredPasswordResetTokens() {
-        try {
-            passwordResetTokenService.markExpiredTokens();
-
-        } catch (Exception e) {
-            log.error("Error during scheduled password reset token expiry marking", e);
-        }
+    @Scheduled(fixedDelayString = "${security.tokens.cleanup.intervalMs:900000}",
+            initialDelayString = "${security.tokens.cleanup.initialDelayMs:60000}")
+    public void cleanupTokens() {
+        sweep("refresh_tokens_expired", refreshTokenService::deleteExpiredTokens);
+        sweep("password_reset_tokens_expired", passwordResetTokenService::markExpiredTokens);
+        sweep("password_reset_tokens_old",
+                limit -> passwordResetTokenService.cleanupOldTokens(passwordResetRetentionDays, limit));
+        sweep("revoked_access_tokens_expired", tokenRevocationService::deleteExpiredRevocations);
     }
 
     /**
-     * Clean up old password reset tokens every day at 2 AM
+     * Runs chunk until it touches fewer rows than the batch size.
+     * @return the total number of rows touched
      */
-    @Scheduled(cron = "0 0 2 * * *")
-    public void cleanupOldPasswordResetTokens() {
+    int sweep(String name, IntUnaryOperator chunk) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int total = 0;
         try {
-            // Clean up tokens older than 30 days
-            passwordResetTokenService.cleanupOldTokens(30);
+            int affected;
+            do {
+                affected = chunk.applyAsInt(batchSize);
+                total += affected;
+            } while (affected >= batchSize);
 
+            if (total > 0) {
+                log.info("Token cleanup {} touched {} rows", name, total);
+            }
         } catch (Exception e) {
-            log.error("Error during scheduled password reset token cleanup", e);
+            log.error("Error during scheduled token cleanup {}", name, e);
+        } finally {
+            sample.stop(Timer.builder("token.cleanup.duration")
+                    .description("Time spent in one token cleanup sweep")
+                    .tag("sweep", name)
+                    .register(meterRegistry));
+            Counter.builder("token.cleanup.rows")
+                    .description("Rows updated or deleted by token cleanup sweeps")
+                    .tag("sweep", name)
+                    .register(meterRegistry)
+                    .increment(total);
         }
+        return total;
     }
-}
\ No newline at end of file
+}
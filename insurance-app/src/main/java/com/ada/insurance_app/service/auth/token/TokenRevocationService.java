@@ -0,0 +1,97 @@
+package com.ada.insurance_app.service.auth.token;
+
+import com.ada.insurance_app.core.security.AccessTokenDenylist;
+import com.ada.insurance_app.entity.RevokedAccessToken;
+import com.ada.insurance_app.repository.auth.RevokedAccessTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records access-token revocations in the database and mirrors them into the
+ * in-memory {@link AccessTokenDenylist}, which the JWT filter checks on every request.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final AccessTokenDenylist accessTokenDenylist;
+
+    @Value("${security.jwt.expirationMs}")
+    private long accessTokenExpirationMs;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadDenylist() {
+        List<RevokedAccessToken> revocations = revokedAccessTokenRepository.findAllByExpiresAtAfter(LocalDateTime.now());
+        for (RevokedAccessToken revocation : revocations) {
+            if (revocation.isUserWide()) {
+                accessTokenDenylist.revokeUserTokens(revocation.getUserId(), toEpochMs(revocation.getRevokedAt()));
+            } else {
+                accessTokenDenylist.revokeToken(revocation.getJti(), toEpochMs(revocation.getExpiresAt()));
+            }
+        }
+        log.info("Loaded {} access token revocations", revocations.size());
+    }
+
+    /**
+     * Revokes a single access token, e.g. on logout.
+     */
+    @Transactional
+    public void revokeToken(String jti, UUID userId, Date expiresAt) {
+        if (jti == null || expiresAt == null || expiresAt.before(new Date())) {
+            return;
+        }
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .revokedAt(LocalDateTime.now())
+                .expiresAt(toLocalDateTime(expiresAt.getTime()))
+                .build());
+        accessTokenDenylist.revokeToken(jti, expiresAt.getTime());
+    }
+
+    /**
+     * Revokes every access token issued to the user so far, e.g. after a password change.
+     */
+    @Transactional
+    public void revokeAllTokensByUser(UUID userId) {
+        long now = System.currentTimeMillis();
+        revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .userId(userId)
+                .revokedAt(toLocalDateTime(now))
+                .expiresAt(toLocalDateTime(now + accessTokenExpirationMs))
+                .build());
+        accessTokenDenylist.revokeUserTokens(userId, now);
+    }
+
+    /**
+     * Deletes at most {@code limit} revocations whose tokens have expired.
+     * @return the number of rows deleted
+     */
+    @Transactional
+    public int deleteExpiredRevocations(int limit) {
+        return revokedAccessTokenRepository.deleteExpiredChunk(LocalDateTime.now(), limit);
+    }
+
+    private static long toEpochMs(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+}
@@ -1,5 +1,6 @@
 package com.ada.insurance_app.service.coverage;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.dto.CoverageDto;
 import com.ada.insurance_app.request.coverage.CreateCoverageRequest;
@@ -17,7 +18,7 @@ public interface ICoverageService {
 
     CoverageDto getById(Long id);
 
-    List<CoverageDto> getAll();
+    CursorPage<CoverageDto> getAll(String cursor, int size, InsuranceType insuranceType, Boolean active);
 
     List<CoverageDto> getCoveragesByPolicy(Long policyId);
 
@@ -1,10 +1,14 @@
 package com.ada.insurance_app.service.coverage.Impl;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.core.exception.CoverageNotFoundException;
 import com.ada.insurance_app.core.exception.PolicyNotFoundException;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
+import com.ada.insurance_app.core.persistence.SecondLevelCache;
 import com.ada.insurance_app.dto.CoverageDto;
 import com.ada.insurance_app.entity.Coverage;
+import com.ada.insurance_app.entity.Offer;
 import com.ada.insurance_app.entity.Policy;
 import com.ada.insurance_app.mapper.CoverageMapper;
 import com.ada.insurance_app.repository.ICoverageRepository;
@@ -12,6 +16,7 @@ import com.ada.insurance_app.repository.IPolicyRepository;
 import com.ada.insurance_app.request.coverage.CreateCoverageRequest;
 import com.ada.insurance_app.request.coverage.UpdateCoverageRequest;
 import com.ada.insurance_app.service.coverage.ICoverageService;
+import com.ada.insurance_app.service.coverage.pricing.CoveragePriceCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,6 +34,8 @@ public class CoverageServiceImpl implements ICoverageService {
     private final ICoverageRepository coverageRepository;
     private final IPolicyRepository policyRepository;
     private final CoverageMapper mapper;
+    private final SecondLevelCache secondLevelCache;
+    private final CoveragePriceCatalog priceCatalog;
 
     @Override
     @Transactional
@@ -41,6 +48,7 @@ public class CoverageServiceImpl implements ICoverageService {
 
         Coverage entity = mapper.toEntity(request);
         Coverage saved = coverageRepository.save(entity);
+        priceCatalog.reloadAfterCommit();
 
         log.info("Coverage created: {} - {}", saved.getName(), saved.getId());
         return mapper.toDto(saved);
@@ -59,6 +67,8 @@ public class CoverageServiceImpl implements ICoverageService {
 
         mapper.updateEntityFromRequest(existing, request);
         Coverage updated = coverageRepository.save(existing);
+        secondLevelCache.evictEntityAfterCommit(Coverage.class, id);
+        priceCatalog.reloadAfterCommit();
 
         log.info("Coverage updated: {} - {}", updated.getName(), updated.getId());
         return mapper.toDto(updated);
@@ -79,6 +89,11 @@ public class CoverageServiceImpl implements ICoverageService {
         }
 
         coverageRepository.deleteById(id);
+        // Cached coverage sets of policies and offers would still point at the deleted row
+        secondLevelCache.evictEntityAfterCommit(Coverage.class, id);
+        secondLevelCache.evictCollectionAfterCommit(Policy.class, "coverages");
+        secondLevelCache.evictCollectionAfterCommit(Offer.class, "coverages");
+        priceCatalog.reloadAfterCommit();
         log.info("Coverage deleted: {}", id);
     }
 
@@ -91,11 +106,11 @@ public class CoverageServiceImpl implements ICoverageService {
     }
 
     @Override
-    public List<CoverageDto> getAll() {
-        return coverageRepository.findAll()
-                .stream()
-                .map(mapper::toDto)
-                .toList();
+    public CursorPage<CoverageDto> getAll(String cursor, int size, InsuranceType insuranceType, Boolean active) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Coverage> coverages = coverageRepository.findPageAfter(insuranceType, active,
+                after.createdAt(), after.longId(), KeysetCursor.limit(size));
+        return KeysetCursor.page(coverages, size, Coverage::getCreatedAt, Coverage::getId, mapper::toDto);
     }
 
     @Override
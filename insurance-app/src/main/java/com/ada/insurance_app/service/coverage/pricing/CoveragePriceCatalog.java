@@ -0,0 +1,88 @@
+package com.ada.insurance_app.service.coverage.pricing;
+
+import com.ada.insurance_app.repository.ICoverageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+/**
+ * Coverage prices used for premium calculation, served from an immutable {@link CoveragePriceSnapshot}.
+ * A coverage change builds a new snapshot after its transaction commits and swaps it in; readers keep
+ * the snapshot they started with. Versions are the build time in epoch millis, strictly increasing, so
+ * an offer's catalog version orders it against later price changes.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CoveragePriceCatalog {
+
+    private final ICoverageRepository coverageRepository;
+
+    private volatile CoveragePriceSnapshot snapshot = CoveragePriceSnapshot.EMPTY;
+
+    public CoveragePriceSnapshot current() {
+        CoveragePriceSnapshot current = snapshot;
+        return current != CoveragePriceSnapshot.EMPTY ? current : reload();
+    }
+
+    /**
+     * Prices the given coverages against the current snapshot. Reloads once if one of them is not in it
+     * yet, which only happens for a coverage created moments ago by another instance.
+     */
+    public CoveragePriceSnapshot.Quote quote(Collection<Long> coverageIds) {
+        CoveragePriceSnapshot current = current();
+        if (!current.containsAll(coverageIds)) {
+            current = reload();
+        }
+        return current.quote(coverageIds);
+    }
+
+    /**
+     * Rebuilds the snapshot once the current transaction commits, or right away outside of one.
+     */
+    public void reloadAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    /**
+     * Picks up coverage changes made by other instances; a no-op when no price changed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.coverage.priceCatalog.refreshIntervalMs:300000}",
+            fixedDelayString = "${app.coverage.priceCatalog.refreshIntervalMs:300000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.error("Coverage price catalog refresh failed", e);
+        }
+    }
+
+    private synchronized CoveragePriceSnapshot reload() {
+        CoveragePriceSnapshot previous = snapshot;
+        long version = Math.max(System.currentTimeMillis(), previous.version() + 1);
+        CoveragePriceSnapshot fresh = CoveragePriceSnapshot.of(version, coverageRepository.findAll());
+        if (previous != CoveragePriceSnapshot.EMPTY && fresh.samePricesAs(previous)) {
+            return previous;
+        }
+        snapshot = fresh;
+        log.info("Coverage price catalog version {} loaded", version);
+        return fresh;
+    }
+}
@@ -0,0 +1,92 @@
+package com.ada.insurance_app.service.coverage.pricing;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.entity.Coverage;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view of every coverage's base price at one catalog version, indexed by coverage id and
+ * by insurance type. Never modified after construction, so it is read without locking.
+ */
+public final class CoveragePriceSnapshot {
+
+    static final CoveragePriceSnapshot EMPTY = new CoveragePriceSnapshot(0L, List.of());
+
+    private final long version;
+    private final Map<Long, Price> byId;
+    private final Map<InsuranceType, List<Price>> byType;
+
+    public record Price(long coverageId, String code, InsuranceType insuranceType, BigDecimal basePrice,
+                        boolean active) {
+    }
+
+    /**
+     * Total premium of a coverage selection and the catalog version it was priced against.
+     */
+    public record Quote(long version, BigDecimal totalPremium) {
+    }
+
+    private CoveragePriceSnapshot(long version, List<Price> prices) {
+        Map<Long, Price> ids = new HashMap<>(prices.size() * 2);
+        Map<InsuranceType, List<Price>> types = new EnumMap<>(InsuranceType.class);
+        for (Price price : prices) {
+            ids.put(price.coverageId(), price);
+            types.computeIfAbsent(price.insuranceType(), type -> new ArrayList<>()).add(price);
+        }
+        types.replaceAll((type, list) -> List.copyOf(list));
+
+        this.version = version;
+        this.byId = Map.copyOf(ids);
+        this.byType = types;
+    }
+
+    static CoveragePriceSnapshot of(long version, Collection<Coverage> coverages) {
+        List<Price> prices = new ArrayList<>(coverages.size());
+        for (Coverage coverage : coverages) {
+            prices.add(new Price(coverage.getId(), coverage.getCode(), coverage.getInsuranceType(),
+                    coverage.getBasePrice(), coverage.isActive()));
+        }
+        return new CoveragePriceSnapshot(version, prices);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Price price(Long coverageId) {
+        return byId.get(coverageId);
+    }
+
+    public List<Price> prices(InsuranceType insuranceType) {
+        return byType.getOrDefault(insuranceType, List.of());
+    }
+
+    boolean samePricesAs(CoveragePriceSnapshot other) {
+        return byId.equals(other.byId);
+    }
+
+    public boolean containsAll(Collection<Long> coverageIds) {
+        return byId.keySet().containsAll(coverageIds);
+    }
+
+    /**
+     * Sum of the base prices of the given coverages; ids missing from this version are not priced.
+     */
+    public Quote quote(Collection<Long> coverageIds) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Long coverageId : coverageIds) {
+            Price price = byId.get(coverageId);
+            if (price != null) {
+                total = total.add(price.basePrice());
+            }
+        }
+        return new Quote(version, total);
+    }
+}
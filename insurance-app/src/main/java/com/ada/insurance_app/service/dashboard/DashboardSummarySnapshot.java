@@ -0,0 +1,119 @@
+package com.ada.insurance_app.service.dashboard;
+
+import com.ada.insurance_app.dto.DashboardSummaryDto;
+import com.ada.insurance_app.repository.IPolicyRepository;
+import com.ada.insurance_app.repository.projection.DashboardSummaryView;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the admin summary from an in-memory snapshot that is computed once the application is ready and
+ * recomputed in the background every refreshAfterMs, so readers never wait on the scans. A reader only
+ * computes the summary itself if it arrives before the first snapshot exists. The refresh runs on its own
+ * thread, not the shared scheduler's; a snapshot older than maxStalenessMs means refreshes keep failing
+ * and is reported, but still served.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardSummarySnapshot implements DisposableBean {
+
+    private final IPolicyRepository policyRepository;
+
+    @Value("${app.dashboard.summary.refreshAfterMs:30000}")
+    private long refreshAfterMs;
+
+    @Value("${app.dashboard.summary.maxStalenessMs:120000}")
+    private long maxStalenessMs;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-summary-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    void checkIntervals() {
+        if (refreshAfterMs >= maxStalenessMs) {
+            throw new IllegalStateException("app.dashboard.summary.refreshAfterMs must be below maxStalenessMs");
+        }
+    }
+
+    public DashboardSummaryDto get() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot.summary() : loadFirst().summary();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            loadFirst();
+        } catch (Exception e) {
+            log.warn("Dashboard summary warm-up failed, the scheduled refresh will retry", e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${app.dashboard.summary.refreshAfterMs:30000}",
+            fixedDelayString = "${app.dashboard.summary.refreshAfterMs:30000}")
+    public void scheduleRefresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                load();
+            } catch (Exception e) {
+                Snapshot snapshot = current.get();
+                if (snapshot == null || System.currentTimeMillis() - snapshot.computedAt() > maxStalenessMs) {
+                    log.error("Dashboard summary refresh failed, the served snapshot is past maxStalenessMs", e);
+                } else {
+                    log.warn("Background refresh of dashboard summary failed", e);
+                }
+            } finally {
+                refreshing.set(false);
+            }
+        });
+    }
+
+    // Readers arriving before the first snapshot share one computation
+    private synchronized Snapshot loadFirst() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : load();
+    }
+
+    private Snapshot load() {
+        DashboardSummaryView view = policyRepository.findDashboardSummary();
+        Snapshot snapshot = new Snapshot(new DashboardSummaryDto(
+                view.getTotalPolicies(),
+                view.getTotalUsers(),
+                view.getTotalClaims(),
+                view.getTotalPayments(),
+                view.getTotalOffers(),
+                view.getTotalPremium().doubleValue()
+        ), System.currentTimeMillis());
+        current.set(snapshot);
+        return snapshot;
+    }
+
+    @Override
+    public void destroy() {
+        refresher.shutdown();
+    }
+
+    private record Snapshot(DashboardSummaryDto summary, long computedAt) {
+    }
+}
@@ -1,6 +1,9 @@
 package com.ada.insurance_app.service.dashboard;
 
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.dto.AgentLeaderboardDto;
 import com.ada.insurance_app.dto.AgentStatsDto;
+import com.ada.insurance_app.dto.DashboardSummaryDto;
 
 import java.util.List;
 import java.util.UUID;
@@ -12,10 +15,16 @@ public interface IDashboardService {
     long getTotalPaymentCount();
     long getTotalOfferCount();
     double getTotalPremiumSum();
+
+    // All summary figures, served from a periodically refreshed snapshot
+    DashboardSummaryDto getSummary();
     List<AgentStatsDto> getAgentStatistics();
 
     //get agent statistics by agent id
     AgentStatsDto getAgentStatisticsById(UUID agentId);
 
+    // Top agents from the last nightly scoring run, overall or within one region or insurance type
+    AgentLeaderboardDto getTopAgents(int limit, String region, InsuranceType insuranceType);
+
 
 } 
\ No newline at end of file
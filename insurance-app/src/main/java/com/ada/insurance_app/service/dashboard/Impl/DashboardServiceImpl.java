@@ -1,13 +1,22 @@
 package com.ada.insurance_app.service.dashboard.Impl;
 
+import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.core.enums.Role;
+import com.ada.insurance_app.core.exception.InvalidRequestException;
+import com.ada.insurance_app.dto.AgentLeaderboardDto;
+import com.ada.insurance_app.dto.AgentLeaderboardEntryDto;
 import com.ada.insurance_app.dto.AgentStatsDto;
-import com.ada.insurance_app.entity.Agent;
-import com.ada.insurance_app.entity.User;
+import com.ada.insurance_app.dto.DashboardSummaryDto;
 import com.ada.insurance_app.repository.*;
 import com.ada.insurance_app.repository.IAgentRepository;
 import com.ada.insurance_app.repository.auth.User.IUserRepository;
+import com.ada.insurance_app.repository.projection.AgentStatsView;
+import com.ada.insurance_app.service.dashboard.DashboardSummarySnapshot;
 import com.ada.insurance_app.service.dashboard.IDashboardService;
+import com.ada.insurance_app.service.dashboard.leaderboard.AgentLeaderboard;
+import com.ada.insurance_app.service.dashboard.leaderboard.AgentScore;
+import com.ada.insurance_app.service.dashboard.leaderboard.AgentScoringJob;
+import com.ada.insurance_app.service.dashboard.stats.AgentPerformance;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,6 +35,9 @@ public class DashboardServiceImpl implements IDashboardService {
     private final IOfferRepository offerRepository;
     private final IUserRepository userRepository;
     private final IAgentRepository agentRepository;
+    private final IAgentStatsRepository agentStatsRepository;
+    private final DashboardSummarySnapshot dashboardSummarySnapshot;
+    private final AgentScoringJob agentScoringJob;
 
     @Override
     public long getTotalPolicyCount() {
@@ -52,93 +64,94 @@ public class DashboardServiceImpl implements IDashboardService {
         return policyRepository.sumTotalPremium();
     }
 
+    @Override
+    public DashboardSummaryDto getSummary() {
+        return dashboardSummarySnapshot.get();
+    }
+
     @Override
     public List<AgentStatsDto> getAgentStatistics() {
-        List<Agent> agents = agentRepository.findAllByUserRole(Role.AGENT);
-
-        List<AgentStatsDto> stats = new ArrayList<>();
-
-        for (Agent  agent : agents) {
-            String agentNumber = agent.getAgentNumber();
-
-            long policyCount = policyRepository.countPoliciesByAgent_AgentNumber(agentNumber);
-            long claimCount = claimRepository.countByPolicy_Agent_AgentNumber(agentNumber);
-            long paymentCount = paymentRepository.countByPolicy_Agent_AgentNumber(agentNumber);
-            double totalPremium = policyRepository.sumTotalPremiumByAgentNumber(agentNumber);
-
-            AgentStatsDto agentStats = new AgentStatsDto();
-            agentStats.setAgentName(agent.getName());
-            agentStats.setAgentNumber(agent.getAgentNumber());
-            agentStats.setTotalPolicies(policyCount);
-            agentStats.setTotalClaims(claimCount);
-            agentStats.setTotalPayments(paymentCount);
-            agentStats.setTotalPremium(totalPremium);
-            // Success rate: Policies that have payments / Total policies * 100
-            double successRate = policyCount > 0 ? (double) paymentCount / policyCount * 100 : 0.0;
-            agentStats.setSuccessRate(successRate);
-
-            stats.add(agentStats);
-        }
-        return stats;
+        return agentStatsRepository.findStatsByRole(Role.AGENT).stream()
+                .map(this::toAgentStats)
+                .toList();
     }
 
     @Override
     public AgentStatsDto getAgentStatisticsById(UUID agentId) {
-        Agent agent = agentRepository.findById(agentId)
+        AgentStatsView view = agentStatsRepository.findStatsByAgentId(agentId)
                 .orElseThrow(() -> new IllegalArgumentException("Agent not found with ID: " + agentId));
 
-        String agentNumber = agent.getAgentNumber();
+        AgentStatsDto agentStats = toAgentStats(view);
+
+        log.info("Conversion Rate: {}%, No Claim Rate: {}%, Net Profitability: {}%, Performance Score: {}%",
+                agentStats.getConversionRate(), agentStats.getNoClaimPolicyRate(),
+                agentStats.getNetProfitability(), agentStats.getPerformanceScore());
+        log.info("Success Rate: {}%", agentStats.getSuccessRate());
+
+        return agentStats;
+    }
 
+    @Override
+    public AgentLeaderboardDto getTopAgents(int limit, String region, InsuranceType insuranceType) {
+        if (limit < 1 || limit > agentScoringJob.getTopK()) {
+            throw new InvalidRequestException("limit must be between 1 and " + agentScoringJob.getTopK());
+        }
+        if (region != null && insuranceType != null) {
+            throw new InvalidRequestException("Filter by region or by insurance type, not both");
+        }
 
-        long policyCount = policyRepository.countPoliciesByAgent_AgentNumber(agentNumber);
-        long claimCount = claimRepository.countByPolicy_Agent_AgentNumber(agentNumber);
-        long paymentCount = policyRepository.countPoliciesByAgent_AgentNumber(agentNumber);
-        double totalPremium = policyRepository.sumTotalPremiumByAgentNumber(agentNumber);
-        
-        // New metrics
-        long totalOffers = offerRepository.countByAgent_AgentNumber(agentNumber);
-        long approvedPolicies = policyRepository.countApprovedPoliciesByAgent_AgentNumber(agentNumber);
-        double totalClaimPaid = claimRepository.sumApprovedClaimAmountsByAgent_AgentNumber(agentNumber);
+        AgentLeaderboard leaderboard = agentScoringJob.getLeaderboard();
+        List<AgentScore> ranked;
+        if (insuranceType != null) {
+            ranked = leaderboard.byInsuranceType().getOrDefault(insuranceType, List.of());
+        } else if (region != null) {
+            ranked = leaderboard.byRegion().getOrDefault(AgentLeaderboard.regionKey(region), List.of());
+        } else {
+            ranked = leaderboard.overall();
+        }
 
+        List<AgentLeaderboardEntryDto> entries = new ArrayList<>();
+        for (int i = 0; i < Math.min(limit, ranked.size()); i++) {
+            AgentScore score = ranked.get(i);
+            entries.add(new AgentLeaderboardEntryDto(i + 1, score.agentNumber(), score.agentName(), score.region(),
+                    score.insuranceType(), score.totalPolicies(),
+                    score.performance().conversionRate(), score.performance().noClaimPolicyRate(),
+                    score.performance().netProfitability(), score.performance().performanceScore()));
+        }
+        return new AgentLeaderboardDto(leaderboard.generatedAt(), entries);
+    }
 
+    private AgentStatsDto toAgentStats(AgentStatsView view) {
+        long policyCount = view.getTotalPolicies();
+        long claimCount = view.getTotalClaims();
+        long paymentCount = view.getTotalPayments();
+        long totalOffers = view.getTotalOffers();
+        double totalPremium = view.getTotalPremium().doubleValue();
+        double totalClaimPaid = view.getTotalClaimPaid().doubleValue();
 
-        // Calculate performance metrics
-        double conversionRate = totalOffers > 0 ? ((double) policyCount / totalOffers) * 100 : 0.0;
-        double noClaimPolicyRate = policyCount > 0 ? ((double) (policyCount - claimCount) / policyCount) * 100 : 0.0;
-        double netProfitability = totalPremium > 0 ? ((totalPremium - totalClaimPaid) / totalPremium) * 100 : 0.0;
-        
-        // Performance score calculation with weights
-        double w1 = 0.40; // Conversion rate weight
-        double w2 = 0.30; // No claim policy rate weight  
-        double w3 = 0.30; // Net profitability weight
-        
-        double performanceScore = (conversionRate * w1) + (noClaimPolicyRate * w2) + (netProfitability * w3);
+        AgentPerformance performance = AgentPerformance.of(totalOffers, policyCount, claimCount,
+                totalPremium, totalClaimPaid);
 
         AgentStatsDto agentStats = new AgentStatsDto();
-        agentStats.setAgentName(agent.getName());
-        agentStats.setAgentNumber(agent.getAgentNumber());
+        agentStats.setAgentName(view.getAgentName());
+        agentStats.setAgentNumber(view.getAgentNumber());
         agentStats.setTotalPolicies(policyCount);
         agentStats.setTotalClaims(claimCount);
         agentStats.setTotalPayments(paymentCount);
         agentStats.setTotalPremium(totalPremium);
         agentStats.setTotalOffers(totalOffers);
-        agentStats.setApprovedPolicies(approvedPolicies);
+        agentStats.setApprovedPolicies(view.getApprovedPolicies());
         agentStats.setTotalClaimPaid(totalClaimPaid);
-        agentStats.setConversionRate(conversionRate);
-        agentStats.setNoClaimPolicyRate(noClaimPolicyRate);
-        agentStats.setNetProfitability(netProfitability);
-        agentStats.setPerformanceScore(performanceScore);
-        
-        // Legacy success rate calculation
+        agentStats.setConversionRate(performance.conversionRate());
+        agentStats.setNoClaimPolicyRate(performance.noClaimPolicyRate());
+        agentStats.setNetProfitability(performance.netProfitability());
+        agentStats.setPerformanceScore(performance.performanceScore());
+
+        // Success rate: Policies that have payments / Total policies * 100
         double successRate = policyCount > 0 ? (double) paymentCount / policyCount * 100 : 0.0;
         agentStats.setSuccessRate(successRate);
 
-        log.info("Conversion Rate: {}%, No Claim Rate: {}%, Net Profitability: {}%, Performance Score: {}%", 
-                conversionRate, noClaimPolicyRate, netProfitability, performanceScore);
-        log.info("Success Rate: {}%", agentStats.getSuccessRate());
-        log.info("=== End getAgentStatisticsById Debug ===");
-
         return agentStats;
     }
 
-} 
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package com.ada.insurance_app.service.dashboard.leaderboard;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable result of one scoring run: the best agents overall, per region and per insurance type,
+ * each list ordered best first.
+ */
+public record AgentLeaderboard(LocalDateTime generatedAt, List<AgentScore> overall,
+                               Map<String, List<AgentScore>> byRegion,
+                               Map<InsuranceType, List<AgentScore>> byInsuranceType) {
+
+    static final String UNKNOWN_REGION = "UNKNOWN";
+
+    static final AgentLeaderboard EMPTY = new AgentLeaderboard(null, List.of(), Map.of(), Map.of());
+
+    public static String regionKey(String city) {
+        return city == null || city.isBlank() ? UNKNOWN_REGION : city.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Per-partition top-K lists, merged pairwise as the fork/join tasks complete.
+     */
+    static final class Builder {
+
+        private final int k;
+        private final BoundedTopK<AgentScore> overall;
+        private final Map<String, BoundedTopK<AgentScore>> byRegion = new HashMap<>();
+        private final Map<InsuranceType, BoundedTopK<AgentScore>> byInsuranceType = new EnumMap<>(InsuranceType.class);
+
+        Builder(int k) {
+            this.k = k;
+            this.overall = new BoundedTopK<>(k, AgentScore.BEST_FIRST);
+        }
+
+        void addOverall(AgentScore score) {
+            overall.offer(score);
+            byRegion.computeIfAbsent(regionKey(score.region()), r -> new BoundedTopK<>(k, AgentScore.BEST_FIRST))
+                    .offer(score);
+        }
+
+        void addForType(AgentScore score) {
+            byInsuranceType.computeIfAbsent(score.insuranceType(), t -> new BoundedTopK<>(k, AgentScore.BEST_FIRST))
+                    .offer(score);
+        }
+
+        Builder merge(Builder other) {
+            overall.merge(other.overall);
+            other.byRegion.forEach((region, top) ->
+                    byRegion.computeIfAbsent(region, r -> new BoundedTopK<>(k, AgentScore.BEST_FIRST)).merge(top));
+            other.byInsuranceType.forEach((type, top) ->
+                    byInsuranceType.computeIfAbsent(type, t -> new BoundedTopK<>(k, AgentScore.BEST_FIRST)).merge(top));
+            return this;
+        }
+
+        AgentLeaderboard build(LocalDateTime generatedAt) {
+            Map<String, List<AgentScore>> regions = new HashMap<>();
+            byRegion.forEach((region, top) -> regions.put(region, top.toSortedList()));
+            Map<InsuranceType, List<AgentScore>> types = new EnumMap<>(InsuranceType.class);
+            byInsuranceType.forEach((type, top) -> types.put(type, top.toSortedList()));
+            return new AgentLeaderboard(generatedAt, overall.toSortedList(), Map.copyOf(regions), Map.copyOf(types));
+        }
+    }
+}
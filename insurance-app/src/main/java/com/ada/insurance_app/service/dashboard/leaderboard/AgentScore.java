@@ -0,0 +1,19 @@
+package com.ada.insurance_app.service.dashboard.leaderboard;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.service.dashboard.stats.AgentPerformance;
+
+import java.util.Comparator;
+import java.util.UUID;
+
+/**
+ * One agent's score, over the whole portfolio or for one insurance type (insuranceType set).
+ */
+public record AgentScore(UUID agentId, String agentNumber, String agentName, String region,
+                         InsuranceType insuranceType, long totalPolicies, AgentPerformance performance) {
+
+    // Best score first; agent number keeps ties in a stable order
+    static final Comparator<AgentScore> BEST_FIRST = Comparator
+            .comparingDouble((AgentScore score) -> score.performance().performanceScore()).reversed()
+            .thenComparing(AgentScore::agentNumber, Comparator.nullsLast(Comparator.naturalOrder()));
+}
@@ -0,0 +1,176 @@
+package com.ada.insurance_app.service.dashboard.leaderboard;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.repository.IAgentRepository;
+import com.ada.insurance_app.repository.projection.AgentTypeStatsView;
+import com.ada.insurance_app.service.dashboard.stats.AgentPerformance;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores every agent once a night and publishes the leaderboard read by the admin top-N endpoint.
+ * <p>
+ * Totals per agent and insurance type are read in one query, then agents are split into partitions
+ * scored in parallel on a dedicated fork/join pool; each partition fills its own bounded top-K lists
+ * (overall, per region, per insurance type) and partial results are merged as tasks join.
+ * The published leaderboard is immutable and swapped in atomically, so readers never see a partial run.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AgentScoringJob {
+
+    private final IAgentRepository agentRepository;
+
+    @Value("${app.leaderboard.topK:100}")
+    private int topK;
+
+    @Value("${app.leaderboard.partitionSize:256}")
+    private int partitionSize;
+
+    @Value("${app.leaderboard.parallelism:0}") // 0 = number of available processors
+    private int parallelism;
+
+    private ForkJoinPool pool;
+    private volatile AgentLeaderboard leaderboard = AgentLeaderboard.EMPTY;
+
+    @PostConstruct
+    void start() {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("agent-scoring-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    void stop() {
+        pool.shutdownNow();
+    }
+
+    public AgentLeaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialRun() {
+        run();
+    }
+
+    @Scheduled(cron = "${app.leaderboard.cron:0 0 3 * * *}")
+    public void run() {
+        long start = System.currentTimeMillis();
+        try {
+            List<AgentTotals> agents = groupByAgent(agentRepository.findAgentStatsByInsuranceType());
+            AgentLeaderboard.Builder result = pool.invoke(new ScorePartition(agents, 0, agents.size()));
+            leaderboard = result.build(LocalDateTime.now());
+
+            log.info("Agent leaderboard rebuilt in {} ms: {} agents scored",
+                    System.currentTimeMillis() - start, agents.size());
+        } catch (Exception e) {
+            log.error("Agent scoring failed, keeping the previous leaderboard", e);
+        }
+    }
+
+    // Rows arrive ordered by agent
+    private static List<AgentTotals> groupByAgent(List<AgentTypeStatsView> rows) {
+        List<AgentTotals> agents = new ArrayList<>();
+        AgentTotals current = null;
+        for (AgentTypeStatsView row : rows) {
+            if (current == null || !current.agentId.equals(row.getAgentId())) {
+                current = new AgentTotals(row.getAgentId(), row.getAgentNumber(), row.getAgentName(), row.getCity());
+                agents.add(current);
+            }
+            current.types.add(row);
+        }
+        return agents;
+    }
+
+    private final class ScorePartition extends RecursiveTask<AgentLeaderboard.Builder> {
+
+        private final List<AgentTotals> agents;
+        private final int from;
+        private final int to;
+
+        ScorePartition(List<AgentTotals> agents, int from, int to) {
+            this.agents = agents;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected AgentLeaderboard.Builder compute() {
+            if (to - from <= partitionSize) {
+                AgentLeaderboard.Builder builder = new AgentLeaderboard.Builder(topK);
+                for (int i = from; i < to; i++) {
+                    score(agents.get(i), builder);
+                }
+                return builder;
+            }
+            int middle = (from + to) >>> 1;
+            ScorePartition left = new ScorePartition(agents, from, middle);
+            left.fork();
+            AgentLeaderboard.Builder right = new ScorePartition(agents, middle, to).compute();
+            return left.join().merge(right);
+        }
+
+        private void score(AgentTotals agent, AgentLeaderboard.Builder builder) {
+            long offers = 0, policies = 0, claims = 0;
+            BigDecimal premium = BigDecimal.ZERO, claimPaid = BigDecimal.ZERO;
+
+            for (AgentTypeStatsView type : agent.types) {
+                builder.addForType(new AgentScore(agent.agentId, agent.agentNumber, agent.agentName, agent.city,
+                        InsuranceType.valueOf(type.getInsuranceType()), type.getTotalPolicies(),
+                        AgentPerformance.of(type.getTotalOffers(), type.getTotalPolicies(), type.getTotalClaims(),
+                                type.getTotalPremium().doubleValue(), type.getTotalClaimPaid().doubleValue())));
+
+                offers += type.getTotalOffers();
+                policies += type.getTotalPolicies();
+                claims += type.getTotalClaims();
+                premium = premium.add(type.getTotalPremium());
+                claimPaid = claimPaid.add(type.getTotalClaimPaid());
+            }
+
+            builder.addOverall(new AgentScore(agent.agentId, agent.agentNumber, agent.agentName, agent.city,
+                    null, policies,
+                    AgentPerformance.of(offers, policies, claims, premium.doubleValue(), claimPaid.doubleValue())));
+        }
+    }
+
+    private static final class AgentTotals {
+        final UUID agentId;
+        final String agentNumber;
+        final String agentName;
+        final String city;
+        final List<AgentTypeStatsView> types = new ArrayList<>();
+
+        AgentTotals(UUID agentId, String agentNumber, String agentName, String city) {
+            this.agentId = agentId;
+            this.agentNumber = agentNumber;
+            this.agentName = agentName;
+            this.city = city;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.ada.insurance_app.service.dashboard.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the k best elements seen so far in a min-heap: O(log k) per element, O(k) memory.
+ * Not thread-safe; parallel producers each fill their own instance and merge them.
+ */
+class BoundedTopK<T> {
+
+    private final int capacity;
+    private final Comparator<? super T> order;
+    private final PriorityQueue<T> heap;
+
+    /**
+     * @param order best first
+     */
+    BoundedTopK(int capacity, Comparator<? super T> order) {
+        this.capacity = capacity;
+        this.order = order;
+        // Worst element at the head so it is the one evicted
+        this.heap = new PriorityQueue<>(capacity + 1, order.reversed());
+    }
+
+    void offer(T element) {
+        if (heap.size() < capacity) {
+            heap.add(element);
+        } else if (capacity > 0 && order.compare(element, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(element);
+        }
+    }
+
+    void merge(BoundedTopK<T> other) {
+        other.heap.forEach(this::offer);
+    }
+
+    List<T> toSortedList() {
+        List<T> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        return sorted;
+    }
+}
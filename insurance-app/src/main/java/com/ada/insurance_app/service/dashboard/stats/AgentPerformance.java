@@ -0,0 +1,27 @@
+package com.ada.insurance_app.service.dashboard.stats;
+
+/**
+ * Agent performance metrics computed from portfolio totals, shared by the on-demand agent
+ * statistics and the nightly leaderboard so that both rank agents the same way.
+ */
+public record AgentPerformance(double conversionRate, double noClaimPolicyRate,
+                               double netProfitability, double performanceScore) {
+
+    // Performance score weights
+    private static final double CONVERSION_RATE_WEIGHT = 0.40;
+    private static final double NO_CLAIM_POLICY_RATE_WEIGHT = 0.30;
+    private static final double NET_PROFITABILITY_WEIGHT = 0.30;
+
+    public static AgentPerformance of(long totalOffers, long totalPolicies, long totalClaims,
+                                      double totalPremium, double totalClaimPaid) {
+        double conversionRate = totalOffers > 0 ? ((double) totalPolicies / totalOffers) * 100 : 0.0;
+        double noClaimPolicyRate = totalPolicies > 0 ? ((double) (totalPolicies - totalClaims) / totalPolicies) * 100 : 0.0;
+        double netProfitability = totalPremium > 0 ? ((totalPremium - totalClaimPaid) / totalPremium) * 100 : 0.0;
+
+        double performanceScore = (conversionRate * CONVERSION_RATE_WEIGHT)
+                + (noClaimPolicyRate * NO_CLAIM_POLICY_RATE_WEIGHT)
+                + (netProfitability * NET_PROFITABILITY_WEIGHT);
+
+        return new AgentPerformance(conversionRate, noClaimPolicyRate, netProfitability, performanceScore);
+    }
+}
@@ -0,0 +1,24 @@
+package com.ada.insurance_app.service.dashboard.stats;
+
+import com.ada.insurance_app.core.persistence.RecountableDelta;
+
+import java.math.BigDecimal;
+
+/**
+ * Changes to one agent's totals accumulated during a transaction.
+ */
+class AgentStatsDelta extends RecountableDelta {
+
+    long offers;
+    long policies;
+    long approvedPolicies;
+    long payments;
+    BigDecimal premium = BigDecimal.ZERO;
+    long claims;
+    BigDecimal claimPaid = BigDecimal.ZERO;
+
+    boolean isEmpty() {
+        return !isRecount() && offers == 0 && policies == 0 && approvedPolicies == 0 && payments == 0
+                && premium.signum() == 0 && claims == 0 && claimPaid.signum() == 0;
+    }
+}
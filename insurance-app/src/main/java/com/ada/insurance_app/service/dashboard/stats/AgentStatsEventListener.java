@@ -0,0 +1,133 @@
+package com.ada.insurance_app.service.dashboard.stats;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.ada.insurance_app.core.persistence.AbstractDeltaEventListener;
+import com.ada.insurance_app.entity.Agent;
+import com.ada.insurance_app.entity.AgentStats;
+import com.ada.insurance_app.entity.Claim;
+import com.ada.insurance_app.entity.Offer;
+import com.ada.insurance_app.entity.Payment;
+import com.ada.insurance_app.entity.Policy;
+import com.ada.insurance_app.repository.IAgentStatsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Keeps agent_stats current whichever service changes an offer, policy, payment or claim.
+ * Payments and claims are counted under their policy's agent and premium, which their own rows do not
+ * record; when a policy changes agent or premium, both agents are recounted before commit instead.
+ * Drift from writes that bypass Hibernate is corrected by AgentStatsReconciliationService.
+ */
+@Component
+public class AgentStatsEventListener extends AbstractDeltaEventListener<UUID, AgentStatsDelta> {
+
+    public AgentStatsEventListener(EntityManagerFactory entityManagerFactory) {
+        super(entityManagerFactory);
+    }
+
+    @Override
+    protected boolean isTracked(Object entity) {
+        return entity instanceof Offer || entity instanceof Policy || entity instanceof Payment || entity instanceof Claim;
+    }
+
+    @Override
+    protected void contribute(Object entity, Object[] state, EntityPersister persister, int sign,
+                              Map<UUID, AgentStatsDelta> deltas) {
+        if (entity instanceof Offer) {
+            UUID agentId = agentId((Agent) value(state, persister, "agent"));
+            if (agentId != null) {
+                deltas.computeIfAbsent(agentId, id -> new AgentStatsDelta()).offers += sign;
+            }
+        } else if (entity instanceof Policy) {
+            UUID agentId = agentId((Agent) value(state, persister, "agent"));
+            if (agentId != null) {
+                AgentStatsDelta delta = deltas.computeIfAbsent(agentId, id -> new AgentStatsDelta());
+                delta.policies += sign;
+                if (value(state, persister, "status") == PolicyStatus.ACTIVE) {
+                    delta.approvedPolicies += sign;
+                }
+            }
+        } else if (entity instanceof Payment) {
+            Policy policy = (Policy) value(state, persister, "policy");
+            UUID agentId = policy != null ? agentId(policy.getAgent()) : null;
+            if (agentId != null) {
+                AgentStatsDelta delta = deltas.computeIfAbsent(agentId, id -> new AgentStatsDelta());
+                delta.payments += sign;
+                if (value(state, persister, "status") == PaymentStatus.SUCCESS && policy.getPremium() != null) {
+                    delta.premium = delta.premium.add(signed(policy.getPremium(), sign));
+                }
+            }
+        } else if (entity instanceof Claim) {
+            Policy policy = (Policy) value(state, persister, "policy");
+            UUID agentId = policy != null ? agentId(policy.getAgent()) : null;
+            if (agentId != null) {
+                AgentStatsDelta delta = deltas.computeIfAbsent(agentId, id -> new AgentStatsDelta());
+                delta.claims += sign;
+                BigDecimal approvedAmount = (BigDecimal) value(state, persister, "approvedAmount");
+                if (value(state, persister, "status") == ClaimStatus.APPROVED && approvedAmount != null) {
+                    delta.claimPaid = delta.claimPaid.add(signed(approvedAmount, sign));
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void contributeUpdate(Object entity, Object[] oldState, Object[] state, EntityPersister persister,
+                                    Map<UUID, AgentStatsDelta> deltas) {
+        super.contributeUpdate(entity, oldState, state, persister, deltas);
+        if (entity instanceof Policy) {
+            UUID oldAgentId = agentId((Agent) value(oldState, persister, "agent"));
+            UUID newAgentId = agentId((Agent) value(state, persister, "agent"));
+            if (!Objects.equals(oldAgentId, newAgentId)
+                    || !sameAmount(value(oldState, persister, "premium"), value(state, persister, "premium"))) {
+                recount(oldAgentId, deltas, AgentStatsDelta::new);
+                recount(newAgentId, deltas, AgentStatsDelta::new);
+            }
+        }
+    }
+
+    @Override
+    protected boolean isEmpty(AgentStatsDelta delta) {
+        return delta.isEmpty();
+    }
+
+    @Override
+    protected void apply(SessionImplementor session, UUID agentId, AgentStatsDelta delta) {
+        if (delta.isRecount()) {
+            session.createNativeQuery(IAgentStatsRepository.RECOUNT_AGENT_SQL)
+                    .addSynchronizedEntityClass(AgentStats.class)
+                    .setParameter("agentId", agentId)
+                    .executeUpdate();
+            return;
+        }
+        session.createNativeQuery(IAgentStatsRepository.APPLY_DELTA_SQL)
+                .addSynchronizedEntityClass(AgentStats.class)
+                .setParameter("agentId", agentId)
+                .setParameter("offers", delta.offers)
+                .setParameter("policies", delta.policies)
+                .setParameter("approvedPolicies", delta.approvedPolicies)
+                .setParameter("payments", delta.payments)
+                .setParameter("premium", delta.premium)
+                .setParameter("claims", delta.claims)
+                .setParameter("claimPaid", delta.claimPaid)
+                .executeUpdate();
+    }
+
+
+    private static UUID agentId(Agent agent) {
+        return agent != null ? agent.getId() : null;
+    }
+
+    private static BigDecimal signed(BigDecimal amount, int sign) {
+        return sign < 0 ? amount.negate() : amount;
+    }
+}
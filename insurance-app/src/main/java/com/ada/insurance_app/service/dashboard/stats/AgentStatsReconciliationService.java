@@ -0,0 +1,36 @@
+package com.ada.insurance_app.service.dashboard.stats;
+
+import com.ada.insurance_app.repository.IAgentStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Periodic full pass over agent_stats. AgentStatsEventListener only adjusts an agent's totals for entity changes
+ * made through Hibernate; this job recounts the offers, policies, payments and claims of every agent in one
+ * statement, so it also fixes totals after SQL run by hand and fills in agents added before the table existed.
+ * Only rows whose totals differ are written, and rows of deleted agents are removed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AgentStatsReconciliationService {
+
+    private final IAgentStatsRepository agentStatsRepository;
+
+    @Scheduled(initialDelayString = "${app.stats.agent.reconcileInitialDelayMs:0}",
+            fixedDelayString = "${app.stats.agent.reconcileIntervalMs:3600000}")
+    @Transactional
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int corrected = agentStatsRepository.reconcileAll();
+        int removed = agentStatsRepository.deleteOrphans();
+
+        if (corrected > 0 || removed > 0) {
+            log.info("Agent stats reconciled in {} ms: {} rows corrected, {} removed",
+                    System.currentTimeMillis() - start, corrected, removed);
+        }
+    }
+}
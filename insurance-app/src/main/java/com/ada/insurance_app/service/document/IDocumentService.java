@@ -18,4 +18,13 @@ public interface IDocumentService {
     List<DocumentDto> getDocumentsByType(DocumentType type);
     DocumentDto getDocumentById(Long documentId);
     byte[] downloadDocument(Long documentId);
+
+    /**
+     * Stores a file generated for a policy, linked to the policy and its customer.
+     * A document of the policy with the same file name is overwritten, so regenerating is idempotent.
+     * If a concurrent call creates the same document first, this throws DataIntegrityViolationException
+     * and nothing is written; calling again then overwrites the other document.
+     */
+    DocumentDto storeGeneratedDocument(Long policyId, DocumentType type, String fileName,
+                                       String contentType, String description, byte[] content);
 }
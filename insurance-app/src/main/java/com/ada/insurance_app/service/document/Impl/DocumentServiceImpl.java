@@ -174,6 +174,46 @@ public class DocumentServiceImpl implements IDocumentService {
         }
     }
 
+    @Override
+    @Transactional
+    public DocumentDto storeGeneratedDocument(Long policyId, DocumentType type, String fileName,
+                                              String contentType, String description, byte[] content) {
+        Policy policy = policyRepository.findById(policyId)
+                .orElseThrow(() -> new PolicyNotFoundException("Policy not found with id: " + policyId));
+
+        String generatedKey = policyId + "/" + fileName;
+        Document document = documentRepository.findByGeneratedKey(generatedKey)
+                .or(() -> documentRepository.findFirstByPolicy_IdAndOriginalFileNameAndGeneratedKeyIsNull(
+                        policyId, fileName))
+                .orElseGet(() -> {
+                    String uniqueFileName = "DCM-" + UUID.randomUUID().toString().substring(0, 8) + "_" + fileName;
+                    Document created = new Document();
+                    created.setFileName(uniqueFileName);
+                    created.setOriginalFileName(fileName);
+                    created.setFilePath("uploads/" + type.toString().toLowerCase() + "/" + uniqueFileName);
+                    created.setDocumentType(type);
+                    created.setPolicy(policy);
+                    created.setCustomer(policy.getCustomer());
+                    return created;
+                });
+
+        document.setGeneratedKey(generatedKey);
+        document.setContentType(contentType);
+        document.setFileSize((long) content.length);
+        document.setDescription(description);
+        // Flushed before the file is written: a concurrent render that lost the insert leaves no file behind
+        Document saved = documentRepository.saveAndFlush(document);
+
+        try {
+            Path targetPath = Paths.get(saved.getFilePath());
+            Files.createDirectories(targetPath.getParent());
+            Files.write(targetPath, content);
+        } catch (IOException ex) {
+            throw new RuntimeException("Failed to store file", ex);
+        }
+        return documentMapper.toDto(saved);
+    }
+
     private void validateDocumentDto(DocumentDto dto) {
         if (dto == null) {
             throw new IllegalArgumentException("Document data cannot be null");
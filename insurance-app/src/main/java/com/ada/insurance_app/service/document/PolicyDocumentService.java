@@ -0,0 +1,375 @@
+package com.ada.insurance_app.service.document;
+
+import com.ada.insurance_app.core.enums.CustomerType;
+import com.ada.insurance_app.core.enums.DocumentType;
+import com.ada.insurance_app.core.enums.PolicyDocumentKind;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.ada.insurance_app.core.exception.ResourceNotFoundException;
+import com.ada.insurance_app.core.exception.ServiceUnavailableException;
+import com.ada.insurance_app.dto.PolicyRenderJobDto;
+import com.ada.insurance_app.entity.Agent;
+import com.ada.insurance_app.entity.Coverage;
+import com.ada.insurance_app.entity.Customer;
+import com.ada.insurance_app.entity.HealthInsuranceDetail;
+import com.ada.insurance_app.entity.HomeInsuranceDetail;
+import com.ada.insurance_app.entity.Offer;
+import com.ada.insurance_app.entity.Policy;
+import com.ada.insurance_app.entity.Vehicle;
+import com.ada.insurance_app.repository.IPolicyRepository;
+import com.ada.insurance_app.service.document.pdf.PolicyPdfRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Renders policy schedules and quotes to PDF on a dedicated bounded pool and stores them as policy documents.
+ * Renders triggered by a policy change are queued after the transaction commits; when the queue is full they
+ * are dropped with a warning and picked up by the next bulk re-render.
+ * Bulk re-renders run as background jobs, one at a time, and are polled by id; finished jobs are dropped
+ * after retentionMs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PolicyDocumentService implements DisposableBean {
+
+    private static final int ID_PAGE_SIZE = 500;
+
+    private final IPolicyRepository policyRepository;
+    private final IDocumentService documentService;
+    private final PolicyPdfRenderer renderer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.documents.pdf.poolSize:0}")
+    private int poolSize;
+
+    @Value("${app.documents.pdf.queueCapacity:200}")
+    private int queueCapacity;
+
+    @Value("${app.documents.pdf.jobs.queueCapacity:5}")
+    private int jobQueueCapacity;
+
+    @Value("${app.documents.pdf.jobs.retentionMs:86400000}")
+    private long jobRetentionMs;
+
+    private final Map<UUID, PolicyRenderJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private ThreadPoolExecutor jobExecutor;
+    private Timer renderTimer;
+    private Counter failed;
+    private Counter rejected;
+
+    private record RenderInput(String policyNumber, Map<String, String> model, List<String[]> coverages) {
+    }
+
+    @PostConstruct
+    void init() {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreads("policy-pdf-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // Feeds one bulk re-render at a time into the render pool, waiting for free queue slots
+        jobExecutor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(jobQueueCapacity),
+                namedThreads("policy-pdf-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("policy.pdf.queue.size", executor, e -> e.getQueue().size())
+                .description("Policy PDF renders waiting for a worker")
+                .register(meterRegistry);
+        renderTimer = Timer.builder("policy.pdf.render.duration")
+                .description("Time spent loading, rendering and storing one policy PDF")
+                .register(meterRegistry);
+        failed = Counter.builder("policy.pdf.failed")
+                .description("Policy PDF renders that failed")
+                .register(meterRegistry);
+        rejected = Counter.builder("policy.pdf.rejected")
+                .description("Policy PDF renders dropped because the queue was full")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a render once the current transaction commits, or right away outside a transaction.
+     */
+    public void renderAfterCommit(Long policyId, PolicyDocumentKind kind) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(policyId, kind);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(policyId, kind);
+            }
+        });
+    }
+
+    private void submit(Long policyId, PolicyDocumentKind kind) {
+        try {
+            executor.execute(() -> render(policyId, kind));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Policy PDF queue is full, {} of policy {} not rendered", kind, policyId);
+        }
+    }
+
+    /**
+     * Starts re-rendering the document of every policy in the given status in the background.
+     * @throws ServiceUnavailableException when too many re-renders are already waiting
+     */
+    public PolicyRenderJobDto startRerender(PolicyStatus status, PolicyDocumentKind kind) {
+        PolicyRenderJob job = new PolicyRenderJob(kind, status);
+        jobs.put(job.getId(), job);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ServiceUnavailableException("Too many re-renders are waiting, please try again shortly");
+        }
+        return toDto(job);
+    }
+
+    public PolicyRenderJobDto getRerenderJob(UUID jobId) {
+        PolicyRenderJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Render job not found");
+        }
+        return toDto(job);
+    }
+
+    private void run(PolicyRenderJob job) {
+        job.start();
+        long start = System.currentTimeMillis();
+        try {
+            rerender(job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Re-render interrupted");
+            return;
+        } catch (Exception e) {
+            log.error("Render job {} failed", job.getId(), e);
+            job.fail("Re-render failed");
+            return;
+        }
+        job.complete();
+        log.info("Re-rendered {} of {} {} policies ({} failed) in {} ms", job.getKind(), job.getPolicies().get(),
+                job.getPolicyStatus(), job.getFailed().get(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Renders every policy of the job across the pool's workers and returns once all are done.
+     * At most half the queue is used so triggered renders still fit.
+     */
+    private void rerender(PolicyRenderJob job) throws InterruptedException {
+        int maxInFlight = Math.max(1, queueCapacity / 2);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        PolicyDocumentKind kind = job.getKind();
+
+        Long afterId = 0L;
+        List<Long> ids;
+        do {
+            ids = policyRepository.findIdsByStatusAfter(job.getPolicyStatus(), afterId,
+                    PageRequest.ofSize(ID_PAGE_SIZE));
+            for (Long policyId : ids) {
+                inFlight.acquire();
+                job.getPolicies().incrementAndGet();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            (render(policyId, kind) ? job.getRendered() : job.getFailed()).incrementAndGet();
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    inFlight.release();
+                    job.getFailed().incrementAndGet();
+                }
+            }
+            if (!ids.isEmpty()) {
+                afterId = ids.get(ids.size() - 1);
+            }
+        } while (ids.size() == ID_PAGE_SIZE);
+
+        // Every permit back means every render has finished
+        inFlight.acquire(maxInFlight);
+    }
+
+    @Scheduled(fixedDelayString = "${app.documents.pdf.jobs.cleanupIntervalMs:600000}")
+    public void purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(jobRetentionMs * 1_000_000);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff));
+    }
+
+    private static PolicyRenderJobDto toDto(PolicyRenderJob job) {
+        return new PolicyRenderJobDto(job.getId(), job.getKind(), job.getPolicyStatus(), job.getStatus(),
+                job.getPolicies().get(), job.getRendered().get(), job.getFailed().get(), job.getCreatedAt(),
+                job.getFinishedAt(), job.getError());
+    }
+
+    boolean render(Long policyId, PolicyDocumentKind kind) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            RenderInput input = transactionTemplate.execute(status -> policyRepository.findById(policyId)
+                    .map(policy -> toInput(policy, kind))
+                    .orElse(null));
+            if (input == null) {
+                log.warn("Policy {} no longer exists, {} not rendered", policyId, kind);
+                return false;
+            }
+
+            byte[] pdf = renderer.render(kind, input.model(), input.coverages());
+            String fileName = input.policyNumber() + "-" + kind.getTemplate() + ".pdf";
+            try {
+                documentService.storeGeneratedDocument(policyId, DocumentType.POLICY_DOCUMENT, fileName,
+                        "application/pdf", kind.getDescription(), pdf);
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent render created the document first: overwrite it
+                documentService.storeGeneratedDocument(policyId, DocumentType.POLICY_DOCUMENT, fileName,
+                        "application/pdf", kind.getDescription(), pdf);
+            }
+            return true;
+        } catch (Exception e) {
+            failed.increment();
+            log.error("Failed to render {} of policy {}", kind, policyId, e);
+            return false;
+        } finally {
+            sample.stop(renderTimer);
+        }
+    }
+
+    // Runs inside the loading transaction: every lazy association is read here
+    private static RenderInput toInput(Policy policy, PolicyDocumentKind kind) {
+        Map<String, String> model = new HashMap<>();
+        Offer offer = policy.getOffer();
+        put(model, "policyNumber", policy.getPolicyNumber());
+        put(model, "status", policy.getStatus());
+        put(model, "insuranceType", policy.getInsuranceType());
+        put(model, "startDate", policy.getStartDate());
+        put(model, "endDate", policy.getEndDate());
+        put(model, "premium", kind == PolicyDocumentKind.QUOTE && offer != null
+                ? offer.getTotalPremium() : policy.getPremium());
+        if (offer != null) {
+            put(model, "offerNumber", offer.getOfferNumber());
+            put(model, "offerNote", offer.getNote());
+        }
+
+        Customer customer = policy.getCustomer();
+        put(model, "customerNumber", customer.getCustomerNumber());
+        put(model, "customerName", customer.getCustomerType() == CustomerType.CORPORATE
+                ? customer.getCompanyName()
+                : customer.getUser().getFirstName() + " " + customer.getUser().getLastName());
+        put(model, "customerAddress", Stream.of(customer.getAddress(), customer.getPostalCode(),
+                        customer.getCity(), customer.getCountry())
+                .filter(part -> part != null && !part.isBlank())
+                .collect(Collectors.joining(", ")));
+
+        Agent agent = policy.getAgent();
+        if (agent != null) {
+            put(model, "agentName", agent.getName());
+            put(model, "agentNumber", agent.getAgentNumber());
+        }
+
+        Vehicle vehicle = policy.getVehicle();
+        if (vehicle != null) {
+            put(model, "vehicleMake", vehicle.getMake());
+            put(model, "vehicleModel", vehicle.getModel());
+            put(model, "vehicleYear", vehicle.getYear());
+            put(model, "vehiclePlateNumber", vehicle.getPlateNumber());
+            put(model, "vehicleVin", vehicle.getVin());
+            put(model, "vehicleUsageType", vehicle.getUsageType());
+        }
+        HomeInsuranceDetail home = policy.getHomeInsuranceDetail();
+        if (home != null) {
+            put(model, "homeAddress", home.getAddress());
+            put(model, "homeBuildingAge", home.getBuildingAge());
+            put(model, "homeSquareMeters", home.getSquareMeters());
+            put(model, "homeEarthquakeResistance", home.isEarthquakeResistance());
+        }
+        HealthInsuranceDetail health = policy.getHealthInsuranceDetail();
+        if (health != null) {
+            put(model, "healthDateOfBirth", health.getDateOfBirth());
+            put(model, "healthGender", health.getGender());
+            put(model, "healthSmoker", health.getSmoker());
+        }
+
+        Set<Coverage> coverages = kind == PolicyDocumentKind.QUOTE && offer != null
+                ? offer.getCoverages() : policy.getCoverages();
+        List<String[]> coverageRows = coverages.stream()
+                .sorted(Comparator.comparing(Coverage::getCode, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(coverage -> new String[]{coverage.getCode(), coverage.getName(), format(coverage.getBasePrice())})
+                .toList();
+        return new RenderInput(policy.getPolicyNumber(), model, coverageRows);
+    }
+
+    private static void put(Map<String, String> model, String key, Object value) {
+        if (value != null) {
+            model.put(key, format(value));
+        }
+    }
+
+    private static String format(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Boolean flag) {
+            return flag ? "Yes" : "No";
+        }
+        return value.toString();
+    }
+
+    @Override
+    public void destroy() {
+        jobExecutor.shutdownNow();
+        executor.shutdown();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.ada.insurance_app.service.document;
+
+import com.ada.insurance_app.core.enums.ExportJobStatus;
+import com.ada.insurance_app.core.enums.PolicyDocumentKind;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State of one bulk re-render running in the background; written by the workers, read by status requests.
+ */
+@Getter
+public class PolicyRenderJob {
+    private final UUID id = UUID.randomUUID();
+    private final PolicyDocumentKind kind;
+    private final PolicyStatus policyStatus;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicInteger policies = new AtomicInteger();
+    private final AtomicInteger rendered = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    PolicyRenderJob(PolicyDocumentKind kind, PolicyStatus policyStatus) {
+        this.kind = kind;
+        this.policyStatus = policyStatus;
+    }
+
+    void start() {
+        status = ExportJobStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = ExportJobStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        status = ExportJobStatus.FAILED;
+    }
+}
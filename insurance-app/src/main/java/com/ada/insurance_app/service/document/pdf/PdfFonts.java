@@ -0,0 +1,21 @@
+package com.ada.insurance_app.service.document.pdf;
+
+import com.lowagie.text.Font;
+import com.lowagie.text.pdf.BaseFont;
+
+import java.io.IOException;
+
+/**
+ * Fonts shared by every rendering. Built once: creating a BaseFont parses its metrics.
+ * The Cp1254 encoding covers the Turkish characters in names and addresses.
+ */
+record PdfFonts(Font title, Font heading, Font label, Font value) {
+
+    private static final String ENCODING = "Cp1254";
+
+    static PdfFonts load() throws IOException {
+        BaseFont regular = BaseFont.createFont(BaseFont.HELVETICA, ENCODING, BaseFont.NOT_EMBEDDED);
+        BaseFont bold = BaseFont.createFont(BaseFont.HELVETICA_BOLD, ENCODING, BaseFont.NOT_EMBEDDED);
+        return new PdfFonts(new Font(bold, 16), new Font(bold, 12), new Font(bold, 10), new Font(regular, 10));
+    }
+}
@@ -0,0 +1,204 @@
+package com.ada.insurance_app.service.document.pdf;
+
+import com.lowagie.text.Chunk;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A PDF layout parsed once from a template resource, so rendering only substitutes values.
+ * <pre>
+ * title: Policy Schedule
+ * section: Policy
+ * Policy number: ${policyNumber}
+ * table: coverages
+ * </pre>
+ * Lines starting with # are comments. A field whose placeholders are all empty is left out,
+ * and so is a section left without content.
+ */
+final class PdfTemplate {
+
+    private sealed interface Block permits Section, Field, CoverageTable {
+    }
+
+    private record Section(String heading) implements Block {
+    }
+
+    private record Field(String label, List<Segment> value) implements Block {
+    }
+
+    private record CoverageTable() implements Block {
+    }
+
+    // Literal text, or the name of a model value when placeholder is true
+    private record Segment(String text, boolean placeholder) {
+    }
+
+    private static final String[] COVERAGE_HEADERS = {"Code", "Coverage", "Base price"};
+
+    private final String title;
+    private final List<Block> blocks;
+
+    private PdfTemplate(String title, List<Block> blocks) {
+        this.title = title;
+        this.blocks = blocks;
+    }
+
+    static PdfTemplate parse(String name, String source) {
+        String title = null;
+        List<Block> blocks = new ArrayList<>();
+        int lineNumber = 0;
+        for (String rawLine : source.split("\\R")) {
+            lineNumber++;
+            String line = rawLine.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int colon = line.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalStateException("Template " + name + " line " + lineNumber + ": missing ':'");
+            }
+            String key = line.substring(0, colon).strip();
+            String value = line.substring(colon + 1).strip();
+            switch (key) {
+                case "title" -> title = value;
+                case "section" -> blocks.add(new Section(value));
+                case "table" -> {
+                    if (!"coverages".equals(value)) {
+                        throw new IllegalStateException("Template " + name + " line " + lineNumber + ": unknown table " + value);
+                    }
+                    blocks.add(new CoverageTable());
+                }
+                default -> blocks.add(new Field(key, segments(name, lineNumber, value)));
+            }
+        }
+        if (title == null) {
+            throw new IllegalStateException("Template " + name + " has no title");
+        }
+        return new PdfTemplate(title, List.copyOf(blocks));
+    }
+
+    private static List<Segment> segments(String name, int lineNumber, String value) {
+        List<Segment> segments = new ArrayList<>();
+        int position = 0;
+        while (position < value.length()) {
+            int start = value.indexOf("${", position);
+            if (start < 0) {
+                segments.add(new Segment(value.substring(position), false));
+                break;
+            }
+            int end = value.indexOf('}', start);
+            if (end < 0) {
+                throw new IllegalStateException("Template " + name + " line " + lineNumber + ": unclosed placeholder");
+            }
+            if (start > position) {
+                segments.add(new Segment(value.substring(position, start), false));
+            }
+            segments.add(new Segment(value.substring(start + 2, end), true));
+            position = end + 1;
+        }
+        return List.copyOf(segments);
+    }
+
+    void render(Document document, PdfFonts fonts, Map<String, String> model,
+                List<String[]> coverages) throws DocumentException {
+        Paragraph heading = new Paragraph(title, fonts.title());
+        heading.setSpacingAfter(12);
+        document.add(heading);
+
+        String section = null;
+        List<Element> content = new ArrayList<>();
+        PdfPTable fields = null;
+        for (Block block : blocks) {
+            if (block instanceof Section next) {
+                addSection(document, fonts, section, content, fields);
+                section = next.heading();
+                content = new ArrayList<>();
+                fields = null;
+            } else if (block instanceof Field field) {
+                String value = resolve(field.value(), model);
+                if (value != null) {
+                    if (fields == null) {
+                        fields = new PdfPTable(new float[]{1, 2});
+                        fields.setWidthPercentage(100);
+                    }
+                    fields.addCell(cell(field.label(), fonts.label()));
+                    fields.addCell(cell(value, fonts.value()));
+                }
+            } else if (!coverages.isEmpty()) {
+                content.add(coverageTable(fonts, coverages));
+            }
+        }
+        addSection(document, fonts, section, content, fields);
+    }
+
+    private static void addSection(Document document, PdfFonts fonts, String heading,
+                                   List<Element> content, PdfPTable fields) throws DocumentException {
+        if (fields != null) {
+            content.add(0, fields);
+        }
+        if (content.isEmpty()) {
+            return;
+        }
+        if (heading != null) {
+            Paragraph paragraph = new Paragraph(heading, fonts.heading());
+            paragraph.setSpacingBefore(10);
+            paragraph.setSpacingAfter(4);
+            document.add(paragraph);
+        }
+        for (Element element : content) {
+            document.add(element);
+        }
+    }
+
+    /**
+     * @return the substituted value, or null when every placeholder is empty
+     */
+    private static String resolve(List<Segment> segments, Map<String, String> model) {
+        StringBuilder value = new StringBuilder();
+        boolean anyValue = false;
+        boolean anyPlaceholder = false;
+        for (Segment segment : segments) {
+            if (!segment.placeholder()) {
+                value.append(segment.text());
+                continue;
+            }
+            anyPlaceholder = true;
+            String resolved = model.get(segment.text());
+            if (resolved != null && !resolved.isBlank()) {
+                value.append(resolved);
+                anyValue = true;
+            }
+        }
+        return anyValue || !anyPlaceholder ? value.toString().strip() : null;
+    }
+
+    private static PdfPTable coverageTable(PdfFonts fonts, List<String[]> coverages) {
+        PdfPTable table = new PdfPTable(new float[]{1, 3, 1});
+        table.setWidthPercentage(100);
+        table.setHeaderRows(1);
+        for (String header : COVERAGE_HEADERS) {
+            table.addCell(cell(header, fonts.label()));
+        }
+        for (String[] coverage : coverages) {
+            for (String value : coverage) {
+                table.addCell(cell(value, fonts.value()));
+            }
+        }
+        return table;
+    }
+
+    private static PdfPCell cell(String text, com.lowagie.text.Font font) {
+        PdfPCell cell = new PdfPCell(new Phrase(new Chunk(text != null ? text : "", font)));
+        cell.setPadding(4);
+        return cell;
+    }
+}
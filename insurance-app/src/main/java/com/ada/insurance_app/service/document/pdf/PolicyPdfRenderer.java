@@ -0,0 +1,67 @@
+package com.ada.insurance_app.service.document.pdf;
+
+import com.ada.insurance_app.core.enums.PolicyDocumentKind;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Renders policy documents from the templates under templates/pdf. Templates and fonts are loaded
+ * once at startup; a rendering only builds the page content, so it is safe to call from many threads.
+ */
+@Component
+public class PolicyPdfRenderer {
+
+    private static final DateTimeFormatter GENERATED_AT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final Map<PolicyDocumentKind, PdfTemplate> templates = new EnumMap<>(PolicyDocumentKind.class);
+    private PdfFonts fonts;
+
+    @PostConstruct
+    void init() throws IOException {
+        fonts = PdfFonts.load();
+        for (PolicyDocumentKind kind : PolicyDocumentKind.values()) {
+            String path = "templates/pdf/" + kind.getTemplate() + ".tpl";
+            try (InputStream in = new ClassPathResource(path).getInputStream()) {
+                templates.put(kind, PdfTemplate.parse(path, new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            }
+        }
+    }
+
+    /**
+     * @param model     template values by placeholder name; missing values leave their field out
+     * @param coverages code, name and base price of each coverage
+     */
+    public byte[] render(PolicyDocumentKind kind, Map<String, String> model, List<String[]> coverages) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        Document document = new Document(PageSize.A4, 50, 50, 50, 50);
+        try {
+            PdfWriter.getInstance(document, out);
+            document.open();
+            templates.get(kind).render(document, fonts, model, coverages);
+            Paragraph footer = new Paragraph("Generated " + LocalDateTime.now().format(GENERATED_AT), fonts.value());
+            footer.setSpacingBefore(20);
+            document.add(footer);
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Failed to render " + kind, e);
+        } finally {
+            document.close();
+        }
+        return out.toByteArray();
+    }
+}
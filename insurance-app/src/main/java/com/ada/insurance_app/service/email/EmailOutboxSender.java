@@ -0,0 +1,66 @@
+package com.ada.insurance_app.service.email;
+
+import com.ada.insurance_app.entity.EmailOutbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends a batch of outbox emails in one JavaMailSender call, which opens a single
+ * SMTP connection for the whole batch instead of one per email.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxSender {
+
+    private final JavaMailSender javaMailSender;
+
+    @Value("${spring.mail.username:}")
+    private String from;
+
+    /**
+     * @return the ids of the emails that could not be sent, with the reason
+     */
+    public Map<UUID, String> send(List<EmailOutbox> batch) {
+        Map<SimpleMailMessage, UUID> idsByMessage = new IdentityHashMap<>();
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            EmailOutbox email = batch.get(i);
+            SimpleMailMessage message = new SimpleMailMessage();
+            if (!from.isBlank()) {
+                message.setFrom(from);
+            }
+            message.setTo(email.getRecipient());
+            message.setSubject(email.getSubject());
+            message.setText(email.getBody());
+            messages[i] = message;
+            idsByMessage.put(message, email.getId());
+        }
+
+        Map<UUID, String> failures = new HashMap<>();
+        try {
+            javaMailSender.send(messages);
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                // Connection or authentication failure: nothing was sent
+                batch.forEach(email -> failures.put(email.getId(), e.getMessage()));
+            } else {
+                e.getFailedMessages().forEach((message, cause) ->
+                        failures.put(idsByMessage.get(message), cause.getMessage()));
+            }
+        } catch (MailException e) {
+            batch.forEach(email -> failures.put(email.getId(), e.getMessage()));
+        }
+        return failures;
+    }
+}
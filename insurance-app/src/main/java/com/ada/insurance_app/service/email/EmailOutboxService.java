@@ -0,0 +1,97 @@
+package com.ada.insurance_app.service.email;
+
+import com.ada.insurance_app.core.enums.EmailOutboxStatus;
+import com.ada.insurance_app.entity.EmailOutbox;
+import com.ada.insurance_app.repository.IEmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final IEmailOutboxRepository emailOutboxRepository;
+
+    @Value("${app.mail.outbox.leaseMs:300000}")
+    private long leaseMs;
+
+    @Value("${app.mail.outbox.maxAttempts:8}")
+    private int maxAttempts;
+
+    @Value("${app.mail.outbox.retryBaseMs:30000}")
+    private long retryBaseMs;
+
+    @Value("${app.mail.outbox.retryMaxMs:3600000}")
+    private long retryMaxMs;
+
+    /**
+     * Stores the email in the caller's transaction, so it is only sent if that transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public EmailOutbox enqueue(String recipient, String subject, String body) {
+        return emailOutboxRepository.save(EmailOutbox.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .status(EmailOutboxStatus.PENDING)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Claims up to {@code limit} due emails by pushing their next attempt past the lease.
+     * A worker that dies mid-batch therefore only delays those emails until the lease runs out.
+     */
+    @Transactional
+    public List<EmailOutbox> claimBatch(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<EmailOutbox> batch = emailOutboxRepository.findDueForUpdate(now, limit);
+        LocalDateTime leaseUntil = now.plusNanos(leaseMs * 1_000_000);
+        batch.forEach(email -> email.setNextAttemptAt(leaseUntil));
+        return batch;
+    }
+
+    @Transactional
+    public void markSent(Collection<UUID> ids) {
+        if (!ids.isEmpty()) {
+            emailOutboxRepository.markSent(ids, EmailOutboxStatus.SENT, LocalDateTime.now());
+        }
+    }
+
+    /**
+     * Schedules a retry with exponential backoff, or gives up after maxAttempts.
+     */
+    @Transactional
+    public void markFailed(UUID id, String error) {
+        emailOutboxRepository.findById(id).ifPresent(email -> {
+            int attempts = email.getAttempts() + 1;
+            email.setAttempts(attempts);
+            email.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                    ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+            if (attempts >= maxAttempts) {
+                email.setStatus(EmailOutboxStatus.FAILED);
+                log.error("Giving up on email {} to {} after {} attempts", id, email.getRecipient(), attempts);
+            } else {
+                long backoffMs = Math.min(retryMaxMs, retryBaseMs << Math.min(attempts - 1, 20));
+                email.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs * 1_000_000));
+            }
+        });
+    }
+
+    public long countPending() {
+        return emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING);
+    }
+}
@@ -0,0 +1,120 @@
+package com.ada.insurance_app.service.email;
+
+import com.ada.insurance_app.entity.EmailOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the email outbox on a small pool of workers, batchSize emails per SMTP connection.
+ * Each poll starts a drain on every idle worker; a worker keeps claiming batches until none are due.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailOutboxWorker implements DisposableBean {
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailOutboxSender emailOutboxSender;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.mail.outbox.workers:2}")
+    private int workers;
+
+    @Value("${app.mail.outbox.batchSize:50}")
+    private int batchSize;
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private ExecutorService executor;
+    private Counter sent;
+    private Counter failed;
+
+    @PostConstruct
+    void init() {
+        executor = Executors.newFixedThreadPool(workers, namedThreads("email-outbox-"));
+        sent = Counter.builder("email.outbox.sent")
+                .description("Outbox emails delivered")
+                .register(meterRegistry);
+        failed = Counter.builder("email.outbox.failed")
+                .description("Outbox email delivery attempts that failed")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.pending", emailOutboxService, EmailOutboxService::countPending)
+                .description("Outbox emails waiting to be delivered")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.mail.outbox.pollMs:2000}")
+    public void poll() {
+        while (true) {
+            int active = activeWorkers.get();
+            if (active >= workers) {
+                return;
+            }
+            if (activeWorkers.compareAndSet(active, active + 1)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    void drain() {
+        try {
+            List<EmailOutbox> batch;
+            do {
+                batch = emailOutboxService.claimBatch(batchSize);
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                }
+            } while (batch.size() == batchSize);
+        } catch (Exception e) {
+            log.error("Error while draining the email outbox", e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    private void deliver(List<EmailOutbox> batch) {
+        Map<UUID, String> failures = emailOutboxSender.send(batch);
+
+        List<UUID> sentIds = batch.stream()
+                .map(EmailOutbox::getId)
+                .filter(id -> !failures.containsKey(id))
+                .toList();
+        emailOutboxService.markSent(sentIds);
+        failures.forEach(emailOutboxService::markFailed);
+
+        sent.increment(sentIds.size());
+        failed.increment(failures.size());
+        if (!failures.isEmpty()) {
+            log.warn("Failed to send {} of {} outbox emails, will retry", failures.size(), batch.size());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -3,8 +3,6 @@ package com.ada.insurance_app.service.email;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,11 +10,14 @@ import org.springframework.stereotype.Service;
 public class EmailService {
 
 
-    private final JavaMailSender javaMailSender;
+    private final EmailOutboxService emailOutboxService;
     @Value("${app.frontend.base-url}")
     private String frontendBaseUrl;
 
 
+    /**
+     * Queues the email in the current transaction; EmailOutboxWorker delivers it after commit.
+     */
     public void sendPasswordResetEmail(String toEmail, String resetToken) {
 
         String subject = "🔐 Password Reset Request - InsuranceApp";
@@ -41,12 +42,7 @@ public class EmailService {
         InsuranceApp Team
         """.formatted(resetUrl);
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(toEmail);
-        message.setSubject(subject);
-        message.setText(content);
-
-        javaMailSender.send(message);
+        emailOutboxService.enqueue(toEmail, subject, content);
     }
 
 }
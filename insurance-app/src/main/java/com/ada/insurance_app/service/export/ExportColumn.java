@@ -0,0 +1,6 @@
+package com.ada.insurance_app.service.export;
+
+import java.util.function.Function;
+
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+}
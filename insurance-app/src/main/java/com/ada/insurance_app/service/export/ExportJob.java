@@ -0,0 +1,51 @@
+package com.ada.insurance_app.service.export;
+
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.ada.insurance_app.core.enums.ExportJobStatus;
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * State of one export running in the background; written by the worker, read by status requests.
+ */
+@Getter
+public class ExportJob {
+    private final UUID id = UUID.randomUUID();
+    private final String register;
+    private final ExportFormat format;
+    private final Path file;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    ExportJob(String register, ExportFormat format, Path directory) {
+        this.register = register;
+        this.format = format;
+        this.file = directory.resolve(id + "." + format.getExtension());
+    }
+
+    public String getFilename() {
+        return register + "-" + createdAt.toLocalDate() + "." + format.getExtension();
+    }
+
+    void start() {
+        status = ExportJobStatus.RUNNING;
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = ExportJobStatus.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        status = ExportJobStatus.FAILED;
+    }
+}
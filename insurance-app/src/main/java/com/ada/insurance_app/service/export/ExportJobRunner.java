@@ -0,0 +1,154 @@
+package com.ada.insurance_app.service.export;
+
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.ada.insurance_app.core.exception.ResourceNotFoundException;
+import com.ada.insurance_app.core.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs exports in the background on a bounded pool and keeps their files on local disk.
+ * At most poolSize exports run at once and queueCapacity wait; further submissions are rejected
+ * with {@link ServiceUnavailableException}. Finished jobs and their files are dropped after retentionMs.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExportJobRunner implements DisposableBean {
+
+    @FunctionalInterface
+    public interface ExportTask {
+        void write(OutputStream out, AtomicLong rowsWritten) throws IOException;
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<UUID, ExportJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private Path directory;
+
+    @Value("${app.export.jobs.poolSize:2}")
+    private int poolSize;
+
+    @Value("${app.export.jobs.queueCapacity:20}")
+    private int queueCapacity;
+
+    @Value("${app.export.jobs.retentionMs:86400000}")
+    private long retentionMs;
+
+    @Value("${app.export.jobs.directory:}")
+    private String configuredDirectory;
+
+    @PostConstruct
+    void init() throws IOException {
+        directory = configuredDirectory.isBlank()
+                ? Files.createTempDirectory("insurance-exports-")
+                : Files.createDirectories(Path.of(configuredDirectory));
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreads("export-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("export.jobs.queue.size", executor, e -> e.getQueue().size())
+                .description("Export jobs waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("export.jobs.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Export jobs currently running")
+                .register(meterRegistry);
+    }
+
+    public ExportJob submit(String register, ExportFormat format, ExportTask task) {
+        ExportJob job = new ExportJob(register, format, directory);
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, task));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ServiceUnavailableException("Too many exports are running, please try again shortly");
+        }
+        return job;
+    }
+
+    public ExportJob get(UUID jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Export job not found");
+        }
+        return job;
+    }
+
+    private void run(ExportJob job, ExportTask task) {
+        job.start();
+        long start = System.currentTimeMillis();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(job.getFile()))) {
+            task.write(out, job.getRowsWritten());
+        } catch (Exception e) {
+            log.error("Export job {} ({}) failed", job.getId(), job.getRegister(), e);
+            deleteFile(job);
+            job.fail("Export failed");
+            return;
+        }
+        job.complete();
+        log.info("Export job {} wrote {} {} rows as {} in {} ms", job.getId(), job.getRowsWritten().get(),
+                job.getRegister(), job.getFormat(), System.currentTimeMillis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${app.export.jobs.cleanupIntervalMs:600000}")
+    public void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMs * 1_000_000);
+        jobs.values().removeIf(job -> {
+            if (job.getFinishedAt() == null || job.getFinishedAt().isAfter(cutoff)) {
+                return false;
+            }
+            deleteFile(job);
+            return true;
+        });
+    }
+
+    private static void deleteFile(ExportJob job) {
+        try {
+            Files.deleteIfExists(job.getFile());
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}", job.getFile(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
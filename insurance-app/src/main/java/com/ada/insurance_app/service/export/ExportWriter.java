@@ -0,0 +1,201 @@
+package com.ada.insurance_app.service.export;
+
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Writes rows one at a time to the response stream; nothing is kept once a row is written.
+ */
+public abstract class ExportWriter<T> implements Closeable {
+
+    protected final List<ExportColumn<T>> columns;
+
+    private ExportWriter(List<ExportColumn<T>> columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * @param name          sheet name for XLSX
+     * @param xlsxWindowSize rows kept in memory by the XLSX writer, older rows are flushed to a temp file
+     */
+    public static <T> ExportWriter<T> open(ExportFormat format, String name, List<ExportColumn<T>> columns,
+                                           OutputStream out, ObjectMapper objectMapper,
+                                           int xlsxWindowSize) throws IOException {
+        return switch (format) {
+            case CSV -> new Csv<>(columns, out);
+            case NDJSON -> new NdJson<>(columns, out, objectMapper);
+            case XLSX -> new Xlsx<>(name, columns, out, xlsxWindowSize);
+        };
+    }
+
+    public abstract void write(T row) throws IOException;
+
+    private static final class Csv<T> extends ExportWriter<T> {
+        private final Writer writer;
+
+        private Csv(List<ExportColumn<T>> columns, OutputStream out) throws IOException {
+            super(columns);
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            for (int i = 0; i < columns.size(); i++) {
+                writeCell(i, columns.get(i).name());
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            for (int i = 0; i < columns.size(); i++) {
+                writeCell(i, format(columns.get(i).value().apply(row)));
+            }
+            writer.write("\r\n");
+        }
+
+        private void writeCell(int index, String value) throws IOException {
+            if (index > 0) {
+                writer.write(',');
+            }
+            if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(value);
+            }
+        }
+
+        private static String format(Object value) {
+            if (value == null) {
+                return "";
+            }
+            return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class NdJson<T> extends ExportWriter<T> {
+        private final JsonGenerator generator;
+
+        private NdJson(List<ExportColumn<T>> columns, OutputStream out, ObjectMapper objectMapper) throws IOException {
+            super(columns);
+            // The response stream is closed by the container, not by the generator
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(T row) throws IOException {
+            generator.writeStartObject();
+            for (ExportColumn<T> column : columns) {
+                generator.writeFieldName(column.name());
+                generator.writeObject(column.value().apply(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * Streaming workbook: only the last windowSize rows are in memory, the rest sit in a compressed
+     * temp file until the workbook is written out on close. A sheet that reaches the Excel row limit
+     * continues on a new one.
+     */
+    private static final class Xlsx<T> extends ExportWriter<T> {
+        private static final int MAX_ROW_INDEX = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
+
+        private final String name;
+        private final OutputStream out;
+        private final SXSSFWorkbook workbook;
+        private final CellStyle dateStyle;
+        private final CellStyle dateTimeStyle;
+        private SXSSFSheet sheet;
+        private int rowIndex;
+
+        private Xlsx(String name, List<ExportColumn<T>> columns, OutputStream out, int windowSize) {
+            super(columns);
+            this.name = name;
+            this.out = out;
+            this.workbook = new SXSSFWorkbook(windowSize);
+            this.workbook.setCompressTempFiles(true);
+            this.dateStyle = workbook.createCellStyle();
+            this.dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+            this.dateTimeStyle = workbook.createCellStyle();
+            this.dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+            newSheet();
+        }
+
+        @Override
+        public void write(T row) {
+            if (rowIndex > MAX_ROW_INDEX) {
+                newSheet();
+            }
+            Row cells = sheet.createRow(rowIndex++);
+            for (int i = 0; i < columns.size(); i++) {
+                Object value = columns.get(i).value().apply(row);
+                if (value == null) {
+                    continue;
+                }
+                Cell cell = cells.createCell(i);
+                if (value instanceof Number number) {
+                    cell.setCellValue(number.doubleValue());
+                } else if (value instanceof LocalDate date) {
+                    cell.setCellValue(date);
+                    cell.setCellStyle(dateStyle);
+                } else if (value instanceof LocalDateTime dateTime) {
+                    cell.setCellValue(dateTime);
+                    cell.setCellStyle(dateTimeStyle);
+                } else {
+                    cell.setCellValue(value.toString());
+                }
+            }
+        }
+
+        private void newSheet() {
+            int number = workbook.getNumberOfSheets();
+            sheet = workbook.createSheet(number == 0 ? name : name + "-" + (number + 1));
+            Row header = sheet.createRow(0);
+            for (int i = 0; i < columns.size(); i++) {
+                header.createCell(i).setCellValue(columns.get(i).name());
+            }
+            rowIndex = 1;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                workbook.write(out);
+                out.flush();
+            } finally {
+                workbook.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ada.insurance_app.service.export;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.ada.insurance_app.dto.ExportJobDto;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface IExportService {
+    StreamingResponseBody exportPolicies(ExportFormat format, LocalDate from, LocalDate to,
+                                         UUID agentId, PolicyStatus status);
+
+    StreamingResponseBody exportPayments(ExportFormat format, LocalDate from, LocalDate to,
+                                         UUID agentId, PaymentStatus status);
+
+    StreamingResponseBody exportClaims(ExportFormat format, LocalDate from, LocalDate to,
+                                       UUID agentId, ClaimStatus status);
+
+    ExportJobDto startPolicyExport(ExportFormat format, LocalDate from, LocalDate to,
+                                   UUID agentId, PolicyStatus status);
+
+    ExportJobDto startPaymentExport(ExportFormat format, LocalDate from, LocalDate to,
+                                    UUID agentId, PaymentStatus status);
+
+    ExportJobDto startClaimExport(ExportFormat format, LocalDate from, LocalDate to,
+                                  UUID agentId, ClaimStatus status);
+
+    ExportJobDto getExportJob(UUID jobId);
+
+    /**
+     * The finished job, for downloading its file.
+     * @throws com.ada.insurance_app.core.exception.InvalidRequestException if the job has not completed
+     */
+    ExportJob getCompletedExportJob(UUID jobId);
+}
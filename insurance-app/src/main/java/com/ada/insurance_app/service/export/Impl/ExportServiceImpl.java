@@ -0,0 +1,214 @@
+package com.ada.insurance_app.service.export.Impl;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.ada.insurance_app.core.enums.ExportJobStatus;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.ada.insurance_app.core.exception.InvalidRequestException;
+import com.ada.insurance_app.dto.ExportJobDto;
+import com.ada.insurance_app.repository.IClaimRepository;
+import com.ada.insurance_app.repository.IPaymentRepository;
+import com.ada.insurance_app.repository.IPolicyRepository;
+import com.ada.insurance_app.repository.projection.ClaimExportRow;
+import com.ada.insurance_app.repository.projection.PaymentExportRow;
+import com.ada.insurance_app.repository.projection.PolicyExportRow;
+import com.ada.insurance_app.service.export.ExportColumn;
+import com.ada.insurance_app.service.export.ExportJob;
+import com.ada.insurance_app.service.export.ExportJobRunner;
+import com.ada.insurance_app.service.export.ExportWriter;
+import com.ada.insurance_app.service.export.IExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Exports are read through a forward-only cursor of scalar rows (fetch size 1000) inside one
+ * transaction and written straight to the response, or to a file for background jobs, so heap use does
+ * not depend on the number of rows. The rows are projections, never managed entities, so the
+ * persistence context stays empty.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportServiceImpl implements IExportService {
+
+    private static final List<ExportColumn<PolicyExportRow>> POLICY_COLUMNS = List.of(
+            new ExportColumn<>("id", PolicyExportRow::getId),
+            new ExportColumn<>("policyNumber", PolicyExportRow::getPolicyNumber),
+            new ExportColumn<>("status", PolicyExportRow::getStatus),
+            new ExportColumn<>("insuranceType", PolicyExportRow::getInsuranceType),
+            new ExportColumn<>("premium", PolicyExportRow::getPremium),
+            new ExportColumn<>("startDate", PolicyExportRow::getStartDate),
+            new ExportColumn<>("endDate", PolicyExportRow::getEndDate),
+            new ExportColumn<>("customerNumber", PolicyExportRow::getCustomerNumber),
+            new ExportColumn<>("agentNumber", PolicyExportRow::getAgentNumber),
+            new ExportColumn<>("createdAt", PolicyExportRow::getCreatedAt));
+
+    private static final List<ExportColumn<PaymentExportRow>> PAYMENT_COLUMNS = List.of(
+            new ExportColumn<>("id", PaymentExportRow::getId),
+            new ExportColumn<>("transactionReference", PaymentExportRow::getTransactionReference),
+            new ExportColumn<>("policyNumber", PaymentExportRow::getPolicyNumber),
+            new ExportColumn<>("customerNumber", PaymentExportRow::getCustomerNumber),
+            new ExportColumn<>("agentNumber", PaymentExportRow::getAgentNumber),
+            new ExportColumn<>("amount", PaymentExportRow::getAmount),
+            new ExportColumn<>("status", PaymentExportRow::getStatus),
+            new ExportColumn<>("paymentDate", PaymentExportRow::getPaymentDate),
+            new ExportColumn<>("createdAt", PaymentExportRow::getCreatedAt));
+
+    private static final List<ExportColumn<ClaimExportRow>> CLAIM_COLUMNS = List.of(
+            new ExportColumn<>("id", ClaimExportRow::getId),
+            new ExportColumn<>("claimNumber", ClaimExportRow::getClaimNumber),
+            new ExportColumn<>("policyNumber", ClaimExportRow::getPolicyNumber),
+            new ExportColumn<>("agentNumber", ClaimExportRow::getAgentNumber),
+            new ExportColumn<>("status", ClaimExportRow::getStatus),
+            new ExportColumn<>("incidentDate", ClaimExportRow::getIncidentDate),
+            new ExportColumn<>("estimatedAmount", ClaimExportRow::getEstimatedAmount),
+            new ExportColumn<>("approvedAmount", ClaimExportRow::getApprovedAmount),
+            new ExportColumn<>("createdAt", ClaimExportRow::getCreatedAt));
+
+    private final IPolicyRepository policyRepository;
+    private final IPaymentRepository paymentRepository;
+    private final IClaimRepository claimRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ExportJobRunner exportJobRunner;
+
+    @Value("${app.export.xlsx.windowSize:100}")
+    private int xlsxWindowSize;
+
+    @Override
+    public StreamingResponseBody exportPolicies(ExportFormat format, LocalDate from, LocalDate to,
+                                                UUID agentId, PolicyStatus status) {
+        validateRange(from, to);
+        return export("policies", format, POLICY_COLUMNS,
+                () -> policyRepository.streamExportRows(startOf(from), endOf(to), agentId, status));
+    }
+
+    @Override
+    public StreamingResponseBody exportPayments(ExportFormat format, LocalDate from, LocalDate to,
+                                                UUID agentId, PaymentStatus status) {
+        validateRange(from, to);
+        return export("payments", format, PAYMENT_COLUMNS,
+                () -> paymentRepository.streamExportRows(startOf(from), endOf(to), agentId, status));
+    }
+
+    @Override
+    public StreamingResponseBody exportClaims(ExportFormat format, LocalDate from, LocalDate to,
+                                              UUID agentId, ClaimStatus status) {
+        validateRange(from, to);
+        return export("claims", format, CLAIM_COLUMNS,
+                () -> claimRepository.streamExportRows(startOf(from), endOf(to), agentId, status));
+    }
+
+    @Override
+    public ExportJobDto startPolicyExport(ExportFormat format, LocalDate from, LocalDate to,
+                                          UUID agentId, PolicyStatus status) {
+        validateRange(from, to);
+        return submit("policies", format, POLICY_COLUMNS,
+                () -> policyRepository.streamExportRows(startOf(from), endOf(to), agentId, status));
+    }
+
+    @Override
+    public ExportJobDto startPaymentExport(ExportFormat format, LocalDate from, LocalDate to,
+                                           UUID agentId, PaymentStatus status) {
+        validateRange(from, to);
+        return submit("payments", format, PAYMENT_COLUMNS,
+                () -> paymentRepository.streamExportRows(startOf(from), endOf(to), agentId, status));
+    }
+
+    @Override
+    public ExportJobDto startClaimExport(ExportFormat format, LocalDate from, LocalDate to,
+                                         UUID agentId, ClaimStatus status) {
+        validateRange(from, to);
+        return submit("claims", format, CLAIM_COLUMNS,
+                () -> claimRepository.streamExportRows(startOf(from), endOf(to), agentId, status));
+    }
+
+    @Override
+    public ExportJobDto getExportJob(UUID jobId) {
+        return toDto(exportJobRunner.get(jobId));
+    }
+
+    @Override
+    public ExportJob getCompletedExportJob(UUID jobId) {
+        ExportJob job = exportJobRunner.get(jobId);
+        if (job.getStatus() != ExportJobStatus.COMPLETED) {
+            throw new InvalidRequestException("Export job is " + job.getStatus());
+        }
+        return job;
+    }
+
+    // Runs on the async request thread once the controller has returned
+    private <T> StreamingResponseBody export(String name, ExportFormat format, List<ExportColumn<T>> columns,
+                                             Supplier<Stream<T>> rows) {
+        return out -> {
+            long start = System.currentTimeMillis();
+            AtomicLong written = new AtomicLong();
+            write(name, format, columns, rows, out, written);
+            log.info("Exported {} {} rows as {} in {} ms", written.get(), name, format,
+                    System.currentTimeMillis() - start);
+        };
+    }
+
+    private <T> ExportJobDto submit(String name, ExportFormat format, List<ExportColumn<T>> columns,
+                                    Supplier<Stream<T>> rows) {
+        return toDto(exportJobRunner.submit(name, format,
+                (out, rowsWritten) -> write(name, format, columns, rows, out, rowsWritten)));
+    }
+
+    private <T> void write(String name, ExportFormat format, List<ExportColumn<T>> columns,
+                           Supplier<Stream<T>> rows, OutputStream out, AtomicLong rowsWritten) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get();
+                 ExportWriter<T> writer = ExportWriter.open(format, name, columns, out, objectMapper, xlsxWindowSize)) {
+                Iterator<T> iterator = stream.iterator();
+                while (iterator.hasNext()) {
+                    writer.write(iterator.next());
+                    rowsWritten.incrementAndGet();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static ExportJobDto toDto(ExportJob job) {
+        String downloadUrl = job.getStatus() == ExportJobStatus.COMPLETED
+                ? "/api/v1/admin/exports/jobs/" + job.getId() + "/file"
+                : null;
+        return new ExportJobDto(job.getId(), job.getRegister(), job.getFormat(), job.getStatus(),
+                job.getRowsWritten().get(), job.getCreatedAt(), job.getFinishedAt(), job.getError(), downloadUrl);
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidRequestException("from must not be after to");
+        }
+    }
+
+    private static LocalDateTime startOf(LocalDate from) {
+        return from != null ? from.atStartOfDay() : null;
+    }
+
+    // The range is inclusive of the whole last day
+    private static LocalDateTime endOf(LocalDate to) {
+        return to != null ? to.plusDays(1).atStartOfDay() : null;
+    }
+}
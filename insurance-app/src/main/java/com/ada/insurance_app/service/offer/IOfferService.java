@@ -1,5 +1,7 @@
 package com.ada.insurance_app.service.offer;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.dto.OfferDto;
 import com.ada.insurance_app.entity.Offer;
 import com.ada.insurance_app.core.enums.OfferStatus;
@@ -15,7 +17,7 @@ public interface IOfferService {
     void deleteOffer(Long offerId);
     OfferDto getOfferById(Long offerId);
     List<OfferDto> getOffersByCustomer(UUID customerId);
-    List<OfferDto> getAllOffers();
+    CursorPage<OfferDto> getAllOffers(String cursor, int size, OfferStatus status, InsuranceType insuranceType);
     
     // Agent approval methods
     OfferDto approveOffer(Long offerId, UUID agentId);
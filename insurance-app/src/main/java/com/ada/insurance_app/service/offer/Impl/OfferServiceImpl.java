@@ -1,8 +1,11 @@
 package com.ada.insurance_app.service.offer.Impl;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.core.enums.PolicyStatus;
 import com.ada.insurance_app.core.exception.OfferAlreadyProcessedException;
 import com.ada.insurance_app.core.exception.OfferNotFoundException;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
 import com.ada.insurance_app.dto.OfferDto;
 import com.ada.insurance_app.entity.Coverage;
 import com.ada.insurance_app.entity.Offer;
@@ -15,6 +18,8 @@ import com.ada.insurance_app.repository.IPolicyRepository;
 import com.ada.insurance_app.repository.IAgentRepository;
 import com.ada.insurance_app.request.offer.CreateOfferRequest;
 import com.ada.insurance_app.request.offer.OfferUpdateRequest;
+import com.ada.insurance_app.service.coverage.pricing.CoveragePriceCatalog;
+import com.ada.insurance_app.service.coverage.pricing.CoveragePriceSnapshot;
 import com.ada.insurance_app.service.offer.IOfferService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +41,7 @@ public class OfferServiceImpl implements IOfferService {
     private final IPolicyRepository policyRepository;
     private final IAgentRepository agentRepository;
     private final OfferMapper offerMapper;
+    private final CoveragePriceCatalog priceCatalog;
 
     // DTO-based methods for controller
     @Override
@@ -84,9 +90,11 @@ public class OfferServiceImpl implements IOfferService {
     }
 
     @Override
-    public List<OfferDto> getAllOffers() {
-        List<Offer> offers = offerRepository.findAll();
-        return offers.stream().map(offerMapper::toDto).toList();
+    public CursorPage<OfferDto> getAllOffers(String cursor, int size, OfferStatus status, InsuranceType insuranceType) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Offer> offers = offerRepository.findPageAfter(status, insuranceType,
+                after.createdAt(), after.longId(), KeysetCursor.limit(size));
+        return KeysetCursor.page(offers, size, Offer::getCreatedAt, Offer::getId, offerMapper::toDto);
     }
 
     @Override
@@ -175,10 +183,10 @@ public class OfferServiceImpl implements IOfferService {
         // Set default status
         offer.setStatus(OfferStatus.PENDING);
         offer.setCreatedAt(LocalDateTime.now());
-        BigDecimal totalPremium = offer.getCoverages().stream()
-                .map(Coverage::getBasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        offer.setTotalPremium(totalPremium);
+        CoveragePriceSnapshot.Quote quote = priceCatalog.quote(
+                offer.getCoverages().stream().map(Coverage::getId).toList());
+        offer.setTotalPremium(quote.totalPremium());
+        offer.setPriceCatalogVersion(quote.version());
         
         Offer savedOffer = offerRepository.save(offer);
         log.info("Offer created successfully: {} for customer: {}", savedOffer.getId(), offer.getCustomer().getId());
@@ -1,5 +1,7 @@
 package com.ada.insurance_app.service.policy;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.ClaimStatus;
 import com.ada.insurance_app.dto.ClaimDto;
 import com.ada.insurance_app.request.claim.CreateClaimRequest;
 import com.ada.insurance_app.request.claim.UpdateClaimRequest;
@@ -14,7 +16,7 @@ public interface IClaimService {
     ClaimDto getClaimById(UUID claimId);
     List<ClaimDto> getClaimsByPolicy(Long policyId);
     List<ClaimDto> getClaimsByCustomer(UUID customerId);
-    List<ClaimDto> getAllClaims();
+    CursorPage<ClaimDto> getAllClaims(String cursor, int size, ClaimStatus status);
     
     // Request sınıflarını kullanan yeni metodlar
     ClaimDto createClaimFromRequest(CreateClaimRequest request);
@@ -1,5 +1,8 @@
 package com.ada.insurance_app.service.policy;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PolicyStatus;
 import com.ada.insurance_app.dto.PolicyDto;
 import com.ada.insurance_app.request.policy.CreatePolicyRequest;
 import com.ada.insurance_app.request.policy.UpdatePolicyRequest;
@@ -14,7 +17,7 @@ public interface IPolicyService {
     PolicyDto getPolicyById(Long policyId);
     List<PolicyDto> getPoliciesByAgent(UUID agentId);
     List<PolicyDto> getPoliciesByCustomer(UUID customerId);
-    List<PolicyDto> getAllPolicies();
+    CursorPage<PolicyDto> getAllPolicies(String cursor, int size, PolicyStatus status, InsuranceType insuranceType);
     
     // Request sınıflarını kullanan yeni metodlar
     PolicyDto createPolicyFromRequest(CreatePolicyRequest request);
@@ -1,8 +1,10 @@
 package com.ada.insurance_app.service.policy.Impl;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.enums.ClaimStatus;
 import com.ada.insurance_app.core.exception.ClaimNotFoundException;
 import com.ada.insurance_app.core.exception.PolicyNotFoundException;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
 import com.ada.insurance_app.dto.ClaimDto;
 import com.ada.insurance_app.entity.Claim;
 import com.ada.insurance_app.entity.Policy;
@@ -146,11 +148,11 @@ public class ClaimServiceImpl implements IClaimService {
     }
 
     @Override
-    public List<ClaimDto> getAllClaims() {
-        List<Claim> claims = claimRepository.findAll();
-        return claims.stream()
-                .map(claimMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<ClaimDto> getAllClaims(String cursor, int size, ClaimStatus status) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Claim> claims = claimRepository.findPageAfter(status,
+                after.createdAt(), after.uuidId(), KeysetCursor.limit(size));
+        return KeysetCursor.page(claims, size, Claim::getCreatedAt, Claim::getId, claimMapper::toDto);
     }
 
     @Override
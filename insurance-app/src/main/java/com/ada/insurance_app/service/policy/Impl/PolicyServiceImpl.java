@@ -1,8 +1,12 @@
 package com.ada.insurance_app.service.policy.Impl;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PolicyStatus;
 import com.ada.insurance_app.core.exception.AgentNotFoundException;
 import com.ada.insurance_app.core.exception.CustomerNotFoundException;
 import com.ada.insurance_app.core.exception.PolicyNotFoundException;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
 import com.ada.insurance_app.dto.PolicyDto;
 import com.ada.insurance_app.entity.Agent;
 import com.ada.insurance_app.entity.Customer;
@@ -167,11 +171,11 @@ public class PolicyServiceImpl implements IPolicyService {
     }
 
     @Override
-    public List<PolicyDto> getAllPolicies() {
-        List<Policy> policies = policyRepository.findAll();
-        return policies.stream()
-                .map(policyMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<PolicyDto> getAllPolicies(String cursor, int size, PolicyStatus status, InsuranceType insuranceType) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Policy> policies = policyRepository.findPageAfter(status, insuranceType,
+                after.createdAt(), after.longId(), KeysetCursor.limit(size));
+        return KeysetCursor.page(policies, size, Policy::getCreatedAt, Policy::getId, policyMapper::toDto);
     }
 
     @Override
@@ -0,0 +1,11 @@
+package com.ada.insurance_app.service.search;
+
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.SearchScope;
+import com.ada.insurance_app.dto.SearchHitDto;
+
+public interface ISearchService {
+
+    // Ranked full-text and substring matches within one scope, best first
+    CursorPage<SearchHitDto> search(SearchScope scope, String keyword, String cursor, int size);
+}
@@ -0,0 +1,87 @@
+package com.ada.insurance_app.service.search.Impl;
+
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.SearchScope;
+import com.ada.insurance_app.core.exception.InvalidRequestException;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
+import com.ada.insurance_app.dto.SearchHitDto;
+import com.ada.insurance_app.repository.IClaimRepository;
+import com.ada.insurance_app.repository.ICoverageRepository;
+import com.ada.insurance_app.repository.IDocumentRepository;
+import com.ada.insurance_app.repository.IPaymentRepository;
+import com.ada.insurance_app.repository.projection.SearchHitView;
+import com.ada.insurance_app.service.search.ISearchService;
+import com.ada.insurance_app.service.search.SearchText;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Search backed by the PostgreSQL indexes from FullTextSearchSchema: words are matched against the
+ * tsvector columns, identifiers by substring through trigram indexes, and both are ranked together.
+ * One page costs a single statement; paging stops after maxResults hits.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SearchServiceImpl implements ISearchService {
+
+    // The substring arms need a whole trigram: below three characters pg_trgm cannot use its index
+    private static final int MIN_KEYWORD_LENGTH = 3;
+    private static final int MAX_KEYWORD_LENGTH = 200;
+
+    private final IClaimRepository claimRepository;
+    private final IPaymentRepository paymentRepository;
+    private final IDocumentRepository documentRepository;
+    private final ICoverageRepository coverageRepository;
+
+    @Value("${app.search.maxResults:1000}")
+    private int maxResults;
+
+    @Override
+    public CursorPage<SearchHitDto> search(SearchScope scope, String keyword, String cursor, int size) {
+        String query = keyword == null ? "" : keyword.trim();
+        if (query.length() < MIN_KEYWORD_LENGTH || query.length() > MAX_KEYWORD_LENGTH) {
+            throw new InvalidRequestException("keyword must be between " + MIN_KEYWORD_LENGTH + " and "
+                    + MAX_KEYWORD_LENGTH + " characters");
+        }
+        if (size < 1 || size > KeysetCursor.MAX_PAGE_SIZE) {
+            throw new InvalidRequestException("size must be between 1 and " + KeysetCursor.MAX_PAGE_SIZE);
+        }
+        int offset = SearchText.decodeOffset(cursor);
+        if (offset >= maxResults) {
+            throw new InvalidRequestException("Only the first " + maxResults + " results can be paged through, "
+                    + "please refine the search");
+        }
+
+        // One row more than the page tells whether another page follows
+        List<SearchHitView> rows = find(scope, query, SearchText.containsPattern(query), size + 1, offset);
+        boolean hasNext = rows.size() > size && offset + size < maxResults;
+        List<SearchHitDto> items = rows.stream()
+                .limit(size)
+                .map(row -> toDto(scope, row, query))
+                .toList();
+        return new CursorPage<>(items, hasNext ? SearchText.encodeOffset(offset + size) : null, hasNext);
+    }
+
+    private List<SearchHitView> find(SearchScope scope, String query, String pattern, int limit, int offset) {
+        String headline = SearchText.HEADLINE_OPTIONS;
+        return switch (scope) {
+            case CLAIM -> claimRepository.searchRanked(query, pattern, headline, limit, offset);
+            case PAYMENT -> paymentRepository.searchRanked(query, pattern, limit, offset);
+            case DOCUMENT -> documentRepository.searchRanked(query, pattern, headline, limit, offset);
+            case COVERAGE -> coverageRepository.searchRanked(query, pattern, headline, limit, offset);
+        };
+    }
+
+    private SearchHitDto toDto(SearchScope scope, SearchHitView row, String query) {
+        // Payments have no free text: their reference is the part that matched
+        String highlight = row.getHighlight() != null
+                ? SearchText.toHtml(row.getHighlight())
+                : SearchText.markOccurrences(row.getTitle(), query);
+        return new SearchHitDto(scope, row.getId(), row.getTitle(), row.getSubtitle(), highlight, row.getRank());
+    }
+}
@@ -0,0 +1,104 @@
+package com.ada.insurance_app.service.search;
+
+import com.ada.insurance_app.core.exception.InvalidRequestException;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+
+/**
+ * Text handling around the ranked search queries: the ILIKE pattern, highlight markup and the page cursor.
+ * <p>
+ * ts_headline marks matches with two control characters instead of HTML, so the text can be escaped
+ * safely before the markers become {@code <mark>} tags. The cursor is the offset of the next page:
+ * ranked results have no stable key to seek on, and the whole match set is ranked either way.
+ */
+public final class SearchText {
+
+    private static final String START = "\u0002";
+    private static final String STOP = "\u0003";
+
+    public static final String HEADLINE_OPTIONS = "StartSel=" + START + ", StopSel=" + STOP
+            + ", MaxWords=25, MinWords=10, MaxFragments=2, FragmentDelimiter=\" ... \"";
+
+    private static final String VERSION = "1";
+    private static final char SEPARATOR = '|';
+
+    private SearchText() {
+    }
+
+    /**
+     * ILIKE pattern matching the keyword anywhere, with LIKE wildcards in the keyword taken literally.
+     */
+    public static String containsPattern(String keyword) {
+        StringBuilder pattern = new StringBuilder(keyword.length() + 2).append('%');
+        for (char c : keyword.toCharArray()) {
+            if (c == '\\' || c == '%' || c == '_') {
+                pattern.append('\\');
+            }
+            pattern.append(c);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * HTML-escapes a ts_headline result and turns its markers into {@code <mark>} tags.
+     */
+    public static String toHtml(String marked) {
+        if (marked == null) {
+            return null;
+        }
+        return HtmlUtils.htmlEscape(marked).replace(START, "<mark>").replace(STOP, "</mark>");
+    }
+
+    /**
+     * Marks every case-insensitive occurrence of the keyword in an identifier, as HTML.
+     */
+    public static String markOccurrences(String text, String keyword) {
+        if (text == null) {
+            return null;
+        }
+        String lowerText = text.toLowerCase(Locale.ROOT);
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        if (lowerText.length() != text.length() || lowerKeyword.isEmpty()) {
+            return HtmlUtils.htmlEscape(text); // case folding changed offsets, do not guess
+        }
+
+        StringBuilder marked = new StringBuilder(text.length() + 16);
+        int from = 0;
+        int match;
+        while ((match = lowerText.indexOf(lowerKeyword, from)) >= 0) {
+            marked.append(text, from, match).append(START)
+                    .append(text, match, match + keyword.length()).append(STOP);
+            from = match + keyword.length();
+        }
+        marked.append(text, from, text.length());
+        return toHtml(marked.toString());
+    }
+
+    public static int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0 || !VERSION.equals(decoded.substring(0, separator))) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            int offset = Integer.parseInt(decoded.substring(separator + 1));
+            if (offset < 0) {
+                throw new InvalidRequestException("Invalid cursor");
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid cursor");
+        }
+    }
+
+    public static String encodeOffset(int offset) {
+        String raw = VERSION + SEPARATOR + offset;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
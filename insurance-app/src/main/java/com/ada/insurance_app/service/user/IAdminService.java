@@ -1,6 +1,10 @@
 package com.ada.insurance_app.service.user;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.dto.AgentDto;
+import com.ada.insurance_app.dto.AgentLeaderboardDto;
 import com.ada.insurance_app.dto.AgentStatsDto;
 import com.ada.insurance_app.dto.DashboardSummaryDto;
 import com.ada.insurance_app.dto.UserDto;
@@ -16,7 +20,7 @@ import java.util.List;
 import java.util.UUID;
 
 public interface IAdminService {
-    List<UserDto> getAllUsers();
+    CursorPage<UserDto> getAllUsers(String cursor, int size, Role role);
     UserDto changeUserRole(ChangeRoleRequest request);
     DashboardSummaryDto getSummaryReport();
     UserDto getUserByIdForAdmin(UUID userId);
@@ -24,6 +28,7 @@ public interface IAdminService {
     AgentDto createAgent(AddAgentRequest request);
     AgentDto updateAgent(String agentNumber, UpdateAgentRequest request);
     void deleteAgentByAgentNumber(String agentNumber);
-    List<AgentDto> getAllAgents();
+    CursorPage<AgentDto> getAllAgents(String cursor, int size);
     List<AgentStatsDto> getAgentStatistics();
+    AgentLeaderboardDto getTopAgents(int limit, String region, InsuranceType insuranceType);
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.ada.insurance_app.service.user;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.dto.*;
 import com.ada.insurance_app.request.claim.CreateClaimRequest;
 import com.ada.insurance_app.request.customer.AddCorporateCustomerRequest;
@@ -42,7 +43,7 @@ public interface ICustomerService {
     CustomerDashboardDto getCustomerDashboard(UUID customerId);
     CustomerDto getCurrentCustomer();
 
-    List<AgentDto> getAllAgents();
+    CursorPage<AgentDto> getAllAgents(String cursor, int size);
 
     // CustomerSummaryDto getCustomerSummary(UUID customerId);
 }
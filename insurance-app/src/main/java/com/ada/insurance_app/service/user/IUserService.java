@@ -1,13 +1,14 @@
 package com.ada.insurance_app.service.user;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.dto.UserDto;
-import java.util.List;
 import java.util.UUID;
 
 public interface IUserService {
     UserDto getUserById(UUID userId);
     UserDto getUserByEmail(String email);
-    List<UserDto> getAllUsers();
+    CursorPage<UserDto> getAllUsers(String cursor, int size, Role role);
     UserDto updateUser(UUID userId, UserDto userDto);
     void deleteUser(UUID userId);
 }
@@ -1,8 +1,13 @@
 package com.ada.insurance_app.service.user.Impl;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.InsuranceType;
 import com.ada.insurance_app.core.enums.Role;
 import com.ada.insurance_app.core.exception.UserNotFoundException;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
+import com.ada.insurance_app.core.persistence.SecondLevelCache;
 import com.ada.insurance_app.dto.AgentDto;
+import com.ada.insurance_app.dto.AgentLeaderboardDto;
 import com.ada.insurance_app.dto.AgentStatsDto;
 import com.ada.insurance_app.dto.DashboardSummaryDto;
 import com.ada.insurance_app.dto.UserDto;
@@ -15,6 +20,8 @@ import com.ada.insurance_app.repository.IAgentRepository;
 import com.ada.insurance_app.request.agent.AddAgentRequest;
 import com.ada.insurance_app.request.agent.UpdateAgentRequest;
 import com.ada.insurance_app.request.user.ChangeRoleRequest;
+import com.ada.insurance_app.service.auth.token.RefreshTokenService;
+import com.ada.insurance_app.service.auth.token.TokenRevocationService;
 import com.ada.insurance_app.service.dashboard.Impl.DashboardServiceImpl;
 import com.ada.insurance_app.service.user.IAdminService;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +31,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -35,12 +41,16 @@ public class AdminServiceImpl implements IAdminService {
     private final DashboardServiceImpl dashboardService;
     private final IAgentRepository agentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final SecondLevelCache secondLevelCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
 
     @Override
-    public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(userInfoMapper::fromUserInfo)
-                .collect(Collectors.toList());
+    public CursorPage<UserDto> getAllUsers(String cursor, int size, Role role) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<User> users = userRepository.findPageAfter(role,
+                after.createdAt(), after.uuidId(), KeysetCursor.limit(size));
+        return KeysetCursor.page(users, size, User::getCreatedAt, User::getId, userInfoMapper::fromUserInfo);
     }
 
     @Override
@@ -48,21 +58,19 @@ public class AdminServiceImpl implements IAdminService {
     public UserDto changeUserRole(ChangeRoleRequest request) {
         User user = userRepository.findById(request.getUserId())
                 .orElseThrow(() -> new UserNotFoundException("User not found: " + request.getUserId()));
-        user.setRole(request.getRole());
-        userRepository.save(user);
+        if (user.getRole() != request.getRole()) {
+            user.setRole(request.getRole());
+            userRepository.save(user);
+            // The role is read from the token claims: tokens issued under the old role must not keep working
+            refreshTokenService.revokeAllTokensByUser(user);
+            tokenRevocationService.revokeAllTokensByUser(user.getId());
+        }
         return userInfoMapper.fromUserInfo(user);
     }
 
     @Override
     public DashboardSummaryDto getSummaryReport() {
-        return new DashboardSummaryDto(
-                dashboardService.getTotalPolicyCount(),
-                dashboardService.getTotalUserInSystem(),
-                dashboardService.getTotalClaimCount(),
-                dashboardService.getTotalPaymentCount(),
-                dashboardService.getTotalOfferCount(),
-                dashboardService.getTotalPremiumSum()
-        );
+        return dashboardService.getSummary();
     }
 
 
@@ -137,6 +145,8 @@ public class AdminServiceImpl implements IAdminService {
         agent.setEmail(request.getEmail());
 
         agent = agentRepository.save(agent);
+        secondLevelCache.evictEntityAfterCommit(User.class, user.getId());
+        secondLevelCache.evictEntityAfterCommit(Agent.class, agent.getId());
 
         return AgentMapper.INSTANCE.toDto(agent);
     }
@@ -156,14 +166,19 @@ public class AdminServiceImpl implements IAdminService {
     }
 
     @Override
-    public List<AgentDto> getAllAgents() {
-        return agentRepository.findAll().stream()
-                .map(AgentMapper.INSTANCE::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<AgentDto> getAllAgents(String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Agent> agents = agentRepository.findPageAfter(after.createdAt(), after.uuidId(), KeysetCursor.limit(size));
+        return KeysetCursor.page(agents, size, Agent::getCreatedAt, Agent::getId, AgentMapper.INSTANCE::toDto);
     }
 
     @Override
     public List<AgentStatsDto> getAgentStatistics() {
        return dashboardService.getAgentStatistics();
     }
+
+    @Override
+    public AgentLeaderboardDto getTopAgents(int limit, String region, InsuranceType insuranceType) {
+        return dashboardService.getTopAgents(limit, region, insuranceType);
+    }
 } 
\ No newline at end of file
@@ -28,7 +28,6 @@ import java.util.stream.Collectors;
 import com.ada.insurance_app.core.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
-import com.ada.insurance_app.entity.Coverage;
 import com.ada.insurance_app.entity.Payment;
 import com.ada.insurance_app.mapper.PaymentMapper;
 import com.ada.insurance_app.entity.User;
@@ -73,29 +72,14 @@ public class AgentServiceImpl implements IAgentService {
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('AGENT')")
     public List<CustomerDto> getMyCustomers() {
-        Agent currentAgent = agentHelper.getCurrentAuthenticatedAgent();
+        UUID currentAgentId = agentHelper.getCurrentAuthenticatedAgentId();
         
-        List<Customer> customers = customerRepository.findCustomersByAgentId(currentAgent.getId());
-        log.info("=== getMyCustomers Debug ===");
-        log.info("Total customers found: {}", customers.size());
-        
-        for (Customer customer : customers) {
-            log.info("Customer ID: {}, User: {}", 
-                    customer.getId(), 
-                    customer.getUser() != null ? customer.getUser().getFirstName() + " " + customer.getUser().getLastName() : "NULL");
-        }
-        
-        List<CustomerDto> customerDtos = customers.stream()
+        List<Customer> customers = customerRepository.findCustomersByAgentId(currentAgentId);
+        log.debug("Found {} customers for agent {}", customers.size(), currentAgentId);
+
+        return customers.stream()
                 .map(customerMapper::toDto)
                 .collect(Collectors.toList());
-        
-        for (CustomerDto dto : customerDtos) {
-            log.info("Customer DTO ID: {}, Name: {}", 
-                    dto.getId(), dto.getFirstName() + " " + dto.getLastName());
-        }
-        
-        log.info("=== End getMyCustomers Debug ===");
-        return customerDtos;
     }
 
     @Override
@@ -135,50 +119,9 @@ public class AgentServiceImpl implements IAgentService {
             List<OfferDto> offerDtos = new ArrayList<>();
             for (Offer offer : offers) {
                 try {
-                    // Detailed offer information logging
-                    log.info("=== Offer Details for ID: {} ===", offer.getId());
-                    log.info("Offer Number: {}", offer.getOfferNumber());
-                    log.info("Status: {}", offer.getStatus());
-                    log.info("Total Premium: {}", offer.getTotalPremium());
-                    log.info("Insurance Type: {}", offer.getInsuranceType());
-                    log.info("Note: {}", offer.getNote());
-                    log.info("Created At: {}", offer.getCreatedAt());
-                    log.info("Updated At: {}", offer.getUpdatedAt());
-                    
-                    // Customer information
-                    if (offer.getCustomer() != null) {
-                        log.info("Customer ID: {}", offer.getCustomer().getId());
-                        log.info("Customer Name: {} {}", 
-                                offer.getCustomer().getUser() != null ? offer.getCustomer().getUser().getFirstName() : "null",
-                                offer.getCustomer().getUser() != null ? offer.getCustomer().getUser().getLastName() : "null");
-                    } else {
-                        log.warn("Customer is NULL for offer {}", offer.getId());
-                    }
-                    
-                    // Agent information
-                    if (offer.getAgent() != null) {
-                        log.info("Agent ID: {}", offer.getAgent().getId());
-                        log.info("Agent Name: {}", offer.getAgent().getName());
-                    } else {
-                        log.info("Agent is NULL for offer {} (this is normal for PENDING offers)", offer.getId());
-                    }
-                    
-                    // Coverages information
-                    if (offer.getCoverages() != null) {
-                        log.info("Coverages count: {}", offer.getCoverages().size());
-                        for (Coverage coverage : offer.getCoverages()) {
-                            log.info("  - Coverage: {} (ID: {})", coverage.getName(), coverage.getId());
-                        }
-                    } else {
-                        log.warn("Coverages is NULL for offer {}", offer.getId());
-                    }
-                    
-                    log.info("=== End Offer Details ===");
-                    
                     OfferDto dto = offerMapper.toDto(offer);
                     if (dto != null) {
                         offerDtos.add(dto);
-                        log.info("Successfully mapped offer {} to DTO", offer.getId());
                     } else {
                         log.error("Offer {} mapped to NULL DTO - this indicates a serious mapping issue", offer.getId());
                     }
@@ -297,16 +240,16 @@ public class AgentServiceImpl implements IAgentService {
 
     @Override
     public AgentStatsDto getMyStatistics() {
-        Agent currentAgent = agentHelper.getCurrentAuthenticatedAgent();
-        return dashboardService.getAgentStatisticsById(currentAgent.getId());
+        UUID currentAgentId = agentHelper.getCurrentAuthenticatedAgentId();
+        return dashboardService.getAgentStatisticsById(currentAgentId);
     }
 
     @Override
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('AGENT')")
     public Long getMyActivePoliciesCount() {
-        Agent currentAgent = agentHelper.getCurrentAuthenticatedAgent();
-        return policyRepository.findByAgentId(currentAgent.getId()).stream()
+        UUID currentAgentId = agentHelper.getCurrentAuthenticatedAgentId();
+        return policyRepository.findByAgentId(currentAgentId).stream()
                 .filter(policy -> "ACTIVE".equals(policy.getStatus().name()) || "PENDING_PAYMENT".equals(policy.getStatus().name()))
                 .count();
     }
@@ -315,8 +258,8 @@ public class AgentServiceImpl implements IAgentService {
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('AGENT')")
     public Long getMyPendingClaimsCount() {
-        Agent currentAgent = agentHelper.getCurrentAuthenticatedAgent();
-        return claimRepository.countByAgent_Id(currentAgent.getId());
+        UUID currentAgentId = agentHelper.getCurrentAuthenticatedAgentId();
+        return claimRepository.countByAgent_Id(currentAgentId);
     }
 
 
@@ -327,17 +270,17 @@ public class AgentServiceImpl implements IAgentService {
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('AGENT')")
     public Long getMyCustomersCount() {
-        Agent currentAgent = agentHelper.getCurrentAuthenticatedAgent();
-        return customerRepository.countCustomersByAgentId(currentAgent.getId());
+        UUID currentAgentId = agentHelper.getCurrentAuthenticatedAgentId();
+        return customerRepository.countCustomersByAgentId(currentAgentId);
     }
 
     @Override
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('AGENT')")
     public List<PolicyDto> getMyActivePolicies() {
-        Agent currentAgent = agentHelper.getCurrentAuthenticatedAgent();
+        UUID currentAgentId = agentHelper.getCurrentAuthenticatedAgentId();
         
-        return policyRepository.findByAgentId(currentAgent.getId()).stream()
+        return policyRepository.findByAgentId(currentAgentId).stream()
                 .filter(policy -> "ACTIVE".equals(policy.getStatus().name()) || "PENDING_PAYMENT".equals(policy.getStatus().name()))
                 .map(policyMapper::toDto)
                 .collect(Collectors.toList());
@@ -347,8 +290,8 @@ public class AgentServiceImpl implements IAgentService {
     @Transactional(readOnly = true)
     @PreAuthorize("hasRole('AGENT')")
     public List<PolicyDto> getMyExpiredPolicies() {
-        Agent currentAgent = agentHelper.getCurrentAuthenticatedAgent();
-        return policyRepository.findByAgentId(currentAgent.getId()).stream()
+        UUID currentAgentId = agentHelper.getCurrentAuthenticatedAgentId();
+        return policyRepository.findByAgentId(currentAgentId).stream()
                 .filter(policy -> "EXPIRED".equals(policy.getStatus().name()))
                 .map(policyMapper::toDto)
                 .collect(Collectors.toList());
@@ -421,10 +364,10 @@ public class AgentServiceImpl implements IAgentService {
         log.info("Getting payments for agent: {}", agentId);
         
         // Get current authenticated agent to verify access
-        Agent currentAgent = agentHelper.getCurrentAuthenticatedAgent();
+        UUID currentAgentId = agentHelper.getCurrentAuthenticatedAgentId();
         
         // Verify that the requested agentId matches the current authenticated agent
-        if (!currentAgent.getId().equals(agentId)) {
+        if (!currentAgentId.equals(agentId)) {
             throw new RuntimeException("Access denied: Can only view own payments");
         }
         
@@ -34,6 +34,6 @@ public class CustomUserDetails implements SecurityUtils.CustomUserDetailsInterfa
     @Override public boolean isAccountNonExpired() { return true; }
     @Override public boolean isAccountNonLocked() { return true; }
     @Override public boolean isCredentialsNonExpired() { return true; }
-    @Override public boolean isEnabled() { return true; }
+    @Override public boolean isEnabled() { return user.isActive(); }
 
 }
\ No newline at end of file
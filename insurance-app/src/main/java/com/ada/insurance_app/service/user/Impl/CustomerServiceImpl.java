@@ -1,13 +1,14 @@
 package com.ada.insurance_app.service.user.Impl;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.enums.*;
 import com.ada.insurance_app.core.exception.*;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
 import com.ada.insurance_app.core.security.SecurityUtils;
 import com.ada.insurance_app.dto.*;
 import com.ada.insurance_app.entity.*;
 import com.ada.insurance_app.mapper.*;
 import com.ada.insurance_app.repository.*;
-import com.ada.insurance_app.repository.auth.User.IUserRepository;
 import com.ada.insurance_app.request.claim.CreateClaimRequest;
 
 import com.ada.insurance_app.request.customer.BaseCustomerRequest;
@@ -15,6 +16,9 @@ import com.ada.insurance_app.request.customer.UpdateCorporateCustomerRequest;
 import com.ada.insurance_app.request.customer.UpdateIndividualCustomerRequest;
 import com.ada.insurance_app.request.offer.CreateOfferRequest;
 import com.ada.insurance_app.request.payment.CreatePaymentRequest;
+import com.ada.insurance_app.service.coverage.pricing.CoveragePriceCatalog;
+import com.ada.insurance_app.service.coverage.pricing.CoveragePriceSnapshot;
+import com.ada.insurance_app.service.document.PolicyDocumentService;
 import com.ada.insurance_app.service.user.ICustomerService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +35,7 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import com.ada.insurance_app.repository.IAgentRepository;
+import com.ada.insurance_app.service.user.summary.CustomerSummaryCache;
 import com.ada.insurance_app.service.document.IDocumentService;
 import com.ada.insurance_app.service.vehicle.IVehicleService;
 import com.ada.insurance_app.service.HealthInsuranceDetail.IHealthInsuranceDetailService;
@@ -50,7 +55,10 @@ public class CustomerServiceImpl implements ICustomerService {
     private final IHomeInsuranceDetailRepository homeInsuranceDetailRepository;
     private final IPaymentRepository paymentRepository;
     private final ICoverageRepository coverageRepository;
+    private final CoveragePriceCatalog priceCatalog;
     private final IAgentRepository agentRepository;
+    private final ICustomerSummaryRepository customerSummaryRepository;
+    private final CustomerSummaryCache customerSummaryCache;
     private final PolicyMapper policyMapper;
     private final DocumentMapper documentMapper;
     private final  AgentMapper agentMapper;
@@ -58,8 +66,8 @@ public class CustomerServiceImpl implements ICustomerService {
     private final CustomerMapper customerMapper;
     private final OfferMapper offerMapper;
     private final PaymentMapper paymentMapper;
-    private final IUserRepository userRepository;
     private final IDocumentService documentService;
+    private final PolicyDocumentService policyDocumentService;
     private final IVehicleService vehicleService;
     private final IHealthInsuranceDetailService healthInsuranceDetailService;
     private final IHomeInsuranceDetailService homeInsuranceDetailService;
@@ -150,17 +158,18 @@ public class CustomerServiceImpl implements ICustomerService {
 
         if (request.getCoverageIds() != null && !request.getCoverageIds().isEmpty()) {
             log.info("Received coverage IDs: {}", request.getCoverageIds());
-            Set<Coverage> coverages = new HashSet<>(coverageRepository.findAllById(request.getCoverageIds()));
+            Set<Coverage> coverages = new HashSet<>(coverageRepository.findAllByIdCached(request.getCoverageIds()));
             log.info("Found {} coverages in database", coverages.size());
             offer.setCoverages(coverages);
             log.info("Setting {} coverages for offer: {}", coverages.size(), coverages.stream().map(Coverage::getName).collect(Collectors.joining(", ")));
 
             // Calculate premium based on selected coverages
-            BigDecimal calculatedPremium = coverages.stream()
-                    .map(Coverage::getBasePrice)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-            offer.setTotalPremium(calculatedPremium);
-            log.info("Calculated total premium: {} for offer with {} coverages", calculatedPremium, coverages.size());
+            CoveragePriceSnapshot.Quote quote = priceCatalog.quote(
+                    coverages.stream().map(Coverage::getId).toList());
+            offer.setTotalPremium(quote.totalPremium());
+            offer.setPriceCatalogVersion(quote.version());
+            log.info("Calculated total premium: {} for offer with {} coverages (catalog version {})",
+                    quote.totalPremium(), coverages.size(), quote.version());
         } else {
             log.info("No coverage IDs received in request");
             offer.setCoverages(new HashSet<>());
@@ -291,6 +300,7 @@ public class CustomerServiceImpl implements ICustomerService {
         offer.setPolicy(savedPolicy);
         offerRepository.save(offer);
 
+        policyDocumentService.renderAfterCommit(savedPolicy.getId(), PolicyDocumentKind.QUOTE);
         return policyMapper.toDto(savedPolicy);
     }
 
@@ -375,6 +385,8 @@ public class CustomerServiceImpl implements ICustomerService {
                 offer.setStatus(OfferStatus.PAID);
                 offerRepository.save(offer);
             }
+
+            policyDocumentService.renderAfterCommit(policy.getId(), PolicyDocumentKind.SCHEDULE);
         }
 
         paymentRepository.save(payment);
@@ -608,13 +620,22 @@ public class CustomerServiceImpl implements ICustomerService {
 
     @Override
     public CustomerDashboardDto getCustomerDashboard(UUID customerId) {
-        CustomerDashboardDto dto = new CustomerDashboardDto();
-
-        dto.setTotalPolicies(policyRepository.countByCustomer_Id(customerId));
-        dto.setTotalClaims(claimRepository.countByPolicy_Customer_Id(customerId));
-        dto.setTotalPayments(paymentRepository.countByPolicy_Customer_Id(customerId));
-        dto.setTotalPremium(policyRepository.sumPremiumByCustomerId(customerId));
+        return customerSummaryCache.get(customerId, this::loadCustomerDashboard);
+    }
 
+    // One primary key read on the read model; customers without activity have no row yet
+    private CustomerDashboardDto loadCustomerDashboard(UUID customerId) {
+        CustomerDashboardDto dto = new CustomerDashboardDto();
+        dto.setTotalPremium(BigDecimal.ZERO);
+
+        customerSummaryRepository.findById(customerId).ifPresent(summary -> {
+            dto.setTotalPolicies((int) summary.getTotalPolicies());
+            dto.setTotalClaims((int) summary.getTotalClaims());
+            dto.setOpenClaims((int) summary.getOpenClaims());
+            dto.setTotalPayments((int) summary.getTotalPayments());
+            dto.setTotalPremium(summary.getTotalPremium());
+            dto.setPendingOffers((int) summary.getPendingOffers());
+        });
         return dto;
     }
 
@@ -661,29 +682,15 @@ public class CustomerServiceImpl implements ICustomerService {
     public CustomerDto getCurrentCustomer() {
         try {
             log.info("getCurrentCustomer: Starting to get current customer");
-            UUID currentUserId = null;
-            
-            try {
-                currentUserId = SecurityUtils.getCurrentUserId();
-    
-            } catch (IllegalStateException e) {
-                log.warn("getCurrentCustomer: Could not get user ID from SecurityUtils: {}", e.getMessage());
-                
-                // Try to get user ID from username
-                String username = SecurityUtils.getCurrentUsername();
-
-                
-                // Find user by username/email
-                User user = userRepository.findByEmail(username)
-                        .or(() -> userRepository.findByUsername(username))
-                        .orElseThrow(() -> new IllegalStateException("User not found for username: " + username));
-                
-                currentUserId = user.getId();
 
-            }
-            
-            Customer customer = customerRepository.findByUserId(currentUserId)
-                    .orElseThrow(() -> new CustomerNotFoundException("Customer not found for current user: " + SecurityUtils.getCurrentUserId()));
+            // Caller identity comes from the access token claims, no user lookup needed
+            UUID currentCustomerId = SecurityUtils.getCurrentCustomerId();
+            UUID currentUserId = SecurityUtils.getCurrentUserId();
+
+            Customer customer = (currentCustomerId != null
+                    ? customerRepository.findById(currentCustomerId)
+                    : customerRepository.findByUserId(currentUserId))
+                    .orElseThrow(() -> new CustomerNotFoundException("Customer not found for current user: " + currentUserId));
             
             log.info("getCurrentCustomer: Customer found: {}", customer.getId());
             CustomerDto customerDto = customerMapper.toDto(customer);
@@ -697,15 +704,12 @@ public class CustomerServiceImpl implements ICustomerService {
     }
 
     @Override
-    public List<AgentDto> getAllAgents() {
-
-        List<Agent> agents = agentRepository.findAll();
-        if (agents.isEmpty()) {
+    public CursorPage<AgentDto> getAllAgents(String cursor, int size) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Agent> agents = agentRepository.findPageAfter(after.createdAt(), after.uuidId(), KeysetCursor.limit(size));
+        if (agents.isEmpty() && after.isFirstPage()) {
             throw new ResourceNotFoundException("No agents found");
         }
-        return agents.stream()
-                .map(agentMapper::toDto)
-                .collect(Collectors.toList());
-
+        return KeysetCursor.page(agents, size, Agent::getCreatedAt, Agent::getId, agentMapper::toDto);
     }
 }
@@ -1,24 +1,43 @@
 package com.ada.insurance_app.service.user.Impl;
 
 import com.ada.insurance_app.repository.auth.User.IUserRepository;
+import com.ada.insurance_app.entity.User;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final IUserRepository userRepository;
 
     @Override
     public UserDetails loadUserByUsername(String identifier) throws UsernameNotFoundException {
-        return userRepository.findByEmail(identifier)
-                .or(() -> userRepository.findByUsername(identifier))
+        // Login sends an email, JWT subjects carry the username: query the likely column first
+        var user = identifier.contains("@")
+                ? userRepository.findByEmail(identifier).or(() -> userRepository.findByUsername(identifier))
+                : userRepository.findByUsername(identifier).or(() -> userRepository.findByEmail(identifier));
+
+        return user
                 .map(CustomUserDetails::new)
                 .orElseThrow(() -> new UsernameNotFoundException("Kullanıcı bulunamadı: " + identifier));
     }
 
+    /**
+     * Called by the authentication provider after a successful login when the stored hash
+     * uses a lower BCrypt cost than the current encoder: persists the rehashed password.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = ((CustomUserDetails) userDetails).getUser();
+        user.setPassword(newPassword);
+        return new CustomUserDetails(userRepository.save(user));
+    }
+
 }
@@ -1,5 +1,8 @@
 package com.ada.insurance_app.service.user.Impl;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
+import com.ada.insurance_app.core.enums.Role;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
 import com.ada.insurance_app.dto.UserDto;
 import com.ada.insurance_app.entity.User;
 import com.ada.insurance_app.mapper.UserInfoMapper;
@@ -11,7 +14,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,10 +36,11 @@ public class UserServiceImpl implements IUserService {
     }
 
     @Override
-    public List<UserDto> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(userInfoMapper::fromUserInfo)
-                .collect(Collectors.toList());
+    public CursorPage<UserDto> getAllUsers(String cursor, int size, Role role) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<User> users = userRepository.findPageAfter(role,
+                after.createdAt(), after.uuidId(), KeysetCursor.limit(size));
+        return KeysetCursor.page(users, size, User::getCreatedAt, User::getId, userInfoMapper::fromUserInfo);
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.ada.insurance_app.service.user.helper;
 
+import com.ada.insurance_app.core.security.SecurityUtils;
 import com.ada.insurance_app.entity.Agent;
 import com.ada.insurance_app.repository.IAgentRepository;
 import lombok.RequiredArgsConstructor;
@@ -23,11 +24,26 @@ public class AgentServiceHelper {
      * @throws RuntimeException if agent not found
      */
     public Agent getCurrentAuthenticatedAgent() {
+        UUID agentId = SecurityUtils.getCurrentAgentId();
+        if (agentId != null) {
+            return getAgentById(agentId);
+        }
+
         String currentUsername = SecurityContextHolder.getContext().getAuthentication().getName();
         
         return agentRepository.findByUsernameOrEmail(currentUsername)
                 .orElseThrow(() -> new RuntimeException("Current agent not found with username/email: " + currentUsername));
     }
+
+    /**
+     * Get current authenticated agent id from the access token claims, without a database lookup
+     * @return Current agent ID
+     * @throws RuntimeException if agent not found
+     */
+    public UUID getCurrentAuthenticatedAgentId() {
+        UUID agentId = SecurityUtils.getCurrentAgentId();
+        return agentId != null ? agentId : getCurrentAuthenticatedAgent().getId();
+    }
     
     /**
      * Get agent by ID with existence validation
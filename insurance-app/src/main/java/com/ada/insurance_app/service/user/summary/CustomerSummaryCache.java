@@ -0,0 +1,94 @@
+package com.ada.insurance_app.service.user.summary;
+
+import com.ada.insurance_app.dto.CustomerDashboardDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of customer dashboards in front of customer_summaries.
+ * Entries are evicted when a change to the customer commits and expire after the configured TTL.
+ * A load first puts a placeholder for the customer and only replaces that same placeholder with the
+ * result, so a value loaded while the customer was evicted is returned but not cached: a read that
+ * raced with a commit can never pin a stale dashboard, and evicting one customer leaves other
+ * customers' loads alone.
+ */
+@Component
+public class CustomerSummaryCache {
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.customer.summary.cache.maxEntries:50000}")
+    private int maxEntries;
+
+    @Value("${app.customer.summary.cache.ttlMs:300000}") // Default 5 minutes
+    private long ttlMs;
+
+    public CustomerDashboardDto get(UUID customerId, Function<UUID, CustomerDashboardDto> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(customerId);
+        if (entry != null && entry.dashboard != null && now < entry.expiresAt) {
+            return copy(entry.dashboard);
+        }
+
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(e -> now >= e.expiresAt);
+        }
+        if (entries.size() >= maxEntries) {
+            return loader.apply(customerId);
+        }
+        Entry loading = new Entry(null, now + ttlMs);
+        entries.put(customerId, loading);
+
+        CustomerDashboardDto dashboard;
+        try {
+            dashboard = loader.apply(customerId);
+        } catch (RuntimeException e) {
+            entries.remove(customerId, loading);
+            throw e;
+        }
+        // Fails when the customer was evicted or another load took over since the placeholder went in
+        entries.replace(customerId, loading, new Entry(copy(dashboard), now + ttlMs));
+        return dashboard;
+    }
+
+    public void invalidate(UUID customerId) {
+        entries.remove(customerId);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // DTOs are mutable, callers get their own copy
+    private static CustomerDashboardDto copy(CustomerDashboardDto source) {
+        CustomerDashboardDto dto = new CustomerDashboardDto();
+        dto.setTotalPolicies(source.getTotalPolicies());
+        dto.setTotalClaims(source.getTotalClaims());
+        dto.setOpenClaims(source.getOpenClaims());
+        dto.setTotalPayments(source.getTotalPayments());
+        dto.setTotalPremium(source.getTotalPremium());
+        dto.setPendingOffers(source.getPendingOffers());
+        return dto;
+    }
+
+    // Compared by identity, so a load only replaces its own placeholder; a null dashboard marks a load in flight
+    private static final class Entry {
+
+        private final CustomerDashboardDto dashboard;
+        private final long expiresAt;
+
+        private Entry(CustomerDashboardDto dashboard, long expiresAt) {
+            this.dashboard = dashboard;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
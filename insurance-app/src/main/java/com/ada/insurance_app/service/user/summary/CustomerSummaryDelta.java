@@ -0,0 +1,23 @@
+package com.ada.insurance_app.service.user.summary;
+
+import com.ada.insurance_app.core.persistence.RecountableDelta;
+
+import java.math.BigDecimal;
+
+/**
+ * Changes to one customer's summary accumulated during a transaction.
+ */
+class CustomerSummaryDelta extends RecountableDelta {
+
+    long policies;
+    long claims;
+    long openClaims;
+    long payments;
+    BigDecimal premium = BigDecimal.ZERO;
+    long pendingOffers;
+
+    boolean isEmpty() {
+        return !isRecount() && policies == 0 && claims == 0 && openClaims == 0 && payments == 0
+                && premium.signum() == 0 && pendingOffers == 0;
+    }
+}
@@ -0,0 +1,137 @@
+package com.ada.insurance_app.service.user.summary;
+
+import com.ada.insurance_app.core.enums.ClaimStatus;
+import com.ada.insurance_app.core.enums.OfferStatus;
+import com.ada.insurance_app.core.enums.PaymentStatus;
+import com.ada.insurance_app.core.persistence.AbstractDeltaEventListener;
+import com.ada.insurance_app.entity.Claim;
+import com.ada.insurance_app.entity.Customer;
+import com.ada.insurance_app.entity.CustomerSummary;
+import com.ada.insurance_app.entity.Offer;
+import com.ada.insurance_app.entity.Payment;
+import com.ada.insurance_app.entity.Policy;
+import com.ada.insurance_app.repository.ICustomerSummaryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps customer_summaries current whichever service changes an offer, policy, payment or claim,
+ * and evicts the cached dashboards of the customers touched once the change has committed.
+ * Payments and claims are counted under their policy's customer and premium, which their own rows do not
+ * record; when a policy changes customer or premium, both customers are recounted before commit instead.
+ */
+@Component
+public class CustomerSummaryEventListener extends AbstractDeltaEventListener<UUID, CustomerSummaryDelta> {
+
+    // Must match ICustomerSummaryRepository.OPEN_CLAIM_STATUSES
+    static final Set<ClaimStatus> OPEN_CLAIM_STATUSES =
+            EnumSet.of(ClaimStatus.SUBMITTED, ClaimStatus.IN_REVIEW, ClaimStatus.ADDITIONAL_INFO_REQUIRED);
+
+    private final CustomerSummaryCache customerSummaryCache;
+
+    public CustomerSummaryEventListener(EntityManagerFactory entityManagerFactory,
+                                        CustomerSummaryCache customerSummaryCache) {
+        super(entityManagerFactory);
+        this.customerSummaryCache = customerSummaryCache;
+    }
+
+    @Override
+    protected boolean isTracked(Object entity) {
+        return entity instanceof Offer || entity instanceof Policy || entity instanceof Payment || entity instanceof Claim;
+    }
+
+    @Override
+    protected void contribute(Object entity, Object[] state, EntityPersister persister, int sign,
+                              Map<UUID, CustomerSummaryDelta> deltas) {
+        if (entity instanceof Offer) {
+            UUID customerId = customerId((Customer) value(state, persister, "customer"));
+            if (customerId != null && value(state, persister, "status") == OfferStatus.PENDING) {
+                deltas.computeIfAbsent(customerId, id -> new CustomerSummaryDelta()).pendingOffers += sign;
+            }
+        } else if (entity instanceof Policy) {
+            UUID customerId = customerId((Customer) value(state, persister, "customer"));
+            if (customerId != null) {
+                deltas.computeIfAbsent(customerId, id -> new CustomerSummaryDelta()).policies += sign;
+            }
+        } else if (entity instanceof Payment) {
+            Policy policy = (Policy) value(state, persister, "policy");
+            UUID customerId = policy != null ? customerId(policy.getCustomer()) : null;
+            if (customerId != null) {
+                CustomerSummaryDelta delta = deltas.computeIfAbsent(customerId, id -> new CustomerSummaryDelta());
+                delta.payments += sign;
+                if (value(state, persister, "status") == PaymentStatus.SUCCESS && policy.getPremium() != null) {
+                    delta.premium = delta.premium.add(sign < 0 ? policy.getPremium().negate() : policy.getPremium());
+                }
+            }
+        } else if (entity instanceof Claim) {
+            Policy policy = (Policy) value(state, persister, "policy");
+            UUID customerId = policy != null ? customerId(policy.getCustomer()) : null;
+            if (customerId != null) {
+                CustomerSummaryDelta delta = deltas.computeIfAbsent(customerId, id -> new CustomerSummaryDelta());
+                delta.claims += sign;
+                if (OPEN_CLAIM_STATUSES.contains(value(state, persister, "status"))) {
+                    delta.openClaims += sign;
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void contributeUpdate(Object entity, Object[] oldState, Object[] state, EntityPersister persister,
+                                    Map<UUID, CustomerSummaryDelta> deltas) {
+        super.contributeUpdate(entity, oldState, state, persister, deltas);
+        if (entity instanceof Policy) {
+            UUID oldCustomerId = customerId((Customer) value(oldState, persister, "customer"));
+            UUID newCustomerId = customerId((Customer) value(state, persister, "customer"));
+            if (!Objects.equals(oldCustomerId, newCustomerId)
+                    || !sameAmount(value(oldState, persister, "premium"), value(state, persister, "premium"))) {
+                recount(oldCustomerId, deltas, CustomerSummaryDelta::new);
+                recount(newCustomerId, deltas, CustomerSummaryDelta::new);
+            }
+        }
+    }
+
+    @Override
+    protected boolean isEmpty(CustomerSummaryDelta delta) {
+        return delta.isEmpty();
+    }
+
+    @Override
+    protected void apply(SessionImplementor session, UUID customerId, CustomerSummaryDelta delta) {
+        if (delta.isRecount()) {
+            session.createNativeQuery(ICustomerSummaryRepository.RECOUNT_CUSTOMER_SQL)
+                    .addSynchronizedEntityClass(CustomerSummary.class)
+                    .setParameter("customerId", customerId)
+                    .executeUpdate();
+            return;
+        }
+        session.createNativeQuery(ICustomerSummaryRepository.APPLY_DELTA_SQL)
+                .addSynchronizedEntityClass(CustomerSummary.class)
+                .setParameter("customerId", customerId)
+                .setParameter("policies", delta.policies)
+                .setParameter("claims", delta.claims)
+                .setParameter("openClaims", delta.openClaims)
+                .setParameter("payments", delta.payments)
+                .setParameter("premium", delta.premium)
+                .setParameter("pendingOffers", delta.pendingOffers)
+                .executeUpdate();
+    }
+
+    @Override
+    protected void afterCommit(Set<UUID> customerIds) {
+        customerIds.forEach(customerSummaryCache::invalidate);
+    }
+
+
+    private static UUID customerId(Customer customer) {
+        return customer != null ? customer.getId() : null;
+    }
+}
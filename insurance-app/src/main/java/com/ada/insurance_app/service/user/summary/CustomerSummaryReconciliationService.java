@@ -0,0 +1,47 @@
+package com.ada.insurance_app.service.user.summary;
+
+import com.ada.insurance_app.repository.ICustomerSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Safety net under the customer dashboard: rewrites the customer_summaries rows whose policy, claim, payment
+ * and offer counts no longer match the source tables (changes made outside Hibernate, which
+ * CustomerSummaryEventListener never sees), adds rows for customers that have none and drops those of deleted
+ * customers. The repository does not say which customers changed, so any correction clears the whole
+ * CustomerSummaryCache once it commits. Runs at startup and then every reconcileIntervalMs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CustomerSummaryReconciliationService {
+
+    private final ICustomerSummaryRepository customerSummaryRepository;
+    private final CustomerSummaryCache customerSummaryCache;
+
+    @Scheduled(initialDelayString = "${app.customer.summary.reconcileInitialDelayMs:0}",
+            fixedDelayString = "${app.customer.summary.reconcileIntervalMs:3600000}")
+    @Transactional
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        int corrected = customerSummaryRepository.reconcileAll();
+        int removed = customerSummaryRepository.deleteOrphans();
+
+        if (corrected > 0 || removed > 0) {
+            // Corrected customers are not known individually, drop every cached dashboard after commit
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    customerSummaryCache.clear();
+                }
+            });
+            log.info("Customer summaries reconciled in {} ms: {} rows corrected, {} removed",
+                    System.currentTimeMillis() - start, corrected, removed);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ada.insurance_app.service.vehicle;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.dto.VehicleDto;
+import com.ada.insurance_app.dto.VehicleSearchHitDto;
 import com.ada.insurance_app.request.vehicle.AddVehicleRequest;
 import com.ada.insurance_app.request.vehicle.UpdateVehicleRequest;
 import java.util.List;
@@ -15,7 +17,9 @@ public interface IVehicleService {
     VehicleDto getVehicleByEngineNumber(String engineNumber);
     List<VehicleDto> searchVehiclesByMake(String make);
     List<VehicleDto> searchVehiclesByModel(String model);
-    List<VehicleDto> getAllVehicles();
+    // Typo-tolerant search over plate, VIN, make and model, closest first
+    List<VehicleSearchHitDto> searchVehicles(String query, int limit);
+    CursorPage<VehicleDto> getAllVehicles(String cursor, int size, UUID customerId);
     boolean existsByPlateNumber(String plateNumber);
     boolean existsByVin(String vin);
     long countByCustomerId(UUID customerId);
@@ -1,29 +1,42 @@
 package com.ada.insurance_app.service.vehicle.Impl;
 
+import com.ada.insurance_app.core.common.dto.CursorPage;
 import com.ada.insurance_app.core.exception.CustomerNotFoundException;
 import com.ada.insurance_app.core.exception.DuplicateEntityException;
 import com.ada.insurance_app.core.exception.VehicleNotFoundException;
+import com.ada.insurance_app.core.persistence.KeysetCursor;
 import com.ada.insurance_app.dto.VehicleDto;
+import com.ada.insurance_app.dto.VehicleSearchHitDto;
 import com.ada.insurance_app.entity.Customer;
 import com.ada.insurance_app.entity.Offer;
 import com.ada.insurance_app.entity.Vehicle;
 import com.ada.insurance_app.mapper.VehicleMapper;
 import com.ada.insurance_app.repository.ICustomerRepository;
 import com.ada.insurance_app.repository.IVehicleRepository;
+import com.ada.insurance_app.repository.projection.VehicleSearchView;
 import com.ada.insurance_app.request.vehicle.AddVehicleRequest;
 import com.ada.insurance_app.request.vehicle.UpdateVehicleRequest;
+import com.ada.insurance_app.service.search.SearchText;
 import com.ada.insurance_app.service.vehicle.IVehicleService;
+import com.ada.insurance_app.service.vehicle.VehicleKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,6 +47,25 @@ public class VehicleServiceImpl implements IVehicleService {
     private final IVehicleRepository vehicleRepository;
     private final ICustomerRepository customerRepository;
     private final VehicleMapper vehicleMapper;
+    private final MeterRegistry meterRegistry;
+
+    private static final int MIN_SEARCH_LENGTH = 2;
+    private static final int MAX_SEARCH_RESULTS = 50;
+    // Never part of a normalized key, so the plate and VIN branches match nothing
+    private static final String NO_KEY = "-";
+
+    @Value("${app.vehicles.search.latencyTargetMs:50}")
+    private long searchLatencyTargetMs;
+
+    private Timer searchTimer;
+
+    @PostConstruct
+    void init() {
+        searchTimer = Timer.builder("vehicles.search.duration")
+                .description("Time spent in the fuzzy vehicle search query")
+                .serviceLevelObjectives(Duration.ofMillis(searchLatencyTargetMs))
+                .register(meterRegistry);
+    }
 
     @Override
     @Transactional
@@ -46,8 +78,9 @@ public class VehicleServiceImpl implements IVehicleService {
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found with id: " + vehicleId));
         
         // Check for duplicate plate number (excluding current vehicle)
-        if (!existingVehicle.getPlateNumber().equals(vehicleDto.getPlateNumber()) && 
-            vehicleRepository.existsByPlateNumber(vehicleDto.getPlateNumber())) {
+        String plateKey = VehicleKeys.normalize(vehicleDto.getPlateNumber());
+        if (!VehicleKeys.normalize(existingVehicle.getPlateNumber()).equals(plateKey) &&
+            vehicleRepository.existsByPlateKey(plateKey)) {
             throw new DuplicateEntityException("Vehicle with plate number " + vehicleDto.getPlateNumber() + " already exists");
         }
         
@@ -68,7 +101,7 @@ public class VehicleServiceImpl implements IVehicleService {
         existingVehicle.setGearType(vehicleDto.getGearType());
         existingVehicle.setColor(vehicleDto.getColor());
         
-        Vehicle updatedVehicle = vehicleRepository.save(existingVehicle);
+        Vehicle updatedVehicle = saveUnique(existingVehicle);
         log.info("Vehicle updated successfully: {} with id: {}", updatedVehicle.getPlateNumber(), vehicleId);
         
         return vehicleMapper.toDto(updatedVehicle);
@@ -102,7 +135,8 @@ public class VehicleServiceImpl implements IVehicleService {
             throw new IllegalArgumentException("Plate number cannot be empty");
         }
         
-        Vehicle vehicle = vehicleRepository.findByPlateNumber(plateNumber)
+        Vehicle vehicle = vehicleRepository.findByPlateKey(VehicleKeys.normalize(plateNumber))
+                .or(() -> vehicleRepository.findByPlateNumberAndPlateKeyIsNull(plateNumber))
                 .orElseThrow(() -> new VehicleNotFoundException("Vehicle not found with plate number: " + plateNumber));
         
         return vehicleMapper.toDto(vehicle);
@@ -151,7 +185,7 @@ public class VehicleServiceImpl implements IVehicleService {
             throw new IllegalArgumentException("Make cannot be empty");
         }
         
-        List<Vehicle> vehicles = vehicleRepository.findByMakeContainingIgnoreCase(make);
+        List<Vehicle> vehicles = vehicleRepository.findByMakeMatching(SearchText.containsPattern(make.trim()));
         return vehicles.stream()
                 .map(vehicleMapper::toDto)
                 .collect(Collectors.toList());
@@ -163,18 +197,18 @@ public class VehicleServiceImpl implements IVehicleService {
             throw new IllegalArgumentException("Model cannot be empty");
         }
         
-        List<Vehicle> vehicles = vehicleRepository.findByModelContainingIgnoreCase(model);
+        List<Vehicle> vehicles = vehicleRepository.findByModelMatching(SearchText.containsPattern(model.trim()));
         return vehicles.stream()
                 .map(vehicleMapper::toDto)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public List<VehicleDto> getAllVehicles() {
-        List<Vehicle> vehicles = vehicleRepository.findAll();
-        return vehicles.stream()
-                .map(vehicleMapper::toDto)
-                .collect(Collectors.toList());
+    public CursorPage<VehicleDto> getAllVehicles(String cursor, int size, UUID customerId) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        List<Vehicle> vehicles = vehicleRepository.findPageAfter(customerId,
+                after.createdAt(), after.uuidId(), KeysetCursor.limit(size));
+        return KeysetCursor.page(vehicles, size, Vehicle::getCreatedAt, Vehicle::getId, vehicleMapper::toDto);
     }
 
     @Override
@@ -182,7 +216,51 @@ public class VehicleServiceImpl implements IVehicleService {
         if (!StringUtils.hasText(plateNumber)) {
             return false;
         }
-        return vehicleRepository.existsByPlateNumber(plateNumber);
+        return vehicleRepository.existsByPlateKey(VehicleKeys.normalize(plateNumber)) ||
+               vehicleRepository.existsByPlateNumberAndPlateKeyIsNull(plateNumber);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VehicleSearchHitDto> searchVehicles(String query, int limit) {
+        String text = query == null ? "" : query.trim();
+        if (text.length() < MIN_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("Search text must be at least " + MIN_SEARCH_LENGTH + " characters");
+        }
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+
+        String key = VehicleKeys.normalize(text);
+        if (key.isEmpty()) {
+            key = NO_KEY;
+        }
+        long start = System.nanoTime();
+        List<VehicleSearchView> rows = vehicleRepository.searchFuzzy(text, key, key + "%", "%" + key + "%", limit);
+        long elapsed = System.nanoTime() - start;
+        searchTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        if (TimeUnit.NANOSECONDS.toMillis(elapsed) > searchLatencyTargetMs) {
+            log.warn("Vehicle search took {} ms for {} results, target is {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), rows.size(), searchLatencyTargetMs);
+        }
+
+        return rows.stream()
+                .map(row -> new VehicleSearchHitDto(row.getId(), row.getPlateNumber(), row.getVin(), row.getMake(),
+                        row.getModel(), row.getYear(), row.getCustomerId(), row.getScore()))
+                .toList();
+    }
+
+    /**
+     * Saves and flushes, so that a duplicate saved concurrently after the exists checks above fails here
+     * on the unique plate_key, vin or engine_number columns instead of at commit.
+     */
+    private Vehicle saveUnique(Vehicle vehicle) {
+        try {
+            return vehicleRepository.saveAndFlush(vehicle);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateEntityException("Vehicle with plate number " + vehicle.getPlateNumber()
+                    + ", VIN or engine number already exists");
+        }
     }
 
     @Override
@@ -210,6 +288,11 @@ public class VehicleServiceImpl implements IVehicleService {
         
 
         
+        // Check for duplicate plate, ignoring spacing and separators
+        if (vehicleRepository.existsByPlateKey(VehicleKeys.normalize(request.getPlateNumber()))) {
+            throw new DuplicateEntityException("Vehicle with plate number " + request.getPlateNumber() + " already exists");
+        }
+
         // Check for duplicate VIN
         if (vehicleRepository.existsByVin(request.getVin())) {
             throw new DuplicateEntityException("Vehicle with VIN " + request.getVin() + " already exists");
@@ -245,7 +328,7 @@ public class VehicleServiceImpl implements IVehicleService {
             vehicle.setOffer(offer);
         }
         
-        Vehicle savedVehicle = vehicleRepository.save(vehicle);
+        Vehicle savedVehicle = saveUnique(vehicle);
         log.info("Vehicle created from request successfully: {} for customer: {}", savedVehicle.getPlateNumber(), customerId);
         
         return vehicleMapper.toDto(savedVehicle);
@@ -276,8 +359,9 @@ public class VehicleServiceImpl implements IVehicleService {
         
         if (StringUtils.hasText(request.getPlateNumber())) {
             // Check for duplicate plate number (excluding current vehicle)
-            if (!request.getPlateNumber().equals(vehicle.getPlateNumber()) && 
-                vehicleRepository.existsByPlateNumber(request.getPlateNumber())) {
+            String plateKey = VehicleKeys.normalize(request.getPlateNumber());
+            if (!plateKey.equals(VehicleKeys.normalize(vehicle.getPlateNumber())) &&
+                vehicleRepository.existsByPlateKey(plateKey)) {
                 throw new DuplicateEntityException("Vehicle with plate number " + request.getPlateNumber() + " already exists");
             }
             vehicle.setPlateNumber(request.getPlateNumber());
@@ -323,7 +407,7 @@ public class VehicleServiceImpl implements IVehicleService {
         
         vehicle.setUpdatedAt(LocalDateTime.now());
         
-        Vehicle updatedVehicle = vehicleRepository.save(vehicle);
+        Vehicle updatedVehicle = saveUnique(vehicle);
         log.info("Vehicle updated from request successfully: {} with id: {}", updatedVehicle.getPlateNumber(), vehicleId);
         
         return vehicleMapper.toDto(updatedVehicle);
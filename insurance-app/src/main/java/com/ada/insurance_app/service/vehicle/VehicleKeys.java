@@ -0,0 +1,28 @@
+package com.ada.insurance_app.service.vehicle;
+
+/**
+ * Normalized form of plate numbers and VINs, as stored in Vehicle's plate_key and vin_key columns:
+ * ASCII letters upper-cased, digits kept, everything else dropped, so "34 abc-123" and "34ABC123" are
+ * the same plate.
+ */
+public final class VehicleKeys {
+
+    private VehicleKeys() {
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                key.append((char) (c - 'a' + 'A'));
+            } else if ((c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+}
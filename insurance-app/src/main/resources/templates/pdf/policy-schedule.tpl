@@ -0,0 +1,33 @@
+# Policy schedule, rendered when a policy becomes active.
+# "title:", "section:" and "table: coverages" lines; any other line is "Label: value" with ${name} placeholders.
+# A field whose placeholders are all empty is left out, and so is a section left without fields.
+title: Policy Schedule
+section: Policy
+Policy number: ${policyNumber}
+Status: ${status}
+Insurance type: ${insuranceType}
+Period: ${startDate} - ${endDate}
+Premium: ${premium}
+section: Policyholder
+Name: ${customerName}
+Customer number: ${customerNumber}
+Address: ${customerAddress}
+section: Agent
+Name: ${agentName}
+Agent number: ${agentNumber}
+section: Vehicle
+Vehicle: ${vehicleMake} ${vehicleModel} ${vehicleYear}
+Plate number: ${vehiclePlateNumber}
+VIN: ${vehicleVin}
+Usage: ${vehicleUsageType}
+section: Home
+Address: ${homeAddress}
+Building age: ${homeBuildingAge}
+Area (m2): ${homeSquareMeters}
+Earthquake resistant: ${homeEarthquakeResistance}
+section: Health
+Date of birth: ${healthDateOfBirth}
+Gender: ${healthGender}
+Smoker: ${healthSmoker}
+section: Coverages
+table: coverages
@@ -0,0 +1,28 @@
+# Quote, rendered when an approved offer is accepted and turned into a policy awaiting payment.
+# Same format as policy-schedule.tpl.
+title: Insurance Quote
+section: Quote
+Offer number: ${offerNumber}
+Policy number: ${policyNumber}
+Insurance type: ${insuranceType}
+Total premium: ${premium}
+Note: ${offerNote}
+section: Policyholder
+Name: ${customerName}
+Customer number: ${customerNumber}
+section: Agent
+Name: ${agentName}
+Agent number: ${agentNumber}
+section: Vehicle
+Vehicle: ${vehicleMake} ${vehicleModel} ${vehicleYear}
+Plate number: ${vehiclePlateNumber}
+Usage: ${vehicleUsageType}
+section: Home
+Address: ${homeAddress}
+Building age: ${homeBuildingAge}
+Area (m2): ${homeSquareMeters}
+section: Health
+Date of birth: ${healthDateOfBirth}
+Smoker: ${healthSmoker}
+section: Coverages
+table: coverages
@@ -0,0 +1,136 @@
+package com.ada.insurance_app.controller.user;
+
+import com.ada.insurance_app.controller.user.Impl.AgentControllerImpl;
+import com.ada.insurance_app.core.enums.QueryBudgetMode;
+import com.ada.insurance_app.core.enums.Role;
+import com.ada.insurance_app.core.persistence.query.CountingDataSourcePostProcessor;
+import com.ada.insurance_app.core.persistence.query.QueryBudgetInterceptor;
+import com.ada.insurance_app.core.persistence.query.QueryCountingFilter;
+import com.ada.insurance_app.core.security.InactiveUserRegistry;
+import com.ada.insurance_app.core.security.JwtUserPrincipal;
+import com.ada.insurance_app.entity.Agent;
+import com.ada.insurance_app.service.dashboard.IDashboardService;
+import com.ada.insurance_app.service.user.IUserService;
+import com.ada.insurance_app.service.user.Impl.AgentServiceImpl;
+import com.ada.insurance_app.service.user.helper.AgentServiceHelper;
+import com.ada.insurance_app.support.JpaTestConfig;
+import com.ada.insurance_app.support.PolicyFixtures;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.function.Function;
+
+import static com.ada.insurance_app.support.QueryBudgetMatchers.assertConstantStatements;
+import static com.ada.insurance_app.support.QueryBudgetMatchers.stats;
+import static com.ada.insurance_app.support.QueryBudgetMatchers.withinDeclaredBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The agent list endpoints stay within their declared query budget, and cost the same for an agent
+ * with a few rows as for one with many.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.default_schema=PUBLIC",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "app.queries.counting.enabled=true"
+})
+@ContextConfiguration(classes = JpaTestConfig.class)
+@Import({CountingDataSourcePostProcessor.class, AgentServiceHelper.class, AgentServiceImpl.class,
+        AgentControllerImpl.class})
+class AgentControllerQueryBudgetTest {
+
+    private static final int SMALL = 2;
+    private static final int LARGE = 12;
+
+    @MockitoBean
+    private InactiveUserRegistry inactiveUserRegistry;
+
+    @MockitoBean
+    private IDashboardService dashboardService;
+
+    @MockitoBean
+    private IUserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AgentControllerImpl agentController;
+
+    private PolicyFixtures fixtures;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new PolicyFixtures(entityManager);
+        mockMvc = MockMvcBuilders.standaloneSetup(agentController)
+                .addFilters(new QueryCountingFilter(new SimpleMeterRegistry(), QueryBudgetMode.FAIL))
+                .addInterceptors(new QueryBudgetInterceptor(QueryBudgetMode.FAIL))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void offersByAgentStayWithinBudget() throws Exception {
+        Agent small = fixtures.seed(SMALL).agent();
+        Agent large = fixtures.seed(LARGE).agent();
+
+        assertConstant(small, large, agent -> "/api/v1/agent/offers/agent/" + agent.getId());
+    }
+
+    @Test
+    void myCustomersStayWithinBudget() throws Exception {
+        Agent small = fixtures.seed(SMALL).agent();
+        Agent large = fixtures.agent();
+        for (int i = 0; i < LARGE; i++) {
+            fixtures.seed(1, large);
+        }
+
+        assertConstant(small, large, agent -> "/api/v1/agent/my-customers");
+    }
+
+    @Test
+    void activePoliciesStayWithinBudget() throws Exception {
+        Agent small = fixtures.seed(SMALL).agent();
+        Agent large = fixtures.seed(LARGE).agent();
+
+        assertConstant(small, large, agent -> "/api/v1/agent/active-policies");
+    }
+
+    private void assertConstant(Agent small, Agent large, Function<Agent, String> uri) throws Exception {
+        assertConstantStatements(SMALL, () -> statements(small, uri.apply(small)),
+                LARGE, () -> statements(large, uri.apply(large)));
+    }
+
+    private int statements(Agent agent, String uri) throws Exception {
+        entityManager.flush();
+        entityManager.clear();
+        JwtUserPrincipal principal = new JwtUserPrincipal(agent.getUser().getId(), agent.getUser().getUsername(),
+                Role.AGENT, null, agent.getId());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        return stats(mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(withinDeclaredBudget())
+                .andReturn())
+                .getStatements();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ada.insurance_app.core.security;
+
+import com.ada.insurance_app.core.enums.Role;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens issued and verified per second on a single thread (one core).
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark=JwtTokenProviderBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Threads(1)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider provider;
+    private JwtUserPrincipal principal;
+    private String activeKeyToken;
+    private String previousKeyToken;
+
+    @Setup
+    public void setUp() {
+        String previousSecret = randomSecret();
+
+        // Token signed before a rotation, verified through the kid lookup
+        JwtTokenProvider previous = newProvider("previous", previousSecret, "");
+        principal = new JwtUserPrincipal(UUID.randomUUID(), "benchmark-user", Role.CUSTOMER, UUID.randomUUID(), null);
+        previousKeyToken = previous.generateToken(principal);
+
+        provider = newProvider("current", randomSecret(), "previous:" + previousSecret);
+        activeKeyToken = provider.generateToken(principal);
+    }
+
+    @Benchmark
+    public String issue() {
+        return provider.generateToken(principal);
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return provider.parseClaims(activeKeyToken);
+    }
+
+    @Benchmark
+    public Claims verifyWithPreviousKey() {
+        return provider.parseClaims(previousKeyToken);
+    }
+
+    private static JwtTokenProvider newProvider(String kid, String secret, String previousKeys) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "jwtSecret", secret);
+        ReflectionTestUtils.setField(provider, "jwtKid", kid);
+        ReflectionTestUtils.setField(provider, "jwtPreviousKeys", previousKeys);
+        ReflectionTestUtils.setField(provider, "jwtExpirationMs", 3_600_000L);
+        provider.init();
+        return provider;
+    }
+
+    private static String randomSecret() {
+        byte[] bytes = new byte[64];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtTokenProviderBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
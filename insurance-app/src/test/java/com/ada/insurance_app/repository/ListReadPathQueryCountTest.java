@@ -0,0 +1,162 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.core.persistence.KeysetCursor;
+import com.ada.insurance_app.core.persistence.query.CountingDataSourcePostProcessor;
+import com.ada.insurance_app.core.persistence.query.QueryStats;
+import com.ada.insurance_app.core.security.InactiveUserRegistry;
+import com.ada.insurance_app.dto.OfferDto;
+import com.ada.insurance_app.dto.PolicyDto;
+import com.ada.insurance_app.entity.Agent;
+import com.ada.insurance_app.entity.Customer;
+import com.ada.insurance_app.mapper.OfferMapper;
+import com.ada.insurance_app.mapper.PolicyMapper;
+import com.ada.insurance_app.support.JpaTestConfig;
+import com.ada.insurance_app.support.PolicyFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.ada.insurance_app.support.QueryBudgetMatchers.assertConstantStatements;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The policy and offer list reads, mapped to DTOs exactly as the services do, must cost the same
+ * number of statements whatever the size of the list.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.default_schema=PUBLIC",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true",
+        "app.queries.counting.enabled=true"
+})
+@ContextConfiguration(classes = JpaTestConfig.class)
+@Import(CountingDataSourcePostProcessor.class)
+class ListReadPathQueryCountTest {
+
+    private static final int SMALL = 2;
+    private static final int LARGE = 12;
+
+    // The list itself, then one batch each for coverages and the agents' policy ids
+    private static final long STATEMENT_BUDGET = 3;
+
+    @MockitoBean
+    private InactiveUserRegistry inactiveUserRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IPolicyRepository policyRepository;
+
+    @Autowired
+    private IOfferRepository offerRepository;
+
+    @Autowired
+    private PolicyMapper policyMapper;
+
+    @Autowired
+    private OfferMapper offerMapper;
+
+    private PolicyFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new PolicyFixtures(entityManager);
+    }
+
+    @Test
+    void policiesByCustomerCostConstantStatements() throws Exception {
+        Customer small = fixtures.seed(SMALL).customer();
+        Customer large = fixtures.seed(LARGE).customer();
+
+        assertConstant(
+                () -> policyRepository.findByCustomer_Id(small.getId()).stream().map(policyMapper::toDto).toList(),
+                () -> policyRepository.findByCustomer_Id(large.getId()).stream().map(policyMapper::toDto).toList());
+    }
+
+    @Test
+    void policiesByAgentCostConstantStatements() throws Exception {
+        Agent small = fixtures.seed(SMALL).agent();
+        Agent large = fixtures.seed(LARGE).agent();
+
+        assertConstant(
+                () -> policyRepository.findByAgentId(small.getId()).stream().map(policyMapper::toDto).toList(),
+                () -> policyRepository.findByAgentId(large.getId()).stream().map(policyMapper::toDto).toList());
+    }
+
+    @Test
+    void policyPageCostsConstantStatements() throws Exception {
+        fixtures.seedOwners(LARGE);
+
+        assertConstant(() -> policyPage(SMALL), () -> policyPage(LARGE));
+    }
+
+    @Test
+    void offersByCustomerCostConstantStatements() throws Exception {
+        Customer small = fixtures.seed(SMALL).customer();
+        Customer large = fixtures.seed(LARGE).customer();
+
+        assertConstant(
+                () -> offerRepository.findByCustomer_Id(small.getId()).stream().map(offerMapper::toDto).toList(),
+                () -> offerRepository.findByCustomer_Id(large.getId()).stream().map(offerMapper::toDto).toList());
+    }
+
+    @Test
+    void offersByAgentCostConstantStatements() throws Exception {
+        Agent small = fixtures.seed(SMALL).agent();
+        Agent large = fixtures.seed(LARGE).agent();
+
+        assertConstant(
+                () -> offerRepository.findByAgent_Id(small.getId()).stream().map(offerMapper::toDto).toList(),
+                () -> offerRepository.findByAgent_Id(large.getId()).stream().map(offerMapper::toDto).toList());
+    }
+
+    @Test
+    void offerPageCostsConstantStatements() throws Exception {
+        fixtures.seedOwners(LARGE);
+
+        assertConstant(() -> offerPage(SMALL), () -> offerPage(LARGE));
+    }
+
+    private List<PolicyDto> policyPage(int size) {
+        KeysetCursor first = KeysetCursor.decode(null);
+        return policyRepository.findPageAfter(null, null, first.createdAt(), first.longId(), KeysetCursor.limit(size))
+                .stream().map(policyMapper::toDto).toList();
+    }
+
+    private List<OfferDto> offerPage(int size) {
+        KeysetCursor first = KeysetCursor.decode(null);
+        return offerRepository.findPageAfter(null, null, first.createdAt(), first.longId(), KeysetCursor.limit(size))
+                .stream().map(offerMapper::toDto).toList();
+    }
+
+    private void assertConstant(Supplier<List<?>> smallRead, Supplier<List<?>> largeRead) throws Exception {
+        long statements = assertConstantStatements(SMALL, () -> countStatements(smallRead, SMALL),
+                LARGE, () -> countStatements(largeRead, LARGE));
+        assertTrue(statements <= STATEMENT_BUDGET,
+                statements + " statements exceed the budget of " + STATEMENT_BUDGET);
+    }
+
+    private long countStatements(Supplier<List<?>> read, int expectedRows) {
+        entityManager.flush();
+        entityManager.clear();
+
+        QueryStats stats = QueryStats.begin();
+        int rows;
+        try {
+            rows = read.get().size();
+        } finally {
+            QueryStats.end();
+        }
+
+        assertTrue(rows >= expectedRows, "expected at least " + expectedRows + " rows, got " + rows);
+        return stats.getStatements();
+    }
+}
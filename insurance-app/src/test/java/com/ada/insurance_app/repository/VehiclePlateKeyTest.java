@@ -0,0 +1,104 @@
+package com.ada.insurance_app.repository;
+
+import com.ada.insurance_app.core.security.InactiveUserRegistry;
+import com.ada.insurance_app.entity.Customer;
+import com.ada.insurance_app.entity.Vehicle;
+import com.ada.insurance_app.service.vehicle.VehicleKeys;
+import com.ada.insurance_app.support.JpaTestConfig;
+import com.ada.insurance_app.support.PolicyFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Plate keys are an ordinary column, so lookups and the uniqueness of a plate however it is typed hold
+ * on any database, not only on PostgreSQL.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.default_schema=PUBLIC",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@ContextConfiguration(classes = JpaTestConfig.class)
+class VehiclePlateKeyTest {
+
+    @MockitoBean
+    private InactiveUserRegistry inactiveUserRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private IVehicleRepository vehicleRepository;
+
+    private PolicyFixtures fixtures;
+
+    @BeforeEach
+    void setUp() {
+        fixtures = new PolicyFixtures(entityManager);
+    }
+
+    @Test
+    void findsVehicleByPlateTypedDifferently() {
+        Vehicle vehicle = seedVehicle();
+        String typed = vehicle.getPlateNumber().toLowerCase().replace(' ', '-');
+
+        assertThat(vehicleRepository.findByPlateKey(VehicleKeys.normalize(typed))).contains(vehicle);
+        assertThat(vehicleRepository.existsByPlateKey(VehicleKeys.normalize(typed))).isTrue();
+        assertThat(vehicleRepository.existsByPlateKey("NOSUCHPLATE")).isFalse();
+    }
+
+    @Test
+    void keyFollowsPlateChanges() {
+        Vehicle vehicle = seedVehicle();
+        vehicle.setPlateNumber("06 zz 999");
+        vehicleRepository.saveAndFlush(vehicle);
+
+        assertThat(vehicle.getPlateKey()).isEqualTo("06ZZ999");
+        assertThat(vehicleRepository.findByPlateKey("06ZZ999")).contains(vehicle);
+    }
+
+    @Test
+    void rejectsSamePlateWithOtherSpacing() {
+        Vehicle first = seedVehicle();
+        Vehicle second = seedVehicle();
+        second.setPlateNumber(first.getPlateNumber().replace(" ", ""));
+
+        assertThrows(DataIntegrityViolationException.class, () -> vehicleRepository.saveAndFlush(second));
+    }
+
+    @Test
+    void vehicleWithoutKeyStaysSavableAndFoundByPlate() {
+        Vehicle vehicle = seedVehicle();
+        entityManager.createNativeQuery("UPDATE vehicles SET plate_key = NULL WHERE id = :id")
+                .setParameter("id", vehicle.getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        Vehicle loaded = vehicleRepository.findById(vehicle.getId()).orElseThrow();
+        loaded.setColor("Blue");
+        vehicleRepository.saveAndFlush(loaded);
+
+        assertThat(loaded.getPlateKey()).isNull();
+        assertThat(vehicleRepository.findByPlateNumberAndPlateKeyIsNull(vehicle.getPlateNumber())).contains(loaded);
+        assertThat(vehicleRepository.existsByPlateNumberAndPlateKeyIsNull(vehicle.getPlateNumber())).isTrue();
+
+        loaded.setPlateNumber("35 YY 123");
+        vehicleRepository.saveAndFlush(loaded);
+
+        assertThat(loaded.getPlateKey()).isEqualTo("35YY123");
+    }
+
+    private Vehicle seedVehicle() {
+        Customer customer = fixtures.seed(1).customer();
+        entityManager.flush();
+        return vehicleRepository.findAllByCustomer_Id(customer.getId()).get(0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.ada.insurance_app.repository.auth;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.security.InactiveUserRegistry;
+import com.ada.insurance_app.entity.Coverage;
+import com.ada.insurance_app.support.JpaTestConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The native token sweeps declare the one table they touch, so running them must leave the
+ * second-level cache of unrelated entities alone. Runs outside the test transaction: Hibernate only
+ * caches the coverage when a later transaction loads it.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.default_schema=PUBLIC",
+        "spring.jpa.properties.hibernate.auto_quote_keyword=true"
+})
+@ContextConfiguration(classes = JpaTestConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TokenSweepCacheTest {
+
+    @MockitoBean
+    private InactiveUserRegistry inactiveUserRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RevokedAccessTokenRepository revokedAccessTokenRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    private Long coverageId;
+
+    @BeforeEach
+    void setUp() {
+        Coverage coverage = new Coverage();
+        coverage.setCode("COV-SWEEP");
+        coverage.setName("Coverage");
+        coverage.setDescription("Coverage");
+        coverage.setBasePrice(BigDecimal.TEN);
+        coverage.setInsuranceType(InsuranceType.VEHICLE);
+        transactionTemplate.executeWithoutResult(status -> entityManager.persist(coverage));
+        coverageId = coverage.getId();
+        transactionTemplate.executeWithoutResult(status -> entityManager.find(Coverage.class, coverageId));
+
+        assertTrue(isCached(), "coverage should be cached once loaded");
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.remove(entityManager.find(Coverage.class, coverageId)));
+    }
+
+    @Test
+    void refreshTokenSweepKeepsCachedCoverage() {
+        transactionTemplate.executeWithoutResult(status ->
+                refreshTokenRepository.deleteExpiredChunk(LocalDateTime.now(), 100));
+
+        assertTrue(isCached());
+    }
+
+    @Test
+    void revokedAccessTokenSweepKeepsCachedCoverage() {
+        transactionTemplate.executeWithoutResult(status ->
+                revokedAccessTokenRepository.deleteExpiredChunk(LocalDateTime.now(), 100));
+
+        assertTrue(isCached());
+    }
+
+    @Test
+    void passwordResetTokenSweepsKeepCachedCoverage() {
+        transactionTemplate.executeWithoutResult(status -> {
+            passwordResetTokenRepository.markExpiredChunk(LocalDateTime.now(), 100);
+            passwordResetTokenRepository.deleteCreatedBeforeChunk(LocalDateTime.now(), 100);
+        });
+
+        assertTrue(isCached());
+    }
+
+    private boolean isCached() {
+        return entityManagerFactory.getCache().contains(Coverage.class, coverageId);
+    }
+}
@@ -0,0 +1,82 @@
+package com.ada.insurance_app.service.analytics.lossratio;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.LossRatioDimension;
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Slices and contribution replacement of the in-memory loss-ratio cube.
+ */
+class LossRatioCubeTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2025, 1);
+    private static final YearMonth FEBRUARY = YearMonth.of(2025, 2);
+
+    @Test
+    void groupsPremiumAndClaimsByDimension() {
+        LossRatioCube cube = new LossRatioCube();
+        int januaryCell = cube.cell(1L, "COLLISION", InsuranceType.VEHICLE, "ANKARA", LossRatioCube.monthOf(JANUARY));
+        int februaryCell = cube.cell(1L, "COLLISION", InsuranceType.VEHICLE, "ANKARA", LossRatioCube.monthOf(FEBRUARY));
+        cube.replacePolicy(10L, new LossRatioCube.Contribution(new int[]{januaryCell, februaryCell}, new double[]{100, 100}));
+        cube.replaceClaim(UUID.randomUUID(), new LossRatioCube.Contribution(new int[]{februaryCell}, new double[]{50}));
+
+        Map<String, double[]> byMonth = cube.slice(LossRatioDimension.MONTH, null, null, null, JANUARY, FEBRUARY);
+        assertThat(byMonth).containsOnlyKeys("2025-01", "2025-02");
+        assertThat(byMonth.get("2025-02")).containsExactly(100, 50);
+
+        Map<String, double[]> byCoverage = cube.slice(LossRatioDimension.COVERAGE, null, null, "ANKARA", JANUARY, FEBRUARY);
+        assertThat(byCoverage.get("COLLISION")).containsExactly(200, 50);
+    }
+
+    @Test
+    void replacingContributionSubtractsThePreviousOne() {
+        LossRatioCube cube = new LossRatioCube();
+        int cell = cube.cell(1L, "COLLISION", InsuranceType.VEHICLE, "ANKARA", LossRatioCube.monthOf(JANUARY));
+        cube.replacePolicy(10L, new LossRatioCube.Contribution(new int[]{cell}, new double[]{100}));
+        cube.replacePolicy(10L, new LossRatioCube.Contribution(new int[]{cell}, new double[]{80}));
+
+        assertThat(cube.slice(LossRatioDimension.INSURANCE_TYPE, null, null, null, JANUARY, JANUARY)
+                .get("VEHICLE")).containsExactly(80, 0);
+
+        cube.replacePolicy(10L, null);
+        assertThat(cube.slice(LossRatioDimension.INSURANCE_TYPE, null, null, null, JANUARY, JANUARY)
+                .get("VEHICLE")).containsExactly(0, 0);
+    }
+
+    @Test
+    void keepsContributionsOfManyRowsAcrossReplacements() {
+        LossRatioCube cube = new LossRatioCube();
+        int january = cube.cell(1L, "COLLISION", InsuranceType.VEHICLE, "ANKARA", LossRatioCube.monthOf(JANUARY));
+        int february = cube.cell(1L, "COLLISION", InsuranceType.VEHICLE, "ANKARA", LossRatioCube.monthOf(FEBRUARY));
+        UUID[] claimIds = new UUID[5000];
+        for (int i = 0; i < claimIds.length; i++) {
+            claimIds[i] = UUID.randomUUID();
+            cube.replacePolicy(i, new LossRatioCube.Contribution(new int[]{january}, new double[]{1}));
+            cube.replaceClaim(claimIds[i], new LossRatioCube.Contribution(new int[]{january}, new double[]{1}));
+        }
+        // Longer contributions move to the end of the store, shorter ones and removals leave gaps behind
+        for (int i = 0; i < claimIds.length; i++) {
+            cube.replacePolicy(i, new LossRatioCube.Contribution(new int[]{january, february}, new double[]{2, 3}));
+            cube.replaceClaim(claimIds[i], i % 2 == 0 ? null
+                    : new LossRatioCube.Contribution(new int[]{february}, new double[]{4}));
+        }
+
+        Map<String, double[]> byMonth = cube.slice(LossRatioDimension.MONTH, null, null, null, JANUARY, FEBRUARY);
+        assertThat(byMonth.get("2025-01")).containsExactly(10000, 0);
+        assertThat(byMonth.get("2025-02")).containsExactly(15000, 10000);
+    }
+
+    @Test
+    void unknownFilterValueMatchesNothing() {
+        LossRatioCube cube = new LossRatioCube();
+        cube.cell(1L, "COLLISION", InsuranceType.VEHICLE, "ANKARA", LossRatioCube.monthOf(JANUARY));
+
+        assertThat(cube.slice(LossRatioDimension.CITY, null, null, "IZMIR", JANUARY, JANUARY)).isEmpty();
+    }
+}
@@ -0,0 +1,90 @@
+package com.ada.insurance_app.service.coverage.pricing;
+
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.entity.Coverage;
+import com.ada.insurance_app.repository.ICoverageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Snapshots are swapped only when a price changed, and quotes come from the snapshot in memory.
+ */
+class CoveragePriceCatalogTest {
+
+    private final List<Coverage> coverages = new ArrayList<>();
+    private ICoverageRepository coverageRepository;
+    private CoveragePriceCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        coverageRepository = mock(ICoverageRepository.class);
+        when(coverageRepository.findAll()).thenAnswer(invocation -> List.copyOf(coverages));
+        catalog = new CoveragePriceCatalog(coverageRepository);
+
+        coverages.add(coverage(1L, InsuranceType.VEHICLE, "100.00"));
+        coverages.add(coverage(2L, InsuranceType.VEHICLE, "250.50"));
+        coverages.add(coverage(3L, InsuranceType.HEALTH, "80.00"));
+        catalog.refresh();
+    }
+
+    @Test
+    void quotesFromSnapshotWithoutReadingAgain() {
+        CoveragePriceSnapshot.Quote quote = catalog.quote(List.of(1L, 2L));
+
+        assertThat(quote.totalPremium()).isEqualByComparingTo("350.50");
+        assertThat(quote.version()).isEqualTo(catalog.current().version());
+        assertThat(catalog.current().prices(InsuranceType.VEHICLE)).hasSize(2);
+        verify(coverageRepository, times(1)).findAll();
+    }
+
+    @Test
+    void keepsVersionWhenNothingChanged() {
+        CoveragePriceSnapshot before = catalog.current();
+
+        catalog.reloadAfterCommit();
+
+        assertThat(catalog.current()).isSameAs(before);
+    }
+
+    @Test
+    void newPriceGetsNewVersionAndOldSnapshotStaysIntact() {
+        CoveragePriceSnapshot before = catalog.current();
+
+        coverages.get(0).setBasePrice(new BigDecimal("120.00"));
+        catalog.reloadAfterCommit();
+
+        CoveragePriceSnapshot after = catalog.current();
+        assertThat(after.version()).isGreaterThan(before.version());
+        assertThat(after.price(1L).basePrice()).isEqualByComparingTo("120.00");
+        assertThat(before.price(1L).basePrice()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void reloadsOnceForCoverageNotInSnapshot() {
+        coverages.add(coverage(4L, InsuranceType.HOME, "40.00"));
+
+        CoveragePriceSnapshot.Quote quote = catalog.quote(List.of(3L, 4L));
+
+        assertThat(quote.totalPremium()).isEqualByComparingTo("120.00");
+        verify(coverageRepository, times(2)).findAll();
+    }
+
+    private static Coverage coverage(Long id, InsuranceType type, String price) {
+        Coverage coverage = new Coverage();
+        coverage.setId(id);
+        coverage.setCode("COV-" + id);
+        coverage.setInsuranceType(type);
+        coverage.setBasePrice(new BigDecimal(price));
+        return coverage;
+    }
+}
@@ -0,0 +1,77 @@
+package com.ada.insurance_app.service.email;
+
+import com.ada.insurance_app.entity.EmailOutbox;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sends outbox batches to an in-process SMTP server.
+ */
+class EmailOutboxSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private EmailOutboxSender sender;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+
+        sender = new EmailOutboxSender(mailSender);
+        ReflectionTestUtils.setField(sender, "from", "noreply@insuranceapp.test");
+    }
+
+    @Test
+    void sendsWholeBatch() throws Exception {
+        List<EmailOutbox> batch = List.of(
+                email("first@example.com", "First"),
+                email("second@example.com", "Second"),
+                email("third@example.com", "Third"));
+
+        Map<UUID, String> failures = sender.send(batch);
+
+        assertThat(failures).isEmpty();
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(3);
+        assertThat(received[0].getSubject()).isEqualTo("First");
+    }
+
+    @Test
+    void reportsEveryEmailAsFailedWhenServerIsUnreachable() {
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("localhost");
+        unreachable.setPort(1);
+        EmailOutboxSender unreachableSender = new EmailOutboxSender(unreachable);
+        ReflectionTestUtils.setField(unreachableSender, "from", "");
+
+        List<EmailOutbox> batch = List.of(email("first@example.com", "First"), email("second@example.com", "Second"));
+
+        Map<UUID, String> failures = unreachableSender.send(batch);
+
+        assertThat(failures).containsOnlyKeys(batch.get(0).getId(), batch.get(1).getId());
+    }
+
+    private static EmailOutbox email(String recipient, String subject) {
+        return EmailOutbox.builder()
+                .id(UUID.randomUUID())
+                .recipient(recipient)
+                .subject(subject)
+                .body("Body of " + subject)
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ada.insurance_app.service.export;
+
+import com.ada.insurance_app.core.enums.ExportFormat;
+import com.ada.insurance_app.core.enums.InsuranceType;
+import com.ada.insurance_app.core.enums.PolicyStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to write a synthetic 1M-row policy register in each export format, excluding the database.
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark=ExportWriterBenchmark
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = "-Xmx256m")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ExportWriterBenchmark {
+
+    record Row(long id, String policyNumber, PolicyStatus status, InsuranceType insuranceType,
+               BigDecimal premium, LocalDate startDate, LocalDate endDate, LocalDateTime createdAt) {
+    }
+
+    private static final List<ExportColumn<Row>> COLUMNS = List.of(
+            new ExportColumn<>("id", Row::id),
+            new ExportColumn<>("policyNumber", Row::policyNumber),
+            new ExportColumn<>("status", Row::status),
+            new ExportColumn<>("insuranceType", Row::insuranceType),
+            new ExportColumn<>("premium", Row::premium),
+            new ExportColumn<>("startDate", Row::startDate),
+            new ExportColumn<>("endDate", Row::endDate),
+            new ExportColumn<>("createdAt", Row::createdAt));
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"CSV", "NDJSON", "XLSX"})
+    private ExportFormat format;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Benchmark
+    public long write() throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDateTime createdAt = start.atStartOfDay();
+        try (ExportWriter<Row> writer = ExportWriter.open(format, "policies", COLUMNS, out, objectMapper, 100)) {
+            for (int i = 0; i < rows; i++) {
+                writer.write(new Row(i, "POL-" + i, PolicyStatus.ACTIVE, InsuranceType.VEHICLE,
+                        BigDecimal.valueOf(1000 + i % 5000, 2), start.plusDays(i % 365),
+                        start.plusDays(365 + i % 365), createdAt.plusSeconds(i)));
+            }
+        }
+        return out.bytes;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ExportWriterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
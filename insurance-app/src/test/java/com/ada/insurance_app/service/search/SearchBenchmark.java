@@ -0,0 +1,138 @@
+package com.ada.insurance_app.service.search;
+
+import com.ada.insurance_app.repository.IClaimRepository;
+import com.ada.insurance_app.support.PostgresBenchmarkSupport;
+import com.ada.insurance_app.support.PostgresBenchmarkSupport.NamedQuery;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Claim search over a synthetic 10M-row claims table: the old LIKE '%keyword%' query against the ranked
+ * first page of IClaimRepository.searchRanked, served by the full-text and trigram indexes. Needs a
+ * PostgreSQL database with pg_trgm (see PostgresBenchmarkSupport). The claims and policies tables live in
+ * the search_benchmark schema and are kept between runs; seeding them takes several minutes.
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark=SearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SearchBenchmark {
+
+    private static final String[] WORDS = {"rear", "collision", "parking", "hail", "windshield", "flood",
+            "kitchen", "pipe", "burst", "theft", "fire", "storm", "roof", "engine", "surgery", "fracture",
+            "hospital", "glass", "mirror", "basement", "lightning", "bumper", "garage", "earthquake"};
+
+    private static final String LIKE = "SELECT c.id FROM search_benchmark.claims c "
+            + "WHERE c.claim_number LIKE ? OR c.description LIKE ?";
+
+    @Param({"10000000"})
+    private int rows;
+
+    // A word in about 1 of 8 descriptions, a rare word pair, and a claim number fragment
+    @Param({"hail", "earthquake garage", "CLM-0042137"})
+    private String keyword;
+
+    private Connection connection;
+    private PreparedStatement like;
+    private NamedQuery ranked;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = PostgresBenchmarkSupport.connect();
+        seed();
+
+        like = connection.prepareStatement(LIKE);
+        ranked = PostgresBenchmarkSupport.prepare(connection, IClaimRepository.SEARCH_RANKED_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int likeAllMatches() throws SQLException {
+        String pattern = SearchText.containsPattern(keyword);
+        like.setString(1, pattern);
+        like.setString(2, pattern);
+        return PostgresBenchmarkSupport.countWithoutIndexes(connection, like);
+    }
+
+    // First page of 20 plus the look-ahead row, as SearchServiceImpl asks for it
+    @Benchmark
+    public int rankedFirstPage() throws SQLException {
+        return ranked.set("query", keyword)
+                .set("pattern", SearchText.containsPattern(keyword))
+                .set("headline", SearchText.HEADLINE_OPTIONS)
+                .set("limit", 21)
+                .set("offset", 0)
+                .count();
+    }
+
+    private void seed() throws SQLException {
+        int policies = rows / 4;
+        try (Statement statement = connection.createStatement()) {
+            // Tables from before the ranked query joined policies are rebuilt
+            try (ResultSet column = statement.executeQuery("SELECT 1 FROM information_schema.columns "
+                    + "WHERE table_schema = 'search_benchmark' AND table_name = 'claims' AND column_name = 'policy_id'")) {
+                if (!column.next()) {
+                    statement.execute("DROP TABLE IF EXISTS search_benchmark.claims");
+                }
+            }
+            statement.execute("CREATE TABLE IF NOT EXISTS search_benchmark.policies ("
+                    + "id bigint PRIMARY KEY, policy_number varchar(255) NOT NULL)");
+            statement.execute("CREATE TABLE IF NOT EXISTS search_benchmark.claims ("
+                    + "id bigint PRIMARY KEY, claim_number varchar(255) NOT NULL, description varchar(2000) NOT NULL, "
+                    + "policy_id bigint NOT NULL, "
+                    + "search_vector tsvector GENERATED ALWAYS AS ("
+                    + "setweight(to_tsvector('simple', COALESCE(claim_number, '')), 'A') || "
+                    + "setweight(to_tsvector('simple', COALESCE(description, '')), 'B')) STORED)");
+
+            if (PostgresBenchmarkSupport.rowCount(connection, "claims") == rows
+                    && PostgresBenchmarkSupport.rowCount(connection, "policies") == policies) {
+                return;
+            }
+
+            statement.execute("TRUNCATE search_benchmark.claims, search_benchmark.policies");
+            statement.execute("INSERT INTO search_benchmark.policies (id, policy_number) "
+                    + "SELECT i, 'POL-' || lpad(i::text, 8, '0') FROM generate_series(1, " + policies + ") AS i");
+            String words = "ARRAY['" + String.join("','", WORDS) + "']";
+            // Deterministic word choice, so every run searches the same data
+            statement.execute("INSERT INTO search_benchmark.claims (id, claim_number, description, policy_id) "
+                    + "SELECT i, 'CLM-' || lpad(i::text, 8, '0'), "
+                    + "format('%s damage to the %s after %s, reported by the customer near the %s', "
+                    + "w[1 + i % 8], w[1 + (i / 8) % 24], w[1 + (i / 192) % 24], w[1 + (i / 4608) % 24]), "
+                    + "1 + i % " + policies + " "
+                    + "FROM generate_series(1, " + rows + ") AS i, (SELECT " + words + " AS w) AS words");
+            // The same indexes as Claim and FullTextSearchSchema
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_claims_policy_id "
+                    + "ON search_benchmark.claims (policy_id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_claims_search_vector "
+                    + "ON search_benchmark.claims USING gin (search_vector)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_claims_claim_number_trgm "
+                    + "ON search_benchmark.claims USING gin (claim_number gin_trgm_ops)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_policies_policy_number_trgm "
+                    + "ON search_benchmark.policies USING gin (policy_number gin_trgm_ops)");
+            statement.execute("VACUUM ANALYZE search_benchmark.policies");
+            statement.execute("VACUUM ANALYZE search_benchmark.claims");
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
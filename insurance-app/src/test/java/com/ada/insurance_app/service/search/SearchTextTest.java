@@ -0,0 +1,44 @@
+package com.ada.insurance_app.service.search;
+
+import com.ada.insurance_app.core.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Search input is taken literally and highlights are safe to render as HTML.
+ */
+class SearchTextTest {
+
+    @Test
+    void escapesLikeWildcardsInKeyword() {
+        assertThat(SearchText.containsPattern("10%_off\\")).isEqualTo("%10\\%\\_off\\\\%");
+    }
+
+    @Test
+    void escapesHeadlineTextAndKeepsMarks() {
+        String marked = "<script>x</script> rear \u0002collision\u0003 & more";
+
+        assertThat(SearchText.toHtml(marked))
+                .isEqualTo("&lt;script&gt;x&lt;/script&gt; rear <mark>collision</mark> &amp; more");
+    }
+
+    @Test
+    void marksEveryOccurrenceIgnoringCase() {
+        assertThat(SearchText.markOccurrences("TRX-ab12-AB12", "ab12"))
+                .isEqualTo("TRX-<mark>ab12</mark>-<mark>AB12</mark>");
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        assertThat(SearchText.decodeOffset(null)).isZero();
+        assertThat(SearchText.decodeOffset(SearchText.encodeOffset(40))).isEqualTo(40);
+    }
+
+    @Test
+    void rejectsForeignCursor() {
+        assertThatThrownBy(() -> SearchText.decodeOffset("not-a-cursor"))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -0,0 +1,153 @@
+package com.ada.insurance_app.service.user;
+
+import com.ada.insurance_app.core.enums.Role;
+import com.ada.insurance_app.core.persistence.SecondLevelCache;
+import com.ada.insurance_app.core.security.AccessTokenDenylist;
+import com.ada.insurance_app.core.security.InactiveUserRegistry;
+import com.ada.insurance_app.core.security.JwtAuthenticationFilter;
+import com.ada.insurance_app.core.security.JwtSigningKeys;
+import com.ada.insurance_app.core.security.JwtTokenProvider;
+import com.ada.insurance_app.core.security.JwtUserPrincipal;
+import com.ada.insurance_app.core.security.VerifiedTokenCache;
+import com.ada.insurance_app.entity.User;
+import com.ada.insurance_app.mapper.UserInfoMapper;
+import com.ada.insurance_app.repository.IAgentRepository;
+import com.ada.insurance_app.repository.auth.RevokedAccessTokenRepository;
+import com.ada.insurance_app.repository.auth.User.IUserRepository;
+import com.ada.insurance_app.request.user.ChangeRoleRequest;
+import com.ada.insurance_app.service.auth.token.RefreshTokenService;
+import com.ada.insurance_app.service.auth.token.TokenRevocationService;
+import com.ada.insurance_app.service.dashboard.Impl.DashboardServiceImpl;
+import com.ada.insurance_app.service.user.Impl.AdminServiceImpl;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * A role change revokes the user's tokens: an access token carrying the old role claim is rejected,
+ * even once it has been verified and cached, and the refresh tokens cannot mint new ones.
+ */
+class AdminRoleChangeTokenTest {
+
+    private static final String KID = "test";
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+    private static final long EXPIRATION_MS = 3_600_000L;
+
+    private final User user = new User();
+    private RefreshTokenService refreshTokenService;
+    private AdminServiceImpl adminService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        user.setId(UUID.randomUUID());
+        user.setUsername("demoted-admin");
+        user.setRole(Role.ADMIN);
+
+        IUserRepository userRepository = mock(IUserRepository.class);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        AccessTokenDenylist denylist = new AccessTokenDenylist();
+        ReflectionTestUtils.setField(denylist, "accessTokenExpirationMs", EXPIRATION_MS);
+        ReflectionTestUtils.setField(denylist, "bucketMs", 60_000L);
+        TokenRevocationService tokenRevocationService =
+                new TokenRevocationService(mock(RevokedAccessTokenRepository.class), denylist);
+        ReflectionTestUtils.setField(tokenRevocationService, "accessTokenExpirationMs", EXPIRATION_MS);
+        refreshTokenService = mock(RefreshTokenService.class);
+
+        adminService = new AdminServiceImpl(userRepository, mock(UserInfoMapper.class),
+                mock(DashboardServiceImpl.class), mock(IAgentRepository.class), mock(PasswordEncoder.class),
+                mock(SecondLevelCache.class), tokenRevocationService, refreshTokenService);
+
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtKid", KID);
+        ReflectionTestUtils.setField(tokenProvider, "jwtPreviousKeys", "");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", EXPIRATION_MS);
+        ReflectionTestUtils.invokeMethod(tokenProvider, "init");
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+        ReflectionTestUtils.setField(verifiedTokenCache, "maxEntries", 100);
+        ReflectionTestUtils.setField(verifiedTokenCache, "ttlMs", 300_000L);
+
+        filter = new JwtAuthenticationFilter(tokenProvider, mock(UserDetailsService.class), verifiedTokenCache,
+                mock(InactiveUserRegistry.class), denylist);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tokenIssuedBeforeRoleChangeIsRejected() throws Exception {
+        String token = adminTokenIssuedSecondsAgo(60);
+        assertThat(authenticate(token)).isTrue();
+
+        adminService.changeUserRole(changeRole(Role.CUSTOMER));
+
+        assertThat(authenticate(token)).isFalse();
+        verify(refreshTokenService).revokeAllTokensByUser(user);
+    }
+
+    @Test
+    void unchangedRoleKeepsTokens() throws Exception {
+        String token = adminTokenIssuedSecondsAgo(60);
+
+        adminService.changeUserRole(changeRole(Role.ADMIN));
+
+        assertThat(authenticate(token)).isTrue();
+        verify(refreshTokenService, never()).revokeAllTokensByUser(user);
+    }
+
+    private boolean authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/admin/users");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication() != null;
+    }
+
+    // Revocation has second precision, so the token must predate the role change by at least a second
+    private String adminTokenIssuedSecondsAgo(int seconds) {
+        JwtSigningKeys keys = new JwtSigningKeys(KID, SECRET, "");
+        long issuedAt = System.currentTimeMillis() - seconds * 1000L;
+        return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
+                .setSubject(user.getUsername())
+                .setIssuedAt(new Date(issuedAt))
+                .setExpiration(new Date(issuedAt + EXPIRATION_MS))
+                .claim(JwtUserPrincipal.CLAIM_USER_ID, user.getId().toString())
+                .claim(JwtUserPrincipal.CLAIM_ROLE, Role.ADMIN.name())
+                .setHeaderParam(JwsHeader.KEY_ID, keys.getActiveKid())
+                .signWith(keys.getActiveKey(), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    private ChangeRoleRequest changeRole(Role role) {
+        ChangeRoleRequest request = new ChangeRoleRequest();
+        request.setUserId(user.getId());
+        request.setRole(role);
+        return request;
+    }
+}
@@ -0,0 +1,71 @@
+package com.ada.insurance_app.service.user.summary;
+
+import com.ada.insurance_app.dto.CustomerDashboardDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Evictions that race with a load only keep the evicted customer's dashboard out of the cache.
+ */
+class CustomerSummaryCacheTest {
+
+    private final UUID loaded = UUID.randomUUID();
+    private final UUID other = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CustomerSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CustomerSummaryCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 100);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+    }
+
+    @Test
+    void evictingAnotherCustomerDuringLoadStillCaches() {
+        cache.get(loaded, loader(() -> cache.invalidate(other)));
+        cache.get(loaded, loader(() -> { }));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictingTheCustomerDuringLoadDoesNotCache() {
+        cache.get(loaded, loader(() -> cache.invalidate(loaded)));
+        cache.get(loaded, loader(() -> { }));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void failedLoadLeavesNoPlaceholder() {
+        try {
+            cache.get(loaded, id -> {
+                throw new IllegalStateException("database down");
+            });
+        } catch (IllegalStateException expected) {
+            // the caller sees the failure
+        }
+
+        assertThat(cache.size()).isZero();
+    }
+
+    // Loader that runs the given action while "reading the database"
+    private Function<UUID, CustomerDashboardDto> loader(Runnable duringLoad) {
+        return id -> {
+            loads.incrementAndGet();
+            duringLoad.run();
+            CustomerDashboardDto dashboard = new CustomerDashboardDto();
+            dashboard.setTotalPolicies(1);
+            return dashboard;
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.ada.insurance_app.service.vehicle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plates and VINs match however they were typed, and keys agree with the plate_key backfill in
+ * FullTextSearchSchema.
+ */
+class VehicleKeysTest {
+
+    @Test
+    void dropsSpacingAndSeparatorsAndFoldsCase() {
+        assertThat(VehicleKeys.normalize(" 34 abc-123 ")).isEqualTo("34ABC123");
+        assertThat(VehicleKeys.normalize("34.ABC.123")).isEqualTo(VehicleKeys.normalize("34abc123"));
+    }
+
+    @Test
+    void dropsNonAsciiLettersLikeRegexpReplace() {
+        // upper() under the C collation leaves these alone, so '[^A-Z0-9]' removes them
+        assertThat(VehicleKeys.normalize("06 çğ 42")).isEqualTo("0642");
+    }
+
+    @Test
+    void nullBecomesEmptyKey() {
+        assertThat(VehicleKeys.normalize(null)).isEmpty();
+    }
+}
@@ -0,0 +1,138 @@
+package com.ada.insurance_app.service.vehicle;
+
+import com.ada.insurance_app.repository.IVehicleRepository;
+import com.ada.insurance_app.service.search.SearchText;
+import com.ada.insurance_app.support.PostgresBenchmarkSupport;
+import com.ada.insurance_app.support.PostgresBenchmarkSupport.NamedQuery;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vehicle search over a synthetic 5M-row vehicles table: the old ContainingIgnoreCase query on make
+ * against IVehicleRepository.searchFuzzy, served by the plate_key B-tree and the GiST trigram indexes.
+ * Needs a PostgreSQL database with pg_trgm (see PostgresBenchmarkSupport). The table lives in the
+ * search_benchmark schema and is kept between runs; seeding it takes several minutes.
+ * The target is the app.vehicles.search.latencyTargetMs default of 50 ms for the fuzzy search.
+ * Run with: mvn -Pbenchmark -DskipTests test -Dbenchmark=VehicleSearchBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class VehicleSearchBenchmark {
+
+    private static final String[] MAKES = {"Toyota", "Renault", "Fiat", "Volkswagen", "Ford", "Hyundai",
+            "Honda", "Peugeot", "Opel", "Dacia", "Skoda", "Mercedes-Benz", "BMW", "Audi", "Nissan", "Citroen"};
+    private static final String[] MODELS = {"Corolla", "Clio", "Egea", "Passat", "Focus", "i20", "Civic", "3008",
+            "Astra", "Duster", "Octavia", "C180", "320i", "A3", "Qashqai", "C3"};
+
+    private static final String CONTAINING = "SELECT v.id FROM search_benchmark.vehicles v WHERE v.make ILIKE ?";
+
+    private static final int LIMIT = 10;
+
+    @Param({"5000000"})
+    private int rows;
+
+    // A make, a misspelled make, a spaced plate and a VIN fragment
+    @Param({"Toyota", "Volkswagn", "34 ab 1234", "VF1000004"})
+    private String query;
+
+    private Connection connection;
+    private PreparedStatement containing;
+    private NamedQuery fuzzy;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = PostgresBenchmarkSupport.connect();
+        seed();
+
+        containing = connection.prepareStatement(CONTAINING);
+        fuzzy = PostgresBenchmarkSupport.prepare(connection, IVehicleRepository.SEARCH_FUZZY_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int containingIgnoreCase() throws SQLException {
+        containing.setString(1, SearchText.containsPattern(query));
+        return PostgresBenchmarkSupport.countWithoutIndexes(connection, containing);
+    }
+
+    // Bound as VehicleServiceImpl.searchVehicles binds it
+    @Benchmark
+    public int fuzzyFirstPage() throws SQLException {
+        String key = VehicleKeys.normalize(query);
+        return fuzzy.set("query", query)
+                .set("key", key)
+                .set("keyPrefix", key + "%")
+                .set("keyContains", "%" + key + "%")
+                .set("limit", LIMIT)
+                .count();
+    }
+
+    private void seed() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            // Tables from when plate_key and vin_key were generated columns are rebuilt
+            try (ResultSet generated = statement.executeQuery("SELECT 1 FROM information_schema.columns "
+                    + "WHERE table_schema = 'search_benchmark' AND table_name = 'vehicles' "
+                    + "AND column_name = 'plate_key' AND is_generated = 'ALWAYS'")) {
+                if (generated.next()) {
+                    statement.execute("DROP TABLE search_benchmark.vehicles");
+                }
+            }
+            statement.execute("CREATE TABLE IF NOT EXISTS search_benchmark.vehicles ("
+                    + "id bigint PRIMARY KEY, plate_number varchar(255) NOT NULL, vin varchar(255) NOT NULL, "
+                    + "make varchar(255) NOT NULL, model varchar(255) NOT NULL, year integer NOT NULL, "
+                    + "customer_id uuid, plate_key varchar(255) COLLATE \"C\" UNIQUE, vin_key varchar(255))");
+
+            if (PostgresBenchmarkSupport.rowCount(connection, "vehicles") == rows) {
+                return;
+            }
+
+            statement.execute("TRUNCATE search_benchmark.vehicles");
+            String makes = "ARRAY['" + String.join("','", MAKES) + "']";
+            String models = "ARRAY['" + String.join("','", MODELS) + "']";
+            // Deterministic plates in the Turkish "34 AB 1234" layout, typed with mixed spacing, with the keys
+            // Vehicle derives from them computed like the FullTextSearchSchema backfill
+            statement.execute("INSERT INTO search_benchmark.vehicles "
+                    + "(id, plate_number, vin, make, model, year, plate_key, vin_key) "
+                    + "SELECT id, plate_number, vin, make, model, year, "
+                    + "regexp_replace(upper(plate_number COLLATE \"C\"), '[^A-Z0-9]', '', 'g'), "
+                    + "regexp_replace(upper(vin COLLATE \"C\"), '[^A-Z0-9]', '', 'g') FROM ("
+                    + "SELECT i AS id, format(CASE WHEN i % 3 = 0 THEN '%s%s%s' ELSE '%s %s %s' END, "
+                    + "lpad((1 + i % 81)::text, 2, '0'), "
+                    + "chr(65 + (i / 81) % 26) || chr(65 + (i / 2106) % 26), lpad(((i / 54756) % 10000)::text, 4, '0')) "
+                    + "AS plate_number, 'VF1' || lpad(i::text, 14, '0') AS vin, mk[1 + i % 16] AS make, "
+                    + "md[1 + (i / 16) % 16] AS model, 2000 + i % 25 AS year "
+                    + "FROM generate_series(1, " + rows + ") AS i, "
+                    + "(SELECT " + makes + " AS mk, " + models + " AS md) AS names) AS v");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_vehicles_plate_key_trgm "
+                    + "ON search_benchmark.vehicles USING gist (plate_key gist_trgm_ops)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_vehicles_vin_key_trgm "
+                    + "ON search_benchmark.vehicles USING gist (vin_key gist_trgm_ops)");
+            statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_vehicles_make_model_trgm "
+                    + "ON search_benchmark.vehicles USING gist ((make || ' ' || model) gist_trgm_ops)");
+            statement.execute("VACUUM ANALYZE search_benchmark.vehicles");
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VehicleSearchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
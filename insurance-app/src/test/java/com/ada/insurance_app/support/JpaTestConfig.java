@@ -0,0 +1,20 @@
+package com.ada.insurance_app.support;
+
+import com.ada.insurance_app.entity.Policy;
+import com.ada.insurance_app.mapper.PolicyMapper;
+import com.ada.insurance_app.repository.IPolicyRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Entities, repositories and mappers for slice tests; the application class lives in the starter
+ * package, out of reach of the test slices' configuration search.
+ */
+@SpringBootConfiguration
+@EntityScan(basePackageClasses = Policy.class)
+@EnableJpaRepositories(basePackageClasses = IPolicyRepository.class)
+@ComponentScan(basePackageClasses = PolicyMapper.class)
+public class JpaTestConfig {
+}
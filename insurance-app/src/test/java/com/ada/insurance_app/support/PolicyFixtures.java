@@ -0,0 +1,136 @@
+package com.ada.insurance_app.support;
+
+import com.ada.insurance_app.core.enums.*;
+import com.ada.insurance_app.entity.*;
+import jakarta.persistence.EntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persists customers, agents and converted vehicle policies for JPA tests.
+ */
+public class PolicyFixtures {
+
+    private final EntityManager entityManager;
+    private int sequence;
+
+    public PolicyFixtures(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // Pages mix customers and agents, two policies each
+    public void seedOwners(int policies) {
+        for (int i = 0; i < policies / 2; i++) {
+            seed(2);
+        }
+    }
+
+    public record Seeded(Customer customer, Agent agent) {
+    }
+
+    /**
+     * One new customer and agent with the given number of vehicle policies, each converted from an
+     * offer, with two coverages and a payment.
+     */
+    public Seeded seed(int policies) {
+        return seed(policies, agent());
+    }
+
+    public Seeded seed(int policies, Agent agent) {
+        Customer customer = new Customer();
+        customer.setUser(user(Role.CUSTOMER));
+        customer.setCustomerType(CustomerType.INDIVIDUAL);
+        customer.setCustomerNumber("CUS-" + next());
+        customer.setCity("Istanbul");
+        entityManager.persist(customer);
+
+        List<Coverage> coverages = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Coverage coverage = new Coverage();
+            coverage.setCode("COV-" + next());
+            coverage.setName("Coverage");
+            coverage.setDescription("Coverage");
+            coverage.setBasePrice(BigDecimal.TEN);
+            coverage.setInsuranceType(InsuranceType.VEHICLE);
+            entityManager.persist(coverage);
+            coverages.add(coverage);
+        }
+
+        for (int i = 0; i < policies; i++) {
+            Offer offer = new Offer();
+            offer.setOfferNumber("OFF-" + next());
+            offer.setTotalPremium(BigDecimal.TEN);
+            offer.setStatus(OfferStatus.APPROVED);
+            offer.setInsuranceType(InsuranceType.VEHICLE);
+            offer.setCustomer(customer);
+            offer.setAgent(agent);
+            offer.getCoverages().addAll(coverages);
+            entityManager.persist(offer);
+
+            Vehicle vehicle = new Vehicle();
+            vehicle.setMake("Make");
+            vehicle.setModel("Model");
+            vehicle.setYear(2020);
+            vehicle.setPlateNumber("34 AB " + next());
+            vehicle.setVin("VIN-" + next());
+            vehicle.setEngineNumber("ENG-" + next());
+            vehicle.setCustomer(customer);
+            vehicle.setOffer(offer);
+            entityManager.persist(vehicle);
+
+            Policy policy = new Policy();
+            policy.setPolicyNumber("POL-" + next());
+            policy.setCustomer(customer);
+            policy.setAgent(agent);
+            policy.setStatus(PolicyStatus.ACTIVE);
+            policy.setStartDate(LocalDate.now());
+            policy.setEndDate(LocalDate.now().plusYears(1));
+            policy.setPremium(BigDecimal.TEN);
+            policy.setInsuranceType(InsuranceType.VEHICLE);
+            policy.setVehicle(vehicle);
+            policy.setOffer(offer);
+            policy.getCoverages().addAll(coverages);
+            entityManager.persist(policy);
+            offer.setPolicy(policy);
+
+            Payment payment = new Payment();
+            payment.setPolicy(policy);
+            payment.setCustomer(customer);
+            payment.setAmount(BigDecimal.TEN);
+            payment.setStatus(PaymentStatus.SUCCESS);
+            payment.setPaymentDate(LocalDateTime.now());
+            entityManager.persist(payment);
+        }
+        return new Seeded(customer, agent);
+    }
+
+    public Agent agent() {
+        Agent agent = new Agent();
+        agent.setUser(user(Role.AGENT));
+        agent.setAgentNumber("AGT-" + next());
+        entityManager.persist(agent);
+        return agent;
+    }
+
+    private User user(Role role) {
+        User user = new User();
+        String name = role.name().toLowerCase() + next();
+        user.setUsername(name);
+        user.setEmail(name + "@example.com");
+        user.setPassword("secret");
+        user.setFirstName("First");
+        user.setLastName("Last");
+        user.setRole(role);
+        entityManager.persist(user);
+        return user;
+    }
+
+    private String next() {
+        return UUID.randomUUID().toString().substring(0, 8) + ++sequence;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ada.insurance_app.support;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared plumbing of the PostgreSQL benchmarks: the connection from DATA_SOURCE_URL, DATA_SOURCE_USERNAME
+ * and DATA_SOURCE_PASSWORD, the repositories' own native SQL pointed at the search_benchmark schema, and
+ * the planner switches that recreate the plans from before the search indexes existed.
+ */
+public final class PostgresBenchmarkSupport {
+
+    public static final String SCHEMA = "search_benchmark";
+
+    private PostgresBenchmarkSupport() {
+    }
+
+    public static Connection connect() throws SQLException {
+        Connection connection = DriverManager.getConnection(System.getenv("DATA_SOURCE_URL"),
+                System.getenv("DATA_SOURCE_USERNAME"), System.getenv("DATA_SOURCE_PASSWORD"));
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            statement.execute("CREATE SCHEMA IF NOT EXISTS " + SCHEMA);
+        }
+        return connection;
+    }
+
+    /**
+     * Prepares a repository's native query as it runs in the application, with {h-schema} resolved to
+     * the benchmark schema and each named parameter bound through {@link NamedQuery#set}.
+     */
+    public static NamedQuery prepare(Connection connection, String repositorySql) throws SQLException {
+        String sql = repositorySql.replace("{h-schema}", SCHEMA + ".");
+        List<String> names = new ArrayList<>();
+        StringBuilder jdbcSql = new StringBuilder(sql.length());
+        boolean quoted = false;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            }
+            if (quoted || c != ':' || i + 1 >= sql.length() || !Character.isJavaIdentifierStart(sql.charAt(i + 1))) {
+                jdbcSql.append(c);
+                continue;
+            }
+            int end = i + 1;
+            while (end < sql.length() && Character.isJavaIdentifierPart(sql.charAt(end))) {
+                end++;
+            }
+            names.add(sql.substring(i + 1, end));
+            jdbcSql.append('?');
+            i = end - 1;
+        }
+        return new NamedQuery(connection.prepareStatement(jdbcSql.toString()), names);
+    }
+
+    public static int count(PreparedStatement statement) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the rows of a query with bitmap and index scans disabled, as it ran before the trigram
+     * indexes existed.
+     */
+    public static int countWithoutIndexes(Connection connection, PreparedStatement query) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_bitmapscan = off");
+            statement.execute("SET enable_indexscan = off");
+        }
+        try {
+            return count(query);
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("RESET enable_bitmapscan");
+                statement.execute("RESET enable_indexscan");
+            }
+        }
+    }
+
+    public static long rowCount(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet count = statement.executeQuery("SELECT count(*) FROM " + SCHEMA + "." + table)) {
+            count.next();
+            return count.getLong(1);
+        }
+    }
+
+    /**
+     * A prepared repository query whose parameters are set by name, every occurrence at once.
+     */
+    public static final class NamedQuery {
+
+        private final PreparedStatement statement;
+        private final List<String> names;
+
+        private NamedQuery(PreparedStatement statement, List<String> names) {
+            this.statement = statement;
+            this.names = names;
+        }
+
+        public NamedQuery set(String name, Object value) throws SQLException {
+            boolean found = false;
+            for (int i = 0; i < names.size(); i++) {
+                if (names.get(i).equals(name)) {
+                    statement.setObject(i + 1, value);
+                    found = true;
+                }
+            }
+            if (!found) {
+                throw new IllegalArgumentException("No parameter :" + name);
+            }
+            return this;
+        }
+
+        public int count() throws SQLException {
+            return PostgresBenchmarkSupport.count(statement);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.ada.insurance_app.support;
+
+import com.ada.insurance_app.core.persistence.query.QueryCountingFilter;
+import com.ada.insurance_app.core.persistence.query.QueryStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Expectations on JDBC work counted by the CountingDataSource: MockMvc matchers for requests through
+ * {@link QueryCountingFilter} and the QueryBudgetInterceptor, and statement counts compared across data sizes.
+ */
+public final class QueryBudgetMatchers {
+
+    @FunctionalInterface
+    public interface StatementCount {
+        long count() throws Exception;
+    }
+
+    private QueryBudgetMatchers() {
+    }
+
+    /**
+     * The endpoint declares a @QueryBudget and the request stayed within it.
+     */
+    public static ResultMatcher withinDeclaredBudget() {
+        return result -> {
+            QueryStats stats = stats(result);
+            assertNotNull(stats.getBudget(), "endpoint declares no @QueryBudget");
+            assertFalse(stats.isOverBudget(), "query budget exceeded: " + stats);
+        };
+    }
+
+    /**
+     * The same read over a small and a large data set issued the same number of statements.
+     * @return the statement count
+     */
+    public static long assertConstantStatements(int smallRows, StatementCount small, int largeRows,
+                                                StatementCount large) throws Exception {
+        long smallCount = small.count();
+        long largeCount = large.count();
+        assertEquals(smallCount, largeCount,
+                "statements for " + smallRows + " rows: " + smallCount + ", for " + largeRows + " rows: " + largeCount);
+        return largeCount;
+    }
+
+    public static QueryStats stats(MvcResult result) {
+        QueryStats stats = (QueryStats) result.getRequest().getAttribute(QueryCountingFilter.STATS_ATTRIBUTE);
+        assertNotNull(stats, "request was not counted, is QueryCountingFilter registered?");
+        return stats;
+    }
+}